@@ -0,0 +1,116 @@
+/*
+ * AliasTable.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with picking one of many weighted choices in
+ * constant time
+ */
+
+public class AliasTable {
+
+   /*
+    * AliasTable
+    *
+    * Vose's alias method.  The weights are spread over n columns of equal
+    * height; column i keeps theProbability[i] of its height for choice i
+    * and gives the rest to theAlias[i].  A sample picks a column and then
+    * one of its two choices, so it costs the same for ten choices or a
+    * million.  Building the table takes time linear in the choices.
+    *
+    * Each column is packed into one long, the float bits of its
+    * probability above its alias, so a sample from a table too large for
+    * the cache misses it once rather than twice.
+    */
+
+   //***
+   // instance variables
+   //***
+
+   private final long[] theColumns;
+
+   /*
+    * AliasTable
+    *
+    * This constructor builds the table for the non-negative aWeights,
+    * which need not sum to 1
+    */
+
+   AliasTable(double[] aWeights)
+   {
+      int n = aWeights.length;
+      double sum = 0;
+      for (double weight : aWeights)
+         sum += weight;
+      if (n == 0 || !(sum > 0))
+         throw new IllegalArgumentException("alias table needs a positive total weight");
+
+      double[] probability = new double[n];
+      int[] alias = new int[n];
+
+      // columns below and above the average height, worked off as stacks
+      double[] scaled = new double[n];
+      int[] small = new int[n];
+      int[] large = new int[n];
+      int smallCount = 0, largeCount = 0;
+      for (int i = 0; i < n; i++)
+      {
+         scaled[i] = aWeights[i] * n / sum;
+         if (scaled[i] < 1)
+            small[smallCount++] = i;
+         else
+            large[largeCount++] = i;
+      }
+
+      // top up each short column from a tall one
+      while (smallCount > 0 && largeCount > 0)
+      {
+         int less = small[--smallCount];
+         int more = large[--largeCount];
+         probability[less] = scaled[less];
+         alias[less] = more;
+         scaled[more] = (scaled[more] + scaled[less]) - 1;
+         if (scaled[more] < 1)
+            small[smallCount++] = more;
+         else
+            large[largeCount++] = more;
+      }
+
+      // whatever is left is full up to rounding error
+      while (largeCount > 0)
+         probability[large[--largeCount]] = 1;
+      while (smallCount > 0)
+         probability[small[--smallCount]] = 1;
+
+      theColumns = new long[n];
+      for (int i = 0; i < n; i++)
+         theColumns[i] = ((long)Float.floatToRawIntBits((float)probability[i]) << 32) | (alias[i] & 0xFFFFFFFFL);
+   }
+
+   /*
+    * sample
+    *
+    * This method maps aUniform in [0, 1) to a choice, each choice coming
+    * up in proportion to its weight
+    */
+
+   public int sample(double aUniform)
+   {
+      double column = aUniform * theColumns.length;
+      int i = (int)column;
+      long packed = theColumns[i];
+      return (column - i) < Float.intBitsToFloat((int)(packed >>> 32)) ? i : (int)packed;
+   }
+
+   /*
+    * size
+    *
+    * This method returns the number of choices
+    */
+
+   public int size()
+   {
+      return theColumns.length;
+   }
+}
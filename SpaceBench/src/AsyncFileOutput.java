@@ -0,0 +1,272 @@
+/*
+ * AsyncFileOutput.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with overlapping geometry generation with the disk
+ * writes of its data file
+ */
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.*;
+
+public class AsyncFileOutput implements WritableByteChannel {
+
+   /*
+    * AsyncFileOutput
+    *
+    * The generator thread copies its encoded bytes into one of a fixed set
+    * of direct buffers.  A full buffer is queued for a dedicated writer
+    * thread, which writes it to the FileChannel and returns it to the free
+    * list, while the generator goes on filling the next one.  When every
+    * buffer is waiting on the disk the generator blocks until one comes
+    * back, so a slow disk throttles generation instead of growing memory.
+    *
+    * A write error on the writer thread is reported by the next write or
+    * by close.  Each open file holds buffer size * buffer count bytes of
+    * direct memory.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final boolean TRACE = false;
+
+   // queued after the last full buffer to stop the writer thread
+   private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+   //***
+   // instance variables
+   //***
+
+   private final String theFilename;
+   private final FileChannel theChannel;
+   private final BlockingQueue<ByteBuffer> theFreeBuffers;
+   private final BlockingQueue<ByteBuffer> theFullBuffers;
+   private final Thread theWriter;
+
+   // buffer being filled by the generator thread
+   private ByteBuffer theCurrent;
+   private boolean theClosedFlag;
+
+   // first error of the writer thread
+   private volatile IOException theFailure;
+
+   // time the generator thread spent waiting for a free buffer
+   private long theStallNanos;
+
+   AsyncFileOutput(String aFilename, FileChannel aChannel, int aBufferSize, int aBufferCount)
+   {
+      theFilename = aFilename;
+      theChannel = aChannel;
+      theFreeBuffers = new ArrayBlockingQueue<ByteBuffer>(aBufferCount);
+      theFullBuffers = new ArrayBlockingQueue<ByteBuffer>(aBufferCount + 1);
+      theCurrent = ByteBuffer.allocateDirect(aBufferSize);
+      for (int i = 1; i < aBufferCount; i++)
+         theFreeBuffers.add(ByteBuffer.allocateDirect(aBufferSize));
+
+      theWriter = new Thread(new Runnable() {
+         public void run()
+         {
+            writeLoop();
+         }
+      }, "writer-" + new File(aFilename).getName());
+      theWriter.setDaemon(true);
+      theWriter.start();
+   }
+
+   /*
+    * open
+    *
+    * This method creates the named data file and returns an asynchronous
+    * channel for it using the model's buffer options
+    */
+
+   public static AsyncFileOutput open(DataGenModel aModel, String aFilename) throws IOException
+   {
+      return new AsyncFileOutput(aFilename, new FileOutputStream(aFilename).getChannel(),
+                                 aModel.theOutputBufferSize, aModel.theOutputBufferCount);
+   }
+
+   //***
+   // generator thread
+   //***
+
+   /*
+    * write
+    *
+    * This method copies aSource into the output buffers, handing each one
+    * that fills to the writer thread
+    */
+
+   public int write(ByteBuffer aSource) throws IOException
+   {
+      if (theClosedFlag)
+         throw new IOException(theFilename + " is closed");
+      int length = aSource.remaining();
+      while (aSource.hasRemaining())
+      {
+         if (!theCurrent.hasRemaining())
+            handOff();
+         if (aSource.remaining() <= theCurrent.remaining())
+            theCurrent.put(aSource);
+         else
+         {
+            // copy the part that fits
+            int limit = aSource.limit();
+            aSource.limit(aSource.position() + theCurrent.remaining());
+            theCurrent.put(aSource);
+            aSource.limit(limit);
+         }
+      }
+      return length;
+   }
+
+   public boolean isOpen()
+   {
+      return !theClosedFlag;
+   }
+
+   /*
+    * close
+    *
+    * This method hands off the last buffer, waits for the writer thread to
+    * finish the file and reports any write error.  The writer thread is
+    * always told to end and waited for, even when the last buffer cannot
+    * be handed off because an earlier write failed, so the file is closed
+    * either way.  An interrupted thread abandons the unwritten buffers but
+    * still waits for the file to close.
+    */
+
+   public void close() throws IOException
+   {
+      if (theClosedFlag)
+         return;
+      theClosedFlag = true;
+      try
+      {
+         try
+         {
+            if (theCurrent.position() > 0)
+               handOff();
+         }
+         finally
+         {
+            theFullBuffers.put(END);
+            theWriter.join();
+         }
+      }
+      catch (InterruptedException e)
+      {
+         abandon();
+         throw new InterruptedIOException("writing " + theFilename + " was interrupted");
+      }
+      catch (InterruptedIOException e)
+      {
+         abandon();
+         throw e;
+      }
+
+      if (TRACE)
+         System.out.println("AsyncFileOutput: " + theFilename + " stalled " + theStallNanos / 1000000 + " ms");
+      if (theFailure != null)
+         throw theFailure;
+   }
+
+   // Queues the filled buffer and takes a free one, waiting if the disk is behind
+   private void handOff() throws IOException
+   {
+      if (theFailure != null)
+         throw theFailure;
+      try
+      {
+         theCurrent.flip();
+         theFullBuffers.put(theCurrent);
+         theCurrent = theFreeBuffers.poll();
+         if (theCurrent == null)
+         {
+            long start = System.nanoTime();
+            theCurrent = theFreeBuffers.take();
+            theStallNanos += System.nanoTime() - start;
+         }
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         throw new InterruptedIOException("writing " + theFilename + " was interrupted");
+      }
+   }
+
+   // Stops the writer thread without writing the rest and waits for it to close the file
+   private void abandon()
+   {
+      theWriter.interrupt();
+      while (theWriter.isAlive())
+      {
+         try
+         {
+            theWriter.join();
+         }
+         catch (InterruptedException e)
+         {
+            // keep waiting, the interrupt is restored below
+         }
+      }
+      Thread.currentThread().interrupt();
+   }
+
+   //***
+   // writer thread
+   //***
+
+   // Writes full buffers in order until END, then closes the file
+   private void writeLoop()
+   {
+      try
+      {
+         while (true)
+         {
+            ByteBuffer buffer = theFullBuffers.take();
+            if (buffer == END)
+               break;
+
+            // after a failure keep recycling so the generator never blocks for good
+            if (theFailure == null)
+            {
+               try
+               {
+                  while (buffer.hasRemaining())
+                     theChannel.write(buffer);
+               }
+               catch (IOException e)
+               {
+                  theFailure = e;
+               }
+            }
+            buffer.clear();
+            theFreeBuffers.put(buffer);
+         }
+      }
+      catch (InterruptedException e)
+      {
+         // abandoned by the generator thread
+      }
+      finally
+      {
+         try
+         {
+            theChannel.close();
+         }
+         catch (IOException e)
+         {
+            if (theFailure == null)
+               theFailure = e;
+         }
+      }
+   }
+}
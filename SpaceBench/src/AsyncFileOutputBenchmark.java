@@ -0,0 +1,78 @@
+/*
+ * AsyncFileOutputBenchmark.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file compares writing a data file through AsyncFileOutput against
+ * writing it on the generator thread
+ *
+ * Usage: java AsyncFileOutputBenchmark [points] [buffer size] [buffer count]
+ */
+
+import java.io.*;
+import java.nio.channels.WritableByteChannel;
+
+public class AsyncFileOutputBenchmark {
+
+   //***
+   // class variables
+   //***
+
+   private static final int DEFAULT_POINTS = 10000000;
+   private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+   private static final int DEFAULT_BUFFER_COUNT = 4;
+
+   //***
+   // main entry point
+   //***
+
+   public static void main(String[] args) throws IOException
+   {
+      int points = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_POINTS;
+      int bufferSize = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_BUFFER_SIZE;
+      int bufferCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_BUFFER_COUNT;
+
+      File file = File.createTempFile("asyncbench", ".txt");
+      try
+      {
+         for (int pass = 0; pass < 2; pass++)
+         {
+            // the first pass only warms up the JIT
+            boolean report = (pass == 1);
+            run("FileChannel", report, points, file, 0, 0);
+            run("AsyncFileOutput", report, points, file, bufferSize, bufferCount);
+         }
+      }
+      finally
+      {
+         file.delete();
+      }
+   }
+
+   // Writes aCount points to aFile and reports MB/s; a buffer count of 0 writes synchronously
+   private static void run(String aName, boolean aReport, int aCount, File aFile, int aBufferSize, int aBufferCount)
+      throws IOException
+   {
+      RandomSource random = RandomEngine.SPLITMIX64.create(1);
+      long start = System.nanoTime();
+
+      FileOutputStream stream = new FileOutputStream(aFile);
+      WritableByteChannel channel = (aBufferCount == 0)
+         ? stream.getChannel()
+         : new AsyncFileOutput(aFile.getPath(), stream.getChannel(), aBufferSize, aBufferCount);
+      WktWriter out = new WktWriter(channel, WktWriter.SHORTEST);
+      for (int i = 0; i < aCount; i++)
+      {
+         out.beginPoint();
+         out.coordinate(random.nextDouble() * 1000 + 1, random.nextDouble() * 1000 + 1);
+         out.endGeometry();
+      }
+      out.close();
+      stream.close();
+
+      double seconds = (System.nanoTime() - start) / 1e9;
+      if (aReport)
+         System.out.printf("  %-16s %8.1f MB/s%n", aName, aFile.length() / seconds / 1e6);
+   }
+}
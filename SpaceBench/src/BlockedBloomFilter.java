@@ -0,0 +1,148 @@
+/*
+ * BlockedBloomFilter.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with quickly ruling out points that were never
+ * generated, without keeping them on the heap
+ */
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+public class BlockedBloomFilter implements Closeable {
+
+   /*
+    * BlockedBloomFilter
+    *
+    * A Bloom filter whose bits live in a memory-mapped file rather than on
+    * the heap.  Each key sets HASH_COUNT bits inside a single 512-bit block,
+    * so a lookup touches one cache line and at most one page of the file.
+    * The file is mapped in chunks because one mapping is limited to 2 GB.
+    *
+    * With BITS_PER_KEY bits per expected key the filter wrongly reports
+    * about 0.1% of new keys as present; callers confirm those elsewhere.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final int BITS_PER_KEY = 16;
+   private static final int HASH_COUNT = 8;
+
+   private static final int BLOCK_BYTES = 64;
+   private static final int BLOCK_BITS = BLOCK_BYTES * 8;
+
+   // bytes per mapping, a whole number of blocks
+   private static final int CHUNK_BYTES = 1 << 30;
+   private static final int BLOCKS_PER_CHUNK = CHUNK_BYTES / BLOCK_BYTES;
+
+   //***
+   // instance variables
+   //***
+
+   private final File theFile;
+   private final RandomAccessFile theRandomAccessFile;
+   private final MappedByteBuffer[] theChunks;
+   private final long theBlockCount;
+
+   /*
+    * BlockedBloomFilter
+    *
+    * This constructor creates aFile, sized for anExpectedSize keys, and
+    * maps it.  Any old contents are cut off first and a new file reads as
+    * zeros, so the filter starts empty even where a stale one was left.
+    */
+
+   BlockedBloomFilter(File aFile, long anExpectedSize) throws IOException
+   {
+      theFile = aFile;
+      theBlockCount = Math.max(1, (anExpectedSize * BITS_PER_KEY + BLOCK_BITS - 1) / BLOCK_BITS);
+      long bytes = theBlockCount * BLOCK_BYTES;
+
+      theRandomAccessFile = new RandomAccessFile(aFile, "rw");
+      try
+      {
+         theRandomAccessFile.setLength(0);
+         theRandomAccessFile.setLength(bytes);
+         FileChannel channel = theRandomAccessFile.getChannel();
+         theChunks = new MappedByteBuffer[(int)((bytes + CHUNK_BYTES - 1) / CHUNK_BYTES)];
+         for (int i = 0; i < theChunks.length; i++)
+         {
+            long position = (long)i * CHUNK_BYTES;
+            theChunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.min(CHUNK_BYTES, bytes - position));
+         }
+      }
+      catch (IOException e)
+      {
+         close();
+         throw e;
+      }
+   }
+
+   /*
+    * add
+    *
+    * This method adds the key with the 64-bit hash aHash, returning true
+    * if the key might already have been added and false if it certainly
+    * was not
+    */
+
+   public boolean add(long aHash)
+   {
+      // the whole hash picks the block, its high half and a remix the bits
+      long block = Long.remainderUnsigned(aHash, theBlockCount);
+      MappedByteBuffer chunk = theChunks[(int)(block / BLOCKS_PER_CHUNK)];
+      int base = (int)(block % BLOCKS_PER_CHUNK) * BLOCK_BYTES;
+
+      int h1 = (int)(aHash >>> 32);
+      int h2 = (int)RandomStreams.mix64(aHash) | 1;
+      boolean present = true;
+      for (int i = 0; i < HASH_COUNT; i++)
+      {
+         int bit = (h1 + i * h2) & (BLOCK_BITS - 1);
+         int index = base + (bit >>> 6) * 8;
+         long word = chunk.getLong(index);
+         long mask = 1L << bit;
+         if ((word & mask) == 0)
+         {
+            present = false;
+            chunk.putLong(index, word | mask);
+         }
+      }
+      return present;
+   }
+
+   /*
+    * sizeInBytes
+    *
+    * This method returns the size of the filter's file
+    */
+
+   public long sizeInBytes()
+   {
+      return theBlockCount * BLOCK_BYTES;
+   }
+
+   /*
+    * close
+    *
+    * This method closes and deletes the filter's file.  The mappings stay
+    * valid until they are collected, which is safe once the file is gone.
+    */
+
+   public void close() throws IOException
+   {
+      try
+      {
+         theRandomAccessFile.close();
+      }
+      finally
+      {
+         theFile.delete();
+      }
+   }
+}
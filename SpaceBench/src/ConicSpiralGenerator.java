@@ -8,6 +8,7 @@
  */
 import java.lang.Math;
 import java.io.*;
+import java.util.function.DoubleSupplier;
 import java.util.*;
 
 public class ConicSpiralGenerator {
@@ -22,8 +23,7 @@ public class ConicSpiralGenerator {
 	
 		// File output setup
 		String outFilename;
-	    FileWriter f = null;
-	    PrintWriter out = null;
+	    GeometryWriter out = null;
 	    
 	    
 	    // Checks if the checkbox for spirals is checked
@@ -31,13 +31,12 @@ public class ConicSpiralGenerator {
 	    	return;
 	    
 	    // Generates output file
-	    outFilename = aModel.theFilenamePrefix + "conicSpiral.txt";
-		f = new FileWriter(outFilename);
-		out = new PrintWriter(f);        
+	    outFilename = aModel.theFilenamePrefix + "conicSpiral" + aModel.theOutputFormat.extension();
+		out = GeometryWriter.open(aModel, outFilename);
 		System.out.println("  creating conicSprial datafile [" + outFilename + "]");
 
 		// User input
-		int numOfConicSpirals = aModel.theNumberOfConicSpirals;
+		long numOfConicSpirals = aModel.theNumberOfConicSpirals;
 		double radiusLength = aModel.theMaximumRadiusLength;
 		double segmentInc = aModel.theSegmentInc;
 		double baseRadius = aModel.theRadius;
@@ -45,10 +44,13 @@ public class ConicSpiralGenerator {
 		double angleGapUpper = aModel.theAngleGapUpper;
 		
 		
-		int count = 0;	// loop counter
+		long count = 0;	// loop counter
 		
 		
-		Random r = new Random();
+		RandomSource r = RandomStreams.stream(aModel, "conic spirals", 0);
+		Placement placement = new Placement(aModel);
+		DoubleSupplier uniform = r::nextDouble;
+		double[] center = new double[2];
 		// Variables needed for generating spirals
 		double x;
 		double y;
@@ -63,14 +65,17 @@ public class ConicSpiralGenerator {
 		
 		while (count < numOfConicSpirals)
         {
+			GeneratorScheduler.checkCancelled(out);
+
 			// Generates random center within scene bounds
-			centerX = r.nextDouble() * aModel.theSceneLength + 1;
-			centerY = r.nextDouble() * aModel.theSceneLength + 1;
+			placement.sample(uniform, center);
+			centerX = center[0] * aModel.theSceneLength + 1;
+			centerY = center[1] * aModel.theSceneLength + 1;
 			
 			verify = false;
 			verify = withinSceneLength (aModel, radiusLength, centerX, centerY);
 			if (verify) {
-				out.print("LINESTRING (");
+				out.beginLineString();
 				x = centerX;
 				y = centerY;
 
@@ -86,7 +91,7 @@ public class ConicSpiralGenerator {
 					x = x + baseRadius*Math.cos(theta);
 					y = y + baseRadius*Math.sin(theta);
 					
-					out.printf("%f %f, ", x, y);
+					out.coordinate(x, y);
 					
 					// projected vertex after the last one generated
 					nextX = x + baseRadius*Math.cos(Math.PI*theta);
@@ -96,7 +101,7 @@ public class ConicSpiralGenerator {
 					dist = Math.sqrt(Math.pow(centerX - nextX, 2) + Math.pow(centerY - nextY, 2));
 					
 				} while (radiusLength > dist);
-				out.println(")");
+				out.endGeometry();
 				count++;
 	        }
 		}
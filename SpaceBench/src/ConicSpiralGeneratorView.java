@@ -83,7 +83,7 @@ public class ConicSpiralGeneratorView implements PropertyChangeListener, ItemLis
 	   
 	   // Property values
 	   private boolean theGenerateFlag;
-	   private int theNumberOfConicSpirals;
+	   private long theNumberOfConicSpirals;
 	   private double theMaximumRadiusLength;
 	   private double theSegmentInc;
 	   private double theRadius;
@@ -130,7 +130,7 @@ public class ConicSpiralGeneratorView implements PropertyChangeListener, ItemLis
 	    * This method sets the current number of spirals produced
 	    */
 	   
-	   public void setNumberOfConicSpirals(int aCount)
+	   public void setNumberOfConicSpirals(long aCount)
 	   {
 		   theNumberOfConicSpirals = aCount;
 	      if (theNumberOfConicSpiralField != null)
@@ -227,7 +227,7 @@ public class ConicSpiralGeneratorView implements PropertyChangeListener, ItemLis
 		 * getNumberOfAlgorithms
 		 * This method returns the current number of spirals to be generated
 		 */
-	   public int getNumberOfConicSpirals()
+	   public long getNumberOfConicSpirals()
 	   {
 	      return theNumberOfConicSpirals;
 	   }
@@ -460,7 +460,7 @@ public class ConicSpiralGeneratorView implements PropertyChangeListener, ItemLis
 		      Object source = e.getSource();
 		      if (source == theNumberOfConicSpiralField)
 		      {
-		    	  theNumberOfConicSpirals = ((Number)theNumberOfConicSpiralField.getValue()).intValue();
+		    	  theNumberOfConicSpirals = ((Number)theNumberOfConicSpiralField.getValue()).longValue();
 		         if (TRACE)
 		            System.out.println("Conic Spiral: number of algorithms = " + theNumberOfConicSpirals);
 		      }
@@ -0,0 +1,156 @@
+/*
+ * CoordinateBuffer.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with holding the vertices of geometries while they
+ * are built or encoded
+ */
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public class CoordinateBuffer {
+
+   /*
+    * CoordinateBuffer
+    *
+    * A growable sequence of (x, y) vertices kept interleaved in one double
+    * array, x of vertex i at 2i and y at 2i + 1.  Generators that must see
+    * a whole geometry before writing it build it in one, and encoders that
+    * must see a whole geometry, or batch of them, before encoding collect
+    * them in one.  clear empties the buffer but keeps its array, so once
+    * the buffer has grown to the largest geometry a run allocates nothing
+    * more.  reset also cuts an array grown by one huge geometry back to its
+    * initial size, so that memory is not kept for the rest of the run.
+    */
+
+   //***
+   // instance variables
+   //***
+
+   private final int theInitialCapacity;
+   private double[] theCoordinates;
+   private int theSize;
+
+   /*
+    * CoordinateBuffer
+    *
+    * This constructor makes room for anInitialCapacity vertices
+    */
+
+   CoordinateBuffer(int anInitialCapacity)
+   {
+      theInitialCapacity = Math.max(1, anInitialCapacity);
+      theCoordinates = new double[2 * theInitialCapacity];
+      theSize = 0;
+   }
+
+   /*
+    * size
+    *
+    * This method returns the number of vertices in the buffer
+    */
+
+   public int size()
+   {
+      return theSize;
+   }
+
+   public double x(int anIndex)
+   {
+      return theCoordinates[2 * anIndex];
+   }
+
+   public double y(int anIndex)
+   {
+      return theCoordinates[2 * anIndex + 1];
+   }
+
+   /*
+    * add
+    *
+    * This method appends the vertex (x, y)
+    */
+
+   public void add(double x, double y)
+   {
+      if (2 * theSize + 2 > theCoordinates.length)
+         grow();
+      theCoordinates[2 * theSize] = x;
+      theCoordinates[2 * theSize + 1] = y;
+      theSize++;
+   }
+
+   /*
+    * insert
+    *
+    * This method puts the vertex (x, y) at anIndex, moving the vertices
+    * from anIndex on up by one
+    */
+
+   public void insert(int anIndex, double x, double y)
+   {
+      if (anIndex < 0 || anIndex > theSize)
+         throw new IndexOutOfBoundsException("vertex " + anIndex + " of " + theSize);
+      if (2 * theSize + 2 > theCoordinates.length)
+         grow();
+      System.arraycopy(theCoordinates, 2 * anIndex, theCoordinates, 2 * anIndex + 2, 2 * (theSize - anIndex));
+      theCoordinates[2 * anIndex] = x;
+      theCoordinates[2 * anIndex + 1] = y;
+      theSize++;
+   }
+
+   /*
+    * clear
+    *
+    * This method empties the buffer, keeping its array
+    */
+
+   public void clear()
+   {
+      theSize = 0;
+   }
+
+   /*
+    * reset
+    *
+    * This method empties the buffer, going back to its initial array when
+    * it has grown past aMaxCapacity vertices
+    */
+
+   public void reset(int aMaxCapacity)
+   {
+      theSize = 0;
+      if (theCoordinates.length > 2 * aMaxCapacity)
+         theCoordinates = new double[2 * theInitialCapacity];
+   }
+
+   /*
+    * writeTo
+    *
+    * This method passes the vertices from aFrom up to aTo to the given
+    * writer, in order
+    */
+
+   public void writeTo(GeometryWriter anOut, int aFrom, int aTo) throws IOException
+   {
+      double[] coordinates = theCoordinates;
+      for (int c = 2 * aFrom; c < 2 * aTo; c += 2)
+         anOut.coordinate(coordinates[c], coordinates[c + 1]);
+   }
+
+   public void writeTo(GeometryWriter anOut) throws IOException
+   {
+      writeTo(anOut, 0, theSize);
+   }
+
+   // Doubles the room for vertices
+   private void grow()
+   {
+      if (theCoordinates.length >= Integer.MAX_VALUE / 2)
+         throw new IllegalStateException("coordinate buffer is full at " + theSize + " vertices");
+      theCoordinates = Arrays.copyOf(theCoordinates, 2 * theCoordinates.length);
+   }
+}
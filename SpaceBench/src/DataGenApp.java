@@ -24,6 +24,13 @@ public class DataGenApp {
    
    public static void main (final String[] args) throws IOException {
    
+      // with arguments, run headless from the command line
+      if (args.length > 0)
+      {
+         DataGenCli.main(args);
+         return;
+      }
+
       DataGenerator dataGen = new DataGenerator();
       dataGen.run();
    }
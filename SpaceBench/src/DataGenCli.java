@@ -0,0 +1,153 @@
+/*
+ * DataGenCli.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file runs the data generators from the command line, without the
+ * Swing window, for headless servers and scripted runs
+ *
+ * Usage: java DataGenCli [options.csv] [Key=Value ...]
+ */
+
+import java.io.*;
+import java.util.*;
+
+public class DataGenCli {
+
+   /*
+    * DataGenCli
+    *
+    * The options come from an options file saved by the application, then
+    * Key=Value arguments override single options using the same keys, e.g.
+    * NumberOfPoints=1000000 or Seed=42.  No Swing or AWT windowing class
+    * is loaded; only the java.awt.geom value classes some generators use.
+    * Problems are written to standard error and reported through the exit
+    * status instead of a dialog.
+    */
+
+   //***
+   // class variables
+   //***
+
+   // exit status of each kind of failure
+   static final int EXIT_OK = 0;
+   static final int EXIT_USAGE = 2;
+   static final int EXIT_INVALID = 3;
+   static final int EXIT_FAILED = 4;
+
+   //***
+   // main entry point
+   //***
+
+   public static void main(String[] args)
+   {
+      // guard against anything reaching for a display
+      System.setProperty("java.awt.headless", "true");
+      System.exit(run(args));
+   }
+
+   /*
+    * run
+    *
+    * This method loads the options, validates them and runs the enabled
+    * generators, returning the exit status
+    */
+
+   static int run(String[] args)
+   {
+      DataGenModel model = new DataGenModel();
+      List<String> keys = model.optionKeys();
+
+      //***
+      // options file and overrides
+      //***
+
+      for (int i = 0; i < args.length; i++)
+      {
+         String arg = args[i];
+         int split = arg.indexOf('=');
+         if (arg.equals("-h") || arg.equals("--help"))
+         {
+            printUsage(System.out, keys);
+            return EXIT_OK;
+         }
+         else if (split < 0)
+         {
+            // only the first argument may name an options file
+            if (i > 0)
+               return usageError("unexpected argument " + arg, keys);
+            if (!new File(arg).isFile() || model.readData(arg) == false)
+            {
+               System.err.println("cannot read options file " + arg);
+               return EXIT_USAGE;
+            }
+         }
+         else
+         {
+            String key = findKey(keys, arg.substring(0, split));
+            if (key == null)
+               return usageError("unknown option " + arg.substring(0, split), keys);
+            try
+            {
+               model.processKeyValuePair(key, arg.substring(split + 1));
+            }
+            catch (IllegalArgumentException e)
+            {
+               System.err.println("bad value for " + key + ": " + arg.substring(split + 1));
+               return EXIT_USAGE;
+            }
+         }
+      }
+
+      //***
+      // validate and generate
+      //***
+
+      String msg = model.validate();
+      if (msg != null)
+      {
+         System.err.println("invalid options: " + msg);
+         return EXIT_INVALID;
+      }
+
+      try
+      {
+         System.out.println("generating data files");
+         new GeneratorScheduler().generate(model);
+         System.out.println("  finished data generation");
+         return EXIT_OK;
+      }
+      catch (IOException e)
+      {
+         System.err.println("data generation failed: " + e.getMessage());
+         return EXIT_FAILED;
+      }
+   }
+
+   // Returns the option key matching aKey regardless of case, or null
+   private static String findKey(List<String> aKeyList, String aKey)
+   {
+      for (String key : aKeyList)
+         if (key.equalsIgnoreCase(aKey.trim()))
+            return key;
+      return null;
+   }
+
+   private static int usageError(String aMessage, List<String> aKeyList)
+   {
+      System.err.println(aMessage);
+      printUsage(System.err, aKeyList);
+      return EXIT_USAGE;
+   }
+
+   private static void printUsage(PrintStream anOut, List<String> aKeyList)
+   {
+      anOut.println("usage: java DataGenCli [options.csv] [Key=Value ...]");
+      anOut.println("exit status: 0 done, " + EXIT_USAGE + " bad arguments, "
+                    + EXIT_INVALID + " invalid options, " + EXIT_FAILED + " generation failed");
+      anOut.println("option keys:");
+      for (String key : aKeyList)
+         anOut.println("  " + key);
+   }
+}
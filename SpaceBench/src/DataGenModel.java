@@ -6,13 +6,12 @@
  * 
  * This file has to do with the mechanics behind the main application window.
  * It also validates options entered 
- * and reads / writes to CSV files for options loading / saving
+ * and reads / writes to CSV files for options loading / saving.
+ * It uses no Swing classes, so the command line runner can share it.
  */
 
-import javax.swing.*;
 import java.io.*;
-import javax.swing.JFileChooser;
-import java.util.StringTokenizer;
+import java.util.*;
 
 public class DataGenModel {
 
@@ -25,46 +24,67 @@ public class DataGenModel {
    // scene options
    public double theSceneLength;
    public String theFilenamePrefix;
+   public OutputFormat theOutputFormat;
+   public int theSrid;
+   public int theOutputBufferSize;
+   public int theOutputBufferCount;
+   public int theEncoderThreadCount;
+   public int thePipelineRingSize;
+   public int theGeneratorThreadCount;
+   public int theShardCount;
+   public long theSeed;
+   public RandomEngine theRandomEngine;
+   public int theCoordinateDecimals;
+   public PlacementDistribution thePlacementDistribution;
+   public int theClusterCount;
+   public double theClusterSpread;
+   public double theZipfExponent;
+   public String theDensityMapFilename;
    
    // point values
    public boolean theGeneratePointsFlag;
-   public int theNumberOfPoints;
+   public long theNumberOfPoints;
    public boolean theUniquePointsFlag;
+   public UniquePointsMethod theUniquePointsMethod;
+   public double theMinimumPointSeparation;
    
    // square values
    public boolean theGenerateSquaresFlag;
-   public int theNumberOfSquares;
+   public long theNumberOfSquares;
    public double theMaximumSquareSideLength;
 
    // triangle values
    public boolean theGenerateTrianglesFlag;
-   public int theNumberOfTriangles;
+   public long theNumberOfTriangles;
    public double theTriangleBBoxHeight;
    public double theTriangleBBoxWidth;
 
    // polygon values
    public boolean theGeneratePolygonsFlag;
-   public int theNumberOfPolygons;
+   public long theNumberOfPolygons;
    public int thePolygonMaxVertexCount;
    public int thePolygonBBoxLength;
    public int thePolygonMinVertexCount;
+   public PolygonAlgorithm thePolygonAlgorithm;
+   public int thePolygonVertexAttempts;
+   public int thePolygonBacktracks;
    
    // linestring values
    public boolean theGenerateLineStringsFlag;
-   public int theNumberOfLineStrings;
+   public long theNumberOfLineStrings;
    public int theLineStringMaxSegmentCount;
    public int theLineStringMinSegmentCount;
    
    
    //Random Walk values
    public boolean theGenerateRandomWalksFlag;
-   public int theNumberOfRandomWalks;
+   public long theNumberOfRandomWalks;
    public double theMaximumStepLength;
    public int theNumberOfSteps;
    
    //Conic Spiral values
    public boolean theGenerateConicSpiralsFlag;
-   public int theNumberOfConicSpirals;
+   public long theNumberOfConicSpirals;
    public double theMaximumRadiusLength;
    public double theSegmentInc;
    public double theRadius;
@@ -73,14 +93,14 @@ public class DataGenModel {
    
    //Midpoint Displacement values
    public boolean theGenerateMidpointDisplacementsFlag;
-   public int theNumberofMidpointDisplacements;
+   public long theNumberofMidpointDisplacements;
    public int theRecursionDepth;
    public double theDisplacementBound;
    public double theDisplacementBoundReduction;
    
    // Quick-Star Polygon values
    public boolean theGenerateQSPolygonsFlag;
-   public int theNumberOfQSPolygons;
+   public long theNumberOfQSPolygons;
    public int theNumberOfQSVertices;
    public double theStarRadius;
    
@@ -92,15 +112,37 @@ public class DataGenModel {
    
    DataGenModel()
    {
+      theOutputFormat = OutputFormat.WKT;
+      theUniquePointsMethod = UniquePointsMethod.HASH_SET;
+      theMinimumPointSeparation = 1.0;
+      thePolygonAlgorithm = PolygonAlgorithm.INCREMENTAL;
+      thePolygonVertexAttempts = 4000;
+      thePolygonBacktracks = 64;
+      theSrid = 0;
+      theOutputBufferSize = 256 * 1024;
+      theOutputBufferCount = 4;
+      theEncoderThreadCount = 0;
+      thePipelineRingSize = 8;
+      theGeneratorThreadCount = Runtime.getRuntime().availableProcessors();
+      theShardCount = 1;
+      theSeed = RandomStreams.newSeed();
+      theRandomEngine = RandomEngine.SPLITMIX64;
+      theCoordinateDecimals = WktWriter.SHORTEST;
+      thePlacementDistribution = PlacementDistribution.UNIFORM;
+      theClusterCount = 10;
+      theClusterSpread = 10.0;
+      theZipfExponent = 1.0;
+      theDensityMapFilename = "";
    }
 
    /*
     * validate()
     *
-    * This method validates the model
+    * This method validates the model, returning why it is invalid or
+    * null when it is valid
     */
    
-   public boolean validate(JFrame aFrame)
+   public String validate()
    {
       boolean isValid = true;
       String msg = "";
@@ -108,6 +150,78 @@ public class DataGenModel {
       if (TRACE)
          System.out.println("DataGenModel: validate");
          
+      //***
+      // validate scene options
+      //***
+
+      if (theGeneratorThreadCount < 1)
+      {
+         msg = "At least 1 generator thread is required";
+         isValid = false;
+      }
+      if (theShardCount < 1)
+      {
+         msg = "At least 1 shard per generator is required";
+         isValid = false;
+      }
+      if (theSrid < 0)
+      {
+         msg = "The SRID must not be negative";
+         isValid = false;
+      }
+      if (theOutputBufferSize < 4096)
+      {
+         msg = "Output buffers must hold at least 4096 bytes";
+         isValid = false;
+      }
+      if (theOutputBufferCount < 2)
+      {
+         msg = "At least 2 output buffers are required";
+         isValid = false;
+      }
+      if (theEncoderThreadCount < 0)
+      {
+         msg = "The number of encoder threads must not be negative";
+         isValid = false;
+      }
+      if (thePipelineRingSize < 2)
+      {
+         msg = "The pipeline ring needs at least 2 slots";
+         isValid = false;
+      }
+      if (theCoordinateDecimals < WktWriter.SHORTEST || theCoordinateDecimals > DoubleFormat.MAX_DECIMALS)
+      {
+         msg = "Coordinate decimal places must be between 0 and " + DoubleFormat.MAX_DECIMALS
+               + ", or " + WktWriter.SHORTEST + " for shortest form";
+         isValid = false;
+      }
+      if (thePlacementDistribution == PlacementDistribution.DENSITY_MAP)
+      {
+         if (new File(theDensityMapFilename).isFile() == false)
+         {
+            msg = "Density map [" + theDensityMapFilename + "] was not found";
+            isValid = false;
+         }
+      }
+      else if (thePlacementDistribution != PlacementDistribution.UNIFORM)
+      {
+         if ((theClusterSpread <= 0) || (theClusterSpread >= theSceneLength))
+         {
+            msg = "Cluster spread must be greater than 0 and less than the scene length";
+            isValid = false;
+         }
+         if (theClusterCount < 1)
+         {
+            msg = "At least 1 cluster is required";
+            isValid = false;
+         }
+         if (theZipfExponent < 0)
+         {
+            msg = "The Zipf exponent must not be negative";
+            isValid = false;
+         }
+      }
+
       //***
       // validate point options
       //***
@@ -119,6 +233,51 @@ public class DataGenModel {
             msg = "Points file must contain at least 1 element";
             isValid = false;
          }
+         if (theUniquePointsFlag && theUniquePointsMethod == UniquePointsMethod.HASH_SET
+             && theNumberOfPoints > PointHashSet.MAX_SIZE)
+         {
+            msg = "Unique points by hash set are limited to " + PointHashSet.MAX_SIZE
+                  + "; use the disk set or lattice method for more";
+            isValid = false;
+         }
+         if (theUniquePointsFlag && theUniquePointsMethod == UniquePointsMethod.LATTICE)
+         {
+            long cells = PointGenerator.cellsPerSide(this);
+            if (cells < 1 || cells > (1L << 31))
+            {
+               msg = "Lattice points need a scene length between 1 and 2^31";
+               isValid = false;
+            }
+            else if (theNumberOfPoints > cells * cells)
+            {
+               msg = "A " + cells + " x " + cells + " scene has only " + (cells * cells) + " lattice points";
+               isValid = false;
+            }
+         }
+         if (theUniquePointsFlag && theUniquePointsMethod == UniquePointsMethod.POISSON_DISK)
+         {
+            if ((theMinimumPointSeparation <= 0) || (theMinimumPointSeparation >= theSceneLength))
+            {
+               msg = "Minimum point separation must be greater than 0 and less than the scene length";
+               isValid = false;
+            }
+            else if ((theSceneLength + 1) / theMinimumPointSeparation * Math.sqrt(2) >= PoissonDiskGrid.MAX_CELLS_PER_SIDE)
+            {
+               msg = "Minimum point separation is too small for the scene length";
+               isValid = false;
+            }
+            else if (theNumberOfPoints > PoissonDiskGrid.MAX_SIZE)
+            {
+               msg = "Poisson disk points are limited to " + PoissonDiskGrid.MAX_SIZE;
+               isValid = false;
+            }
+            else if (theNumberOfPoints > PoissonDiskGrid.maximumPoints(theSceneLength, theMinimumPointSeparation))
+            {
+               msg = "At most " + (long)PoissonDiskGrid.maximumPoints(theSceneLength, theMinimumPointSeparation)
+                     + " points fit in the scene " + theMinimumPointSeparation + " apart";
+               isValid = false;
+            }
+         }
       }
       
       //***
@@ -193,6 +352,16 @@ public class DataGenModel {
             msg = "Maximum polygon width has to be < scene length, and > 0.";
             isValid = false;
          }
+         if (thePolygonVertexAttempts <= 0)
+         {
+            msg = "Polygon vertex attempts must be > 0.";
+            isValid = false;
+         }
+         if (thePolygonBacktracks < 0)
+         {
+            msg = "Polygon backtracks must not be negative.";
+            isValid = false;
+         }
       }
 
       //***
@@ -294,131 +463,7 @@ public class DataGenModel {
       //***
       //********************************************************
       
-      //***
-      // show error message
-      //***
-
-      if (isValid == false)
-      {
-         JOptionPane.showMessageDialog(
-            aFrame,
-            msg,
-            "Notice",
-            JOptionPane.INFORMATION_MESSAGE,
-            null);
-      }
-
-      return isValid;
-   }
-
-   /*
-    * save()
-    *
-    * This method saves the model content to disk
-    */
-   
-   public void save(JFrame anAppFrame)
-   {
-      if (TRACE)
-         System.out.println("DataGenModel: save options file ");
-
-      // get file for model update
-      String outputFn = getOutputFilename(anAppFrame);
-      if (outputFn.length() == 0)
-         return;
-
-      // do model update
-      if (writeData(outputFn) == false)
-      {
-         JOptionPane.showMessageDialog(
-            anAppFrame,
-            "Error saving to options file.",
-            "Notice",
-            JOptionPane.INFORMATION_MESSAGE,
-            null);
-      }
-   }
-
-   /**
-    * load()
-    *
-    * This method loads the model content from disk
-    */
-   public void load(JFrame anAppFrame)
-   {
-      if (TRACE)
-         System.out.println("DataGenModel: load options file");
-
-      // get file for model update
-      String inputFn = getInputFilename(anAppFrame);
-      if (inputFn.length() == 0)
-         return;
-
-      // do model update
-      if (readData(inputFn) == false)
-      {
-         JOptionPane.showMessageDialog(
-            anAppFrame,
-            "Error opening selected options file.",
-            "Notice",
-            JOptionPane.INFORMATION_MESSAGE,
-            null);
-      }
-   }
-
-   /**
-    * getInputFilename()
-    *
-    * This method returns the input filename
-    */
-   private String getInputFilename(JFrame anAppFrame)
-   {
-      String fn = "";
-
-      // setup file chooser
-      JFileChooser csvChooser = new JFileChooser();
-      CSVFileFilter filter = new CSVFileFilter();
-      csvChooser.setFileFilter(filter);
-
-      // prompt user for input file
-      int returnVal = csvChooser.showOpenDialog(anAppFrame);
-
-      // process result
-      if (returnVal == JFileChooser.APPROVE_OPTION)
-      {
-         fn = csvChooser.getSelectedFile().getPath();
-         if (TRACE)
-            System.out.println("DataGenModel: opening " + fn);
-      }
-      return fn;
-   }
-
-   /*
-    * getOutputFilename()
-    *
-    * This method returns the output filename
-    */
-   
-   private String getOutputFilename(JFrame anAppFrame)
-   {
-      String fn = "";
-
-      // setup file chooser
-      JFileChooser csvChooser = new JFileChooser();
-      CSVFileFilter filter = new CSVFileFilter();
-      csvChooser.setFileFilter(filter);
-
-      // prompt user for output file
-      int returnVal = csvChooser.showSaveDialog(anAppFrame);
-
-      // process result
-      if (returnVal == JFileChooser.APPROVE_OPTION)
-      {
-         fn = csvChooser.getSelectedFile().getPath();
-         if (TRACE)
-            System.out.println("DataGenModel: saving " + fn);
-      }
-      return fn;
+      return isValid ? null : msg;
    }
 
    /**
@@ -426,7 +471,7 @@ public class DataGenModel {
     *
     * This method write the data to the given CSV file
     */
-   private boolean writeData(String aCSVFilename)
+   boolean writeData(String aCSVFilename)
    {
       try
       {
@@ -453,7 +498,7 @@ public class DataGenModel {
     * This method read the data from the given CSV file
     */
    
-   private boolean readData(String aCSVFilename)
+   boolean readData(String aCSVFilename)
    {
       try
       {
@@ -461,17 +506,13 @@ public class DataGenModel {
          File file = new File(aCSVFilename);
          BufferedReader bufRdr = new BufferedReader(new FileReader(file));
 
-         // read each line of text file
+         // read each line of text file, a value may be empty
          String line = null;
          while ((line = bufRdr.readLine()) != null)
          {
-            StringTokenizer st = new StringTokenizer(line, ",");
-            while (st.hasMoreTokens())
-            {
-               String key = st.nextToken();
-               String value = st.nextToken();
-               processKeyValuePair(key, value);
-            }
+            int comma = line.indexOf(',');
+            if (comma > 0)
+               processKeyValuePair(line.substring(0, comma), line.substring(comma + 1));
          }
          //close the file
          bufRdr.close();
@@ -483,13 +524,49 @@ public class DataGenModel {
       }
    }
 
+   /*
+    * optionKeys()
+    *
+    * This method returns the key of every option, in the order the
+    * options file lists them.  Only keys that processKeyValuePair reads
+    * back are returned, so a key that is written but never read is not
+    * offered as an option that would silently do nothing.
+    */
+
+   List<String> optionKeys()
+   {
+      List<String> keys = new ArrayList<String>();
+      try
+      {
+         StringWriter text = new StringWriter();
+         BufferedWriter bufWtr = new BufferedWriter(text);
+         writeKeyValuePairs(bufWtr);
+         bufWtr.close();
+         DataGenModel scratch = new DataGenModel();
+         for (String line : text.toString().split("\n"))
+         {
+            int comma = line.indexOf(',');
+            if (scratch.processKeyValuePair(line.substring(0, comma), line.substring(comma + 1)))
+               keys.add(line.substring(0, comma));
+         }
+      }
+      catch (IOException e)
+      {
+         // a StringWriter does not fail
+      }
+      return keys;
+   }
+
    /*
     * processKeyValuePair()
     *
-    * This method converts the key/value pair into appropriate option
+    * This method converts the key/value pair into appropriate option,
+    * returning false when no option has that key.  The midpoint
+    * displacement keys are read both as they are written and as older
+    * options files spelled them.
     */
    
-   private void processKeyValuePair(String aKey, String aValue)
+   boolean processKeyValuePair(String aKey, String aValue)
    {
       if (TRACE)
          System.out.println("DataGenModel: " + aKey + " " + aValue);
@@ -497,104 +574,149 @@ public class DataGenModel {
       // scene options
       if (aKey.equalsIgnoreCase("SceneLength"))
          theSceneLength = Double.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("FilenamePrefix"))
+      else if (aKey.equalsIgnoreCase("FilenamePrefix"))
          theFilenamePrefix = aValue;
+      else if (aKey.equalsIgnoreCase("OutputFormat"))
+         theOutputFormat = OutputFormat.valueOf(aValue.trim().toUpperCase());
+      else if (aKey.equalsIgnoreCase("Srid"))
+         theSrid = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("OutputBufferSize"))
+         theOutputBufferSize = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("OutputBufferCount"))
+         theOutputBufferCount = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("EncoderThreadCount"))
+         theEncoderThreadCount = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("PipelineRingSize"))
+         thePipelineRingSize = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("GeneratorThreadCount"))
+         theGeneratorThreadCount = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("ShardCount"))
+         theShardCount = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("Seed"))
+         theSeed = Long.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("RandomEngine"))
+         theRandomEngine = RandomEngine.valueOf(aValue.trim().toUpperCase());
+      else if (aKey.equalsIgnoreCase("CoordinateDecimals"))
+         theCoordinateDecimals = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("PlacementDistribution"))
+         thePlacementDistribution = PlacementDistribution.valueOf(aValue.trim().toUpperCase());
+      else if (aKey.equalsIgnoreCase("ClusterCount"))
+         theClusterCount = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("ClusterSpread"))
+         theClusterSpread = Double.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("ZipfExponent"))
+         theZipfExponent = Double.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("DensityMapFilename"))
+         theDensityMapFilename = aValue;
 
       // point options
-      if (aKey.equalsIgnoreCase("GeneratePointsFlag"))
+      else if (aKey.equalsIgnoreCase("GeneratePointsFlag"))
          theGeneratePointsFlag = Boolean.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("NumberOfPoints"))
-         theNumberOfPoints = Integer.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("UniquePointsFlag"))
+      else if (aKey.equalsIgnoreCase("NumberOfPoints"))
+         theNumberOfPoints = Long.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("UniquePointsFlag"))
          theUniquePointsFlag = Boolean.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("UniquePointsMethod"))
+         theUniquePointsMethod = UniquePointsMethod.valueOf(aValue.trim().toUpperCase());
+      else if (aKey.equalsIgnoreCase("MinimumPointSeparation"))
+         theMinimumPointSeparation = Double.valueOf(aValue);
 
       // square options
-      if (aKey.equalsIgnoreCase("GenerateSquaresFlag"))
+      else if (aKey.equalsIgnoreCase("GenerateSquaresFlag"))
          theGenerateSquaresFlag = Boolean.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("NumberOfSquares"))
-         theNumberOfSquares = Integer.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("MaximumSquareSideLength"))
+      else if (aKey.equalsIgnoreCase("NumberOfSquares"))
+         theNumberOfSquares = Long.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("MaximumSquareSideLength"))
          theMaximumSquareSideLength = Double.valueOf(aValue);
 
       // triangle options
-      if (aKey.equalsIgnoreCase("GenerateTrianglesFlag"))
+      else if (aKey.equalsIgnoreCase("GenerateTrianglesFlag"))
          theGenerateTrianglesFlag = Boolean.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("NumberOfTriangles"))
-         theNumberOfTriangles = Integer.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("TriangleBBoxHeight"))
+      else if (aKey.equalsIgnoreCase("NumberOfTriangles"))
+         theNumberOfTriangles = Long.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("TriangleBBoxHeight"))
          theTriangleBBoxHeight = Double.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("TriangleBBoxWidth"))
+      else if (aKey.equalsIgnoreCase("TriangleBBoxWidth"))
          theTriangleBBoxWidth = Double.valueOf(aValue);
 
       // polygon options
-      if (aKey.equalsIgnoreCase("GeneratePolygonsFlag"))
+      else if (aKey.equalsIgnoreCase("GeneratePolygonsFlag"))
          theGeneratePolygonsFlag = Boolean.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("NumberOfPolygons"))
-         theNumberOfPolygons = Integer.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("PolygonMaxVertexCount"))
+      else if (aKey.equalsIgnoreCase("NumberOfPolygons"))
+         theNumberOfPolygons = Long.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("PolygonMaxVertexCount"))
          thePolygonMaxVertexCount = Integer.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("PolygonBBoxLength"))
+      else if (aKey.equalsIgnoreCase("PolygonBBoxLength"))
          thePolygonBBoxLength = Integer.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("PolygonMinVertexCount"))
+      else if (aKey.equalsIgnoreCase("PolygonMinVertexCount"))
     	  thePolygonMinVertexCount = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("PolygonAlgorithm"))
+         thePolygonAlgorithm = PolygonAlgorithm.valueOf(aValue.trim().toUpperCase());
+      else if (aKey.equalsIgnoreCase("PolygonVertexAttempts"))
+         thePolygonVertexAttempts = Integer.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("PolygonBacktracks"))
+         thePolygonBacktracks = Integer.valueOf(aValue);
   
       // linestring options
-      if (aKey.equalsIgnoreCase("GenerateLineStringsFlag"))
+      else if (aKey.equalsIgnoreCase("GenerateLineStringsFlag"))
          theGenerateLineStringsFlag = Boolean.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("NumberOfLineStrings"))
-         theNumberOfLineStrings = Integer.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("LineStringMaxSegmentCount"))
+      else if (aKey.equalsIgnoreCase("NumberOfLineStrings"))
+         theNumberOfLineStrings = Long.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("LineStringMaxSegmentCount"))
          theLineStringMaxSegmentCount = Integer.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("LineStringMinSegmentCount"))
+      else if (aKey.equalsIgnoreCase("LineStringMinSegmentCount"))
           theLineStringMinSegmentCount = Integer.valueOf(aValue);
       
       // random walks options
-      if (aKey.equalsIgnoreCase("GenerateRandomWalkFlag"))
+      else if (aKey.equalsIgnoreCase("GenerateRandomWalkFlag"))
           theGenerateRandomWalksFlag = Boolean.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("NumberOfRandomWalks"))
-          theNumberOfRandomWalks = Integer.valueOf(aValue);
-      if (aKey.equalsIgnoreCase("MaximumStepLength"))
+      else if (aKey.equalsIgnoreCase("NumberOfRandomWalks"))
+          theNumberOfRandomWalks = Long.valueOf(aValue);
+      else if (aKey.equalsIgnoreCase("MaximumStepLength"))
           theMaximumStepLength = Double.valueOf(aValue);
-      if (aKey.equals("NumberOfSteps"))
+      else if (aKey.equals("NumberOfSteps"))
     	   theNumberOfSteps = Integer.valueOf(aValue);
        
        // conic spiral options
-       if (aKey.equalsIgnoreCase("GenerateConicSpiralFlag"))
+       else if (aKey.equalsIgnoreCase("GenerateConicSpiralFlag"))
     	   theGenerateConicSpiralsFlag = Boolean.valueOf(aValue);
-       if (aKey.equalsIgnoreCase("NumberOfConicSpirals"))
-        	theNumberOfConicSpirals = Integer.valueOf(aValue);
-       if (aKey.equalsIgnoreCase("MaximumRadiusLength"))
+       else if (aKey.equalsIgnoreCase("NumberOfConicSpirals"))
+        	theNumberOfConicSpirals = Long.valueOf(aValue);
+       else if (aKey.equalsIgnoreCase("MaximumRadiusLength"))
         	theMaximumRadiusLength = Double.valueOf(aValue);
-       if (aKey.equalsIgnoreCase("SegmentInc"))
+       else if (aKey.equalsIgnoreCase("SegmentInc"))
        		theSegmentInc = Double.valueOf(aValue);
-       if (aKey.equalsIgnoreCase("BaseRadius"))
+       else if (aKey.equalsIgnoreCase("BaseRadius"))
       		theRadius = Double.valueOf(aValue);
-       if (aKey.equals("AngleGapLower"))
+       else if (aKey.equals("AngleGapLower"))
         	theAngleGapLower = Double.valueOf(aValue);
-       if (aKey.equals("AngleGapUpper"))
+       else if (aKey.equals("AngleGapUpper"))
        		theAngleGapUpper = Double.valueOf(aValue);
        
        // Midpoint Displacement options
-       if (aKey.equalsIgnoreCase("GenerateMidPointDisplacemntFlag"))
+       else if (aKey.equalsIgnoreCase("midpointDisplacementFlag") || aKey.equalsIgnoreCase("GenerateMidPointDisplacemntFlag"))
     	   theGenerateMidpointDisplacementsFlag = Boolean.valueOf(aValue);
-       if (aKey.equalsIgnoreCase("NumberOfMidPointDisplacemnts"))
-    	   theNumberofMidpointDisplacements = Integer.valueOf(aValue);
-       if (aKey.equalsIgnoreCase("RecursionDepth"))
+       else if (aKey.equalsIgnoreCase("NumberOfMidpointDisplacements") || aKey.equalsIgnoreCase("NumberOfMidPointDisplacemnts"))
+    	   theNumberofMidpointDisplacements = Long.valueOf(aValue);
+       else if (aKey.equalsIgnoreCase("RecursionDepth"))
     	   theRecursionDepth = Integer.valueOf(aValue);
-       if (aKey.equals("DisplacementBound"))
+       else if (aKey.equals("DisplacementBound"))
     	   theDisplacementBound = Double.valueOf(aValue);
-       if(aKey.equals("DisplacementBoundReduction"))
+       else if(aKey.equals("DisplacementBoundReduction"))
     	   theDisplacementBoundReduction = Double.valueOf(aValue);
        
        // quick-star polygon options
-       if (aKey.equalsIgnoreCase("theGenerateQSPolygonsFlag"))
+       else if (aKey.equalsIgnoreCase("theGenerateQSPolygonsFlag"))
     	   theGenerateQSPolygonsFlag = Boolean.valueOf(aValue);
-       if (aKey.equalsIgnoreCase("theNumberOfQSPolygons"))
-    	   theNumberOfQSPolygons = Integer.valueOf(aValue);
-       if (aKey.equalsIgnoreCase("theNumberOfQSVertices"))
+       else if (aKey.equalsIgnoreCase("theNumberOfQSPolygons"))
+    	   theNumberOfQSPolygons = Long.valueOf(aValue);
+       else if (aKey.equalsIgnoreCase("theNumberOfQSVertices"))
     	   theNumberOfQSVertices = Integer.valueOf(aValue);
-       if (aKey.equalsIgnoreCase("theStarRadius"))
+       else if (aKey.equalsIgnoreCase("theStarRadius"))
     	   theStarRadius = Double.valueOf(aValue);
+       else
+          return false;
+       return true;
    }
 
    /*
@@ -608,46 +730,67 @@ public class DataGenModel {
       // scene options
       bufWtr.write("SceneLength," + Double.toString(theSceneLength) + "\n");
       bufWtr.write("FilenamePrefix," + theFilenamePrefix + "\n");
+      bufWtr.write("OutputFormat," + theOutputFormat.name() + "\n");
+      bufWtr.write("Srid," + Integer.toString(theSrid) + "\n");
+      bufWtr.write("OutputBufferSize," + Integer.toString(theOutputBufferSize) + "\n");
+      bufWtr.write("OutputBufferCount," + Integer.toString(theOutputBufferCount) + "\n");
+      bufWtr.write("EncoderThreadCount," + Integer.toString(theEncoderThreadCount) + "\n");
+      bufWtr.write("PipelineRingSize," + Integer.toString(thePipelineRingSize) + "\n");
+      bufWtr.write("GeneratorThreadCount," + Integer.toString(theGeneratorThreadCount) + "\n");
+      bufWtr.write("ShardCount," + Integer.toString(theShardCount) + "\n");
+      bufWtr.write("Seed," + Long.toString(theSeed) + "\n");
+      bufWtr.write("RandomEngine," + theRandomEngine.name() + "\n");
+      bufWtr.write("CoordinateDecimals," + Integer.toString(theCoordinateDecimals) + "\n");
+      bufWtr.write("PlacementDistribution," + thePlacementDistribution.name() + "\n");
+      bufWtr.write("ClusterCount," + Integer.toString(theClusterCount) + "\n");
+      bufWtr.write("ClusterSpread," + Double.toString(theClusterSpread) + "\n");
+      bufWtr.write("ZipfExponent," + Double.toString(theZipfExponent) + "\n");
+      bufWtr.write("DensityMapFilename," + theDensityMapFilename + "\n");
 
       // point options
       bufWtr.write("GeneratePointsFlag," + Boolean.toString(theGeneratePointsFlag) + "\n");
-      bufWtr.write("NumberOfPoints," + Integer.toString(theNumberOfPoints) + "\n");
+      bufWtr.write("NumberOfPoints," + Long.toString(theNumberOfPoints) + "\n");
       bufWtr.write("UniquePointsFlag," + Boolean.toString(theUniquePointsFlag) + "\n");
+      bufWtr.write("UniquePointsMethod," + theUniquePointsMethod.name() + "\n");
+      bufWtr.write("MinimumPointSeparation," + Double.toString(theMinimumPointSeparation) + "\n");
 
       // square options
       bufWtr.write("GenerateSquaresFlag," + Boolean.toString(theGenerateSquaresFlag) + "\n");
-      bufWtr.write("NumberOfSquares," + Integer.toString(theNumberOfSquares) + "\n");
+      bufWtr.write("NumberOfSquares," + Long.toString(theNumberOfSquares) + "\n");
       bufWtr.write("MaximumSquareSideLength," + Double.toString(theMaximumSquareSideLength) + "\n");
 
       // triangle options
       bufWtr.write("GenerateTrianglesFlag," + Boolean.toString(theGenerateTrianglesFlag) + "\n");
-      bufWtr.write("NumberOfTriangles," + Integer.toString(theNumberOfTriangles) + "\n");
+      bufWtr.write("NumberOfTriangles," + Long.toString(theNumberOfTriangles) + "\n");
       bufWtr.write("TriangleBBoxHeight," + Double.toString(theTriangleBBoxHeight) + "\n");
       bufWtr.write("TriangleBBoxWidth," + Double.toString(theTriangleBBoxWidth) + "\n");
 
       // polygon options
       bufWtr.write("GeneratePolygonsFlag," + Boolean.toString(theGeneratePolygonsFlag) + "\n");
-      bufWtr.write("NumberOfPolygons," + Integer.toString(theNumberOfPolygons) + "\n");
+      bufWtr.write("NumberOfPolygons," + Long.toString(theNumberOfPolygons) + "\n");
       bufWtr.write("PolygonMaxVertexCount," + Integer.toString(thePolygonMaxVertexCount) + "\n");
       bufWtr.write("PolygonBBoxLength," + Integer.toString(thePolygonBBoxLength) + "\n");
       bufWtr.write("PolygonMinVertexCount," + Integer.toString(thePolygonMinVertexCount) + "\n");
+      bufWtr.write("PolygonAlgorithm," + thePolygonAlgorithm.name() + "\n");
+      bufWtr.write("PolygonVertexAttempts," + Integer.toString(thePolygonVertexAttempts) + "\n");
+      bufWtr.write("PolygonBacktracks," + Integer.toString(thePolygonBacktracks) + "\n");
       
 
       // linestring options
       bufWtr.write("GenerateLineStringsFlag," + Boolean.toString(theGenerateLineStringsFlag) + "\n");
-      bufWtr.write("NumberOfLineStrings," + Integer.toString(theNumberOfLineStrings) + "\n");
+      bufWtr.write("NumberOfLineStrings," + Long.toString(theNumberOfLineStrings) + "\n");
       bufWtr.write("LineStringMaxSegmentCount," + Integer.toString(theLineStringMaxSegmentCount) + "\n");
       bufWtr.write("LineStringMinSegmentCount," + Integer.toString(theLineStringMinSegmentCount) + "\n");
       
       // random walks options
       bufWtr.write("GenerateRandomWalkFlag," + Boolean.toString(theGenerateRandomWalksFlag) + "\n");
-      bufWtr.write("NumberOfRandomWalks," + Integer.toString(theNumberOfRandomWalks) + "\n");
+      bufWtr.write("NumberOfRandomWalks," + Long.toString(theNumberOfRandomWalks) + "\n");
       bufWtr.write("MaximumStepLength," + Double.toString(theMaximumStepLength) + "\n");
       bufWtr.write("NumberOfSteps," + Integer.toString(theNumberOfSteps) + "\n");
       
       // conic spiral options
       bufWtr.write("GenerateConicSpiralFlag," + Boolean.toString(theGenerateConicSpiralsFlag) + "\n");
-      bufWtr.write("NumberOfConicSpirals," + Integer.toString(theNumberOfConicSpirals) + "\n");
+      bufWtr.write("NumberOfConicSpirals," + Long.toString(theNumberOfConicSpirals) + "\n");
       bufWtr.write("MaximumRadiusLength," + Double.toString(theMaximumRadiusLength) + "\n");
       bufWtr.write("SegmentInc," + Double.toString(theSegmentInc) + "\n");
       bufWtr.write("BaseRadius," + Double.toString(theRadius) + "\n");
@@ -656,14 +799,14 @@ public class DataGenModel {
       
       // Midpoint Displacement options
       bufWtr.write("midpointDisplacementFlag," + Boolean.toString(theGenerateMidpointDisplacementsFlag) + "\n");
-      bufWtr.write("NumberOfMidpointDisplacements," + Integer.toString(theNumberofMidpointDisplacements) + "\n");
+      bufWtr.write("NumberOfMidpointDisplacements," + Long.toString(theNumberofMidpointDisplacements) + "\n");
       bufWtr.write("RecursionDepth," + Integer.toString(theRecursionDepth) + "\n");
       bufWtr.write("DisplacementBound," + Double.toString(theDisplacementBound) + "\n");
       bufWtr.write("DisplacementBoundReduction," + Double.toString(theDisplacementBoundReduction) + "\n");
       
       // quick-star polygon options
       bufWtr.write("theGenerateQSPolygonsFlag," + Boolean.toString(theGenerateQSPolygonsFlag) + "\n");
-      bufWtr.write("theNumberOfQSPolygons," + Integer.toString(theNumberOfQSPolygons) + "\n");
+      bufWtr.write("theNumberOfQSPolygons," + Long.toString(theNumberOfQSPolygons) + "\n");
       bufWtr.write("theNumberOfQSVertices," + Integer.toString(theNumberOfQSVertices) + "\n");
       bufWtr.write("theStarRadius," + Double.toString(theStarRadius) + "\n");
    }
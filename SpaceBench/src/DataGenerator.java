@@ -41,17 +41,7 @@ public class DataGenerator implements ActionListener {
    DataGenModel theDataGenModel;
    
    // data generators
-   PointGenerator thePointGenerator;
-   SquareGenerator theSquareGenerator;
-   TriangleGenerator theTriangleGenerator;
-   PolygonGenerator thePolygonGenerator;
-   LineStringGenerator theLineStringGenerator;
-   
-   //New
-   RandomWalkGenerator theRandomWalkGenerator;
-   ConicSpiralGenerator theConicSpiralGenerator;
-   MidPointDisplacementGenerator theMidPointDisplacementGenerator;
-   QuickStarPolygonGenerator theQuickStarPolygonGenerator;
+   GeneratorScheduler theGeneratorScheduler;
 
    // data generator views
    SceneOptionsView theSceneOptionsView;
@@ -115,18 +105,7 @@ public class DataGenerator implements ActionListener {
          System.out.println("DataGenerator: buildGeneratorsAndViews");
 
       // build generators
-      thePointGenerator = new PointGenerator();
-      theSquareGenerator = new SquareGenerator();
-      theTriangleGenerator = new TriangleGenerator();
-      thePolygonGenerator = new PolygonGenerator();
-      theLineStringGenerator = new LineStringGenerator();
-      
-      //New
-      theRandomWalkGenerator = new RandomWalkGenerator();
-      theConicSpiralGenerator = new ConicSpiralGenerator();
-      theMidPointDisplacementGenerator = new MidPointDisplacementGenerator();
-      theQuickStarPolygonGenerator = new QuickStarPolygonGenerator();
-      
+      theGeneratorScheduler = new GeneratorScheduler();
 
       // build their views
       theSceneOptionsView = new SceneOptionsView();
@@ -217,13 +196,13 @@ public class DataGenerator implements ActionListener {
 
       if ("loadModel".equals(ae.getActionCommand()))
       {
-         theDataGenModel.load(theAppFrame);
+         loadModel();
          updateView();
       }
       else if ("saveModel".equals(ae.getActionCommand()))
       {
          updateModel();
-         theDataGenModel.save(theAppFrame);
+         saveModel();
       }
       else if ("generateData".equals(ae.getActionCommand()))
       {
@@ -250,6 +229,7 @@ public class DataGenerator implements ActionListener {
       //***
 
       theSceneOptionsView.captureFilenamePrefix();
+      theSceneOptionsView.captureDensityMapFilename();
 
       //***
       // update model
@@ -258,11 +238,29 @@ public class DataGenerator implements ActionListener {
       // scene options
       theDataGenModel.theSceneLength = theSceneOptionsView.getSceneLength();
       theDataGenModel.theFilenamePrefix = theSceneOptionsView.getFilenamePrefix();
+      theDataGenModel.theGeneratorThreadCount = theSceneOptionsView.getGeneratorThreadCount();
+      theDataGenModel.theShardCount = theSceneOptionsView.getShardCount();
+      theDataGenModel.theSeed = theSceneOptionsView.getSeed();
+      theDataGenModel.theRandomEngine = theSceneOptionsView.getRandomEngine();
+      theDataGenModel.theCoordinateDecimals = theSceneOptionsView.getCoordinateDecimals();
+      theDataGenModel.thePlacementDistribution = theSceneOptionsView.getPlacementDistribution();
+      theDataGenModel.theClusterCount = theSceneOptionsView.getClusterCount();
+      theDataGenModel.theClusterSpread = theSceneOptionsView.getClusterSpread();
+      theDataGenModel.theZipfExponent = theSceneOptionsView.getZipfExponent();
+      theDataGenModel.theDensityMapFilename = theSceneOptionsView.getDensityMapFilename();
+      theDataGenModel.theOutputFormat = theSceneOptionsView.getOutputFormat();
+      theDataGenModel.theSrid = theSceneOptionsView.getSrid();
+      theDataGenModel.theOutputBufferSize = theSceneOptionsView.getOutputBufferSize();
+      theDataGenModel.theOutputBufferCount = theSceneOptionsView.getOutputBufferCount();
+      theDataGenModel.theEncoderThreadCount = theSceneOptionsView.getEncoderThreadCount();
+      theDataGenModel.thePipelineRingSize = theSceneOptionsView.getPipelineRingSize();
       
       // point options
       theDataGenModel.theGeneratePointsFlag = thePointGeneratorView.getGenerateFlag();
       theDataGenModel.theNumberOfPoints = thePointGeneratorView.getNumberOfPoints();
       theDataGenModel.theUniquePointsFlag = thePointGeneratorView.getUniquePointsFlag();
+      theDataGenModel.theUniquePointsMethod = thePointGeneratorView.getUniquePointsMethod();
+      theDataGenModel.theMinimumPointSeparation = thePointGeneratorView.getMinimumSeparation();
       
       // square options
       theDataGenModel.theGenerateSquaresFlag = theSquareGeneratorView.getGenerateFlag();
@@ -281,6 +279,9 @@ public class DataGenerator implements ActionListener {
       theDataGenModel.thePolygonMaxVertexCount = thePolygonGeneratorView.getMaximumVertexCount();
       theDataGenModel.thePolygonBBoxLength = thePolygonGeneratorView.getBBoxLength();
       theDataGenModel.thePolygonMinVertexCount = thePolygonGeneratorView.getMinimumVertexCount();
+      theDataGenModel.thePolygonAlgorithm = thePolygonGeneratorView.getAlgorithm();
+      theDataGenModel.thePolygonVertexAttempts = thePolygonGeneratorView.getVertexAttempts();
+      theDataGenModel.thePolygonBacktracks = thePolygonGeneratorView.getBacktracks();
 
       // line string options
       theDataGenModel.theGenerateLineStringsFlag = theLineStringGeneratorView.getGenerateFlag();
@@ -328,11 +329,29 @@ public class DataGenerator implements ActionListener {
       // scene options
       theSceneOptionsView.setSceneLength(theDataGenModel.theSceneLength);
       theSceneOptionsView.setFilenamePrefix(theDataGenModel.theFilenamePrefix);
+      theSceneOptionsView.setGeneratorThreadCount(theDataGenModel.theGeneratorThreadCount);
+      theSceneOptionsView.setShardCount(theDataGenModel.theShardCount);
+      theSceneOptionsView.setSeed(theDataGenModel.theSeed);
+      theSceneOptionsView.setRandomEngine(theDataGenModel.theRandomEngine);
+      theSceneOptionsView.setCoordinateDecimals(theDataGenModel.theCoordinateDecimals);
+      theSceneOptionsView.setPlacementDistribution(theDataGenModel.thePlacementDistribution);
+      theSceneOptionsView.setClusterCount(theDataGenModel.theClusterCount);
+      theSceneOptionsView.setClusterSpread(theDataGenModel.theClusterSpread);
+      theSceneOptionsView.setZipfExponent(theDataGenModel.theZipfExponent);
+      theSceneOptionsView.setDensityMapFilename(theDataGenModel.theDensityMapFilename);
+      theSceneOptionsView.setOutputFormat(theDataGenModel.theOutputFormat);
+      theSceneOptionsView.setSrid(theDataGenModel.theSrid);
+      theSceneOptionsView.setOutputBufferSize(theDataGenModel.theOutputBufferSize);
+      theSceneOptionsView.setOutputBufferCount(theDataGenModel.theOutputBufferCount);
+      theSceneOptionsView.setEncoderThreadCount(theDataGenModel.theEncoderThreadCount);
+      theSceneOptionsView.setPipelineRingSize(theDataGenModel.thePipelineRingSize);
 
       // point options
        thePointGeneratorView.setGenerateFlag(theDataGenModel.theGeneratePointsFlag);
        thePointGeneratorView.setNumberOfPoints(theDataGenModel.theNumberOfPoints);
        thePointGeneratorView.setUniquePointsFlag(theDataGenModel.theUniquePointsFlag);
+       thePointGeneratorView.setUniquePointsMethod(theDataGenModel.theUniquePointsMethod);
+       thePointGeneratorView.setMinimumSeparation(theDataGenModel.theMinimumPointSeparation);
 
        // square options
        theSquareGeneratorView.setGenerateFlag(theDataGenModel.theGenerateSquaresFlag);
@@ -351,6 +370,9 @@ public class DataGenerator implements ActionListener {
        thePolygonGeneratorView.setMaximumVertexCount(theDataGenModel.thePolygonMaxVertexCount);
        thePolygonGeneratorView.setBBoxLength(theDataGenModel.thePolygonBBoxLength);
        thePolygonGeneratorView.setMinimumVertexCount(theDataGenModel.thePolygonMinVertexCount);
+       thePolygonGeneratorView.setAlgorithm(theDataGenModel.thePolygonAlgorithm);
+       thePolygonGeneratorView.setVertexAttempts(theDataGenModel.thePolygonVertexAttempts);
+       thePolygonGeneratorView.setBacktracks(theDataGenModel.thePolygonBacktracks);
 
        // line string options
        theLineStringGeneratorView.setGenerateFlag(theDataGenModel.theGenerateLineStringsFlag);
@@ -404,8 +426,15 @@ public class DataGenerator implements ActionListener {
       //***
 
       // validate model
-      if (theDataGenModel.validate(theAppFrame) == false)
+      String msg = theDataGenModel.validate();
+      if (msg != null)
       {
+         JOptionPane.showMessageDialog(
+            theAppFrame,
+            msg,
+            "Notice",
+            JOptionPane.INFORMATION_MESSAGE,
+            null);
          return;
       }
 
@@ -413,25 +442,130 @@ public class DataGenerator implements ActionListener {
       try
       {
          System.out.println("generating data files");
-         thePointGenerator.generate(theDataGenModel);
-         theSquareGenerator.generate(theDataGenModel);
-         theTriangleGenerator.generate(theDataGenModel);
-         thePolygonGenerator.generate(theDataGenModel);
-         theLineStringGenerator.generate(theDataGenModel);
-         
-         //new
-         theRandomWalkGenerator.generate(theDataGenModel);
-         theConicSpiralGenerator.generate(theDataGenModel);
-         theMidPointDisplacementGenerator.generate(theDataGenModel);
-         theQuickStarPolygonGenerator.generate(theDataGenModel);
-         
+         theGeneratorScheduler.generate(theDataGenModel);
          System.out.println("  finished data generation");
       }
       
       catch (IOException e)
       {
+         System.out.println("  data generation failed: " + e.getMessage());
+         JOptionPane.showMessageDialog(
+            theAppFrame,
+            "Data generation failed: " + e.getMessage(),
+            "Notice",
+            JOptionPane.INFORMATION_MESSAGE,
+            null);
+      }
+
+   }
+
+   /*
+    * saveModel
+    *
+    * This method saves the model content to an options file the user picks
+    */
+   
+   private void saveModel()
+   {
+      if (TRACE)
+         System.out.println("DataGenerator: save options file ");
+
+      // get file for model update
+      String outputFn = getOutputFilename();
+      if (outputFn.length() == 0)
+         return;
+
+      // do model update
+      if (theDataGenModel.writeData(outputFn) == false)
+      {
+         JOptionPane.showMessageDialog(
+            theAppFrame,
+            "Error saving to options file.",
+            "Notice",
+            JOptionPane.INFORMATION_MESSAGE,
+            null);
+      }
+   }
+
+   /**
+    * loadModel
+    *
+    * This method loads the model content from an options file the user picks
+    */
+   private void loadModel()
+   {
+      if (TRACE)
+         System.out.println("DataGenerator: load options file");
+
+      // get file for model update
+      String inputFn = getInputFilename();
+      if (inputFn.length() == 0)
+         return;
+
+      // do model update
+      if (theDataGenModel.readData(inputFn) == false)
+      {
+         JOptionPane.showMessageDialog(
+            theAppFrame,
+            "Error opening selected options file.",
+            "Notice",
+            JOptionPane.INFORMATION_MESSAGE,
+            null);
       }
+   }
 
+   /**
+    * getInputFilename()
+    *
+    * This method returns the input filename
+    */
+   private String getInputFilename()
+   {
+      String fn = "";
+
+      // setup file chooser
+      JFileChooser csvChooser = new JFileChooser();
+      CSVFileFilter filter = new CSVFileFilter();
+      csvChooser.setFileFilter(filter);
+
+      // prompt user for input file
+      int returnVal = csvChooser.showOpenDialog(theAppFrame);
+
+      // process result
+      if (returnVal == JFileChooser.APPROVE_OPTION)
+      {
+         fn = csvChooser.getSelectedFile().getPath();
+         if (TRACE)
+            System.out.println("DataGenerator: opening " + fn);
+      }
+      return fn;
    }
 
+   /*
+    * getOutputFilename()
+    *
+    * This method returns the output filename
+    */
+   
+   private String getOutputFilename()
+   {
+      String fn = "";
+
+      // setup file chooser
+      JFileChooser csvChooser = new JFileChooser();
+      CSVFileFilter filter = new CSVFileFilter();
+      csvChooser.setFileFilter(filter);
+
+      // prompt user for output file
+      int returnVal = csvChooser.showSaveDialog(theAppFrame);
+
+      // process result
+      if (returnVal == JFileChooser.APPROVE_OPTION)
+      {
+         fn = csvChooser.getSelectedFile().getPath();
+         if (TRACE)
+            System.out.println("DataGenerator: saving " + fn);
+      }
+      return fn;
+   }
 }
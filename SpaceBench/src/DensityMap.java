@@ -0,0 +1,175 @@
+/*
+ * DensityMap.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with reading a grayscale raster that says how
+ * densely each part of the scene is populated
+ */
+
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.*;
+import javax.imageio.ImageIO;
+
+public class DensityMap {
+
+   /*
+    * DensityMap
+    *
+    * The weight of each pixel of a PGM (P2 or P5) or any raster ImageIO
+    * reads, PNG included.  Brighter pixels are denser; black pixels get no
+    * geometries.  Color images are weighted by luminance.  Weights are
+    * kept row by row from the top row of the image, as it is stored.
+    */
+
+   //***
+   // instance variables
+   //***
+
+   private final int theWidth;
+   private final int theHeight;
+   private final double[] theWeights;
+
+   private DensityMap(int aWidth, int aHeight, double[] aWeights)
+   {
+      theWidth = aWidth;
+      theHeight = aHeight;
+      theWeights = aWeights;
+   }
+
+   /*
+    * read
+    *
+    * This method reads the density map in aFilename, as PGM when its
+    * name ends in .pgm and through ImageIO otherwise
+    */
+
+   public static DensityMap read(String aFilename) throws IOException
+   {
+      DensityMap map;
+      InputStream in = new BufferedInputStream(new FileInputStream(aFilename));
+      try
+      {
+         if (aFilename.toLowerCase().endsWith(".pgm"))
+            map = readPgm(in);
+         else
+            map = readImage(in);
+      }
+      finally
+      {
+         in.close();
+      }
+
+      for (double weight : map.theWeights)
+      {
+         if (weight > 0)
+            return map;
+      }
+      throw new IOException("density map " + aFilename + " is black everywhere");
+   }
+
+   public int getWidth()
+   {
+      return theWidth;
+   }
+
+   public int getHeight()
+   {
+      return theHeight;
+   }
+
+   public double[] getWeights()
+   {
+      return theWeights;
+   }
+
+   // Reads a binary (P5) or plain (P2) portable graymap
+   private static DensityMap readPgm(InputStream in) throws IOException
+   {
+      String magic = readToken(in);
+      if (magic.equals("P5") == false && magic.equals("P2") == false)
+         throw new IOException("not a PGM file, magic number " + magic);
+      int width = Integer.parseInt(readToken(in));
+      int height = Integer.parseInt(readToken(in));
+      int maxValue = Integer.parseInt(readToken(in));
+      if (width <= 0 || height <= 0 || maxValue <= 0 || maxValue > 65535 || (long)width * height > Integer.MAX_VALUE)
+         throw new IOException("bad PGM header " + width + " x " + height + ", maximum " + maxValue);
+
+      double[] weights = new double[width * height];
+      for (int i = 0; i < weights.length; i++)
+      {
+         int value;
+         if (magic.equals("P2"))
+            value = Integer.parseInt(readToken(in));
+         else if (maxValue < 256)
+            value = readByte(in);
+         else
+            value = (readByte(in) << 8) | readByte(in);
+         weights[i] = value;
+      }
+      return new DensityMap(width, height, weights);
+   }
+
+   // Reads any image ImageIO knows, gray by its first band, color by luminance
+   private static DensityMap readImage(InputStream in) throws IOException
+   {
+      BufferedImage image = ImageIO.read(in);
+      if (image == null)
+         throw new IOException("unsupported density map format");
+      int width = image.getWidth();
+      int height = image.getHeight();
+      Raster raster = image.getRaster();
+      boolean gray = (image.getColorModel().getNumColorComponents() == 1);
+
+      double[] weights = new double[width * height];
+      for (int row = 0; row < height; row++)
+      {
+         for (int col = 0; col < width; col++)
+         {
+            if (gray)
+               weights[row * width + col] = raster.getSample(col, row, 0);
+            else
+            {
+               int rgb = image.getRGB(col, row);
+               weights[row * width + col] = 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF)
+                                            + 0.114 * (rgb & 0xFF);
+            }
+         }
+      }
+      return new DensityMap(width, height, weights);
+   }
+
+   // Reads one whitespace separated header token, skipping # comments
+   private static String readToken(InputStream in) throws IOException
+   {
+      StringBuilder token = new StringBuilder();
+      int c = readByte(in);
+      while (true)
+      {
+         if (c == '#')
+         {
+            while (c != '\n' && c != '\r')
+               c = readByte(in);
+         }
+         if (Character.isWhitespace(c) == false)
+            break;
+         c = readByte(in);
+      }
+      while (c >= 0 && Character.isWhitespace(c) == false)
+      {
+         token.append((char)c);
+         c = in.read();
+      }
+      return token.toString();
+   }
+
+   private static int readByte(InputStream in) throws IOException
+   {
+      int c = in.read();
+      if (c < 0)
+         throw new EOFException("density map ends early");
+      return c;
+   }
+}
@@ -0,0 +1,345 @@
+/*
+ * DiskPointSet.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with remembering which points were already
+ * generated when there are too many of them for the heap
+ */
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+public class DiskPointSet implements Closeable {
+
+   /*
+    * DiskPointSet
+    *
+    * An exact set of (x, y) points kept on disk, for unique point runs too
+    * large for a PointHashSet.  Every point goes through a memory-mapped
+    * BlockedBloomFilter first.  A point the filter has never seen is new:
+    * it is passed on at once and appended to one of PARTITION_COUNT
+    * partition files, chosen by its hash.
+    *
+    * A point the filter may have seen is a suspect.  Suspects wait in
+    * their partition's queue, and when the queue fills the partition file
+    * is read through once to sort them into true duplicates, which are
+    * dropped, and filter false positives, which are passed on late.  Heap
+    * use is fixed by PARTITION_COUNT and SUSPECTS_PER_PARTITION whatever
+    * the number of points.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final boolean TRACE = false;
+
+   private static final int PARTITION_COUNT = 256;
+   private static final int SUSPECTS_PER_PARTITION = 8192;
+
+   private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+   private static final int READ_BUFFER_SIZE = 1024 * 1024;
+   private static final int RECORD_SIZE = 16;
+
+   private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+   /*
+    * PointSink
+    *
+    * Receives each point once it is known to be new
+    */
+
+   interface PointSink
+   {
+      void point(double x, double y) throws IOException;
+   }
+
+   //***
+   // instance variables
+   //***
+
+   private final File theDirectory;
+   private final BlockedBloomFilter theFilter;
+   private final File[] theFiles;
+   private final FileChannel[] theChannels;
+   private final ByteBuffer[] theWriteBuffers;
+   private final ByteBuffer theReadBuffer;
+
+   // suspects waiting, per partition, in arrival order
+   private final double[][] theSuspectX;
+   private final double[][] theSuspectY;
+   private final int[] theSuspectCounts;
+   private long thePendingCount;
+
+   // reused while a partition's suspects are checked
+   private final PointHashSet theSuspects;
+   private final PointHashSet theFound;
+
+   // statistics
+   private long theNewCount;
+   private long theSuspectCount;
+   private long theFalsePositiveCount;
+   private long theDuplicateCount;
+   private long theBytesScanned;
+
+   /*
+    * DiskPointSet
+    *
+    * This constructor creates aDirectory to hold the filter and partition
+    * files, sizing the filter for anExpectedSize points.  Files left there
+    * by an earlier run are emptied, so their points are not taken as seen.
+    */
+
+   DiskPointSet(File aDirectory, long anExpectedSize) throws IOException
+   {
+      theDirectory = aDirectory;
+      if (aDirectory.isDirectory() == false && aDirectory.mkdirs() == false)
+         throw new IOException("cannot create " + aDirectory);
+
+      theFiles = new File[PARTITION_COUNT];
+      theChannels = new FileChannel[PARTITION_COUNT];
+      theWriteBuffers = new ByteBuffer[PARTITION_COUNT];
+      theSuspectX = new double[PARTITION_COUNT][];
+      theSuspectY = new double[PARTITION_COUNT][];
+      theSuspectCounts = new int[PARTITION_COUNT];
+      theReadBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE).order(ByteOrder.nativeOrder());
+      theSuspects = new PointHashSet(SUSPECTS_PER_PARTITION);
+      theFound = new PointHashSet(SUSPECTS_PER_PARTITION);
+
+      theFilter = new BlockedBloomFilter(new File(aDirectory, "bloom"), anExpectedSize);
+      try
+      {
+         for (int i = 0; i < PARTITION_COUNT; i++)
+         {
+            theFiles[i] = new File(aDirectory, "partition-" + i);
+            theChannels[i] = new RandomAccessFile(theFiles[i], "rw").getChannel();
+            theChannels[i].truncate(0);
+            theWriteBuffers[i] = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.nativeOrder());
+         }
+      }
+      catch (IOException e)
+      {
+         close();
+         throw e;
+      }
+   }
+
+   /*
+    * add
+    *
+    * This method offers the point (x, y).  A new point reaches aSink now or
+    * from a later add or flush; a duplicate never does.
+    */
+
+   public void add(double x, double y, PointSink aSink) throws IOException
+   {
+      x += 0.0;
+      y += 0.0;
+      long hash = RandomStreams.mix64(Double.doubleToLongBits(x) * GOLDEN_GAMMA + Double.doubleToLongBits(y));
+      int partition = (int)(hash >>> 56);
+
+      if (theFilter.add(hash) == false)
+      {
+         append(partition, x, y);
+         theNewCount++;
+         aSink.point(x, y);
+         return;
+      }
+
+      // the filter may have seen it, hold it until the partition is read
+      if (theSuspectX[partition] == null)
+      {
+         theSuspectX[partition] = new double[SUSPECTS_PER_PARTITION];
+         theSuspectY[partition] = new double[SUSPECTS_PER_PARTITION];
+      }
+      theSuspectX[partition][theSuspectCounts[partition]] = x;
+      theSuspectY[partition][theSuspectCounts[partition]] = y;
+      theSuspectCount++;
+      thePendingCount++;
+      if (++theSuspectCounts[partition] == SUSPECTS_PER_PARTITION)
+         resolve(partition, aSink);
+   }
+
+   /*
+    * flush
+    *
+    * This method settles every waiting suspect, passing the new ones to
+    * aSink
+    */
+
+   public void flush(PointSink aSink) throws IOException
+   {
+      for (int i = 0; i < PARTITION_COUNT; i++)
+      {
+         if (theSuspectCounts[i] > 0)
+            resolve(i, aSink);
+      }
+   }
+
+   /*
+    * getPendingCount
+    *
+    * This method returns how many suspects are still waiting
+    */
+
+   public long getPendingCount()
+   {
+      return thePendingCount;
+   }
+
+   public long getNewCount()
+   {
+      return theNewCount;
+   }
+
+   public long getSuspectCount()
+   {
+      return theSuspectCount;
+   }
+
+   public long getFalsePositiveCount()
+   {
+      return theFalsePositiveCount;
+   }
+
+   public long getDuplicateCount()
+   {
+      return theDuplicateCount;
+   }
+
+   public long getBytesScanned()
+   {
+      return theBytesScanned;
+   }
+
+   /*
+    * getFalseDuplicateRate
+    *
+    * This method returns the fraction of new points the filter wrongly
+    * took for duplicates
+    */
+
+   public double getFalseDuplicateRate()
+   {
+      return theNewCount == 0 ? 0 : (double)theFalsePositiveCount / theNewCount;
+   }
+
+   /*
+    * close
+    *
+    * This method closes and deletes every file of the set
+    */
+
+   public void close() throws IOException
+   {
+      IOException failure = null;
+      for (int i = 0; i < PARTITION_COUNT; i++)
+      {
+         try
+         {
+            if (theChannels[i] != null)
+               theChannels[i].close();
+         }
+         catch (IOException e)
+         {
+            failure = e;
+         }
+         if (theFiles[i] != null)
+            theFiles[i].delete();
+      }
+      try
+      {
+         if (theFilter != null)
+            theFilter.close();
+      }
+      catch (IOException e)
+      {
+         failure = e;
+      }
+      theDirectory.delete();
+      if (failure != null)
+         throw failure;
+   }
+
+   // Appends one point to a partition file
+   private void append(int aPartition, double x, double y) throws IOException
+   {
+      ByteBuffer buffer = theWriteBuffers[aPartition];
+      if (buffer.remaining() < RECORD_SIZE)
+         drain(aPartition);
+      buffer.putDouble(x);
+      buffer.putDouble(y);
+   }
+
+   // Writes a partition's buffered points to its file
+   private void drain(int aPartition) throws IOException
+   {
+      ByteBuffer buffer = theWriteBuffers[aPartition];
+      buffer.flip();
+      while (buffer.hasRemaining())
+         theChannels[aPartition].write(buffer);
+      buffer.clear();
+   }
+
+   // Reads a partition once to settle its suspects
+   private void resolve(int aPartition, PointSink aSink) throws IOException
+   {
+      int count = theSuspectCounts[aPartition];
+      double[] xs = theSuspectX[aPartition];
+      double[] ys = theSuspectY[aPartition];
+      theSuspects.clear();
+      theFound.clear();
+
+      for (int i = 0; i < count; i++)
+         theSuspects.add(xs[i], ys[i]);
+
+      // find which suspects the partition already holds
+      drain(aPartition);
+      FileChannel channel = theChannels[aPartition];
+      long position = 0;
+      long size = channel.size();
+      while (position < size)
+      {
+         theReadBuffer.clear();
+         int read = channel.read(theReadBuffer, position);
+         if (read < 0)
+            break;
+         position += read;
+         theReadBuffer.flip();
+         while (theReadBuffer.remaining() >= RECORD_SIZE)
+         {
+            double x = theReadBuffer.getDouble();
+            double y = theReadBuffer.getDouble();
+            if (theSuspects.contains(x, y))
+               theFound.add(x, y);
+         }
+         position -= theReadBuffer.remaining();
+      }
+      theBytesScanned += size;
+
+      // pass on the first sighting of each suspect not found, later
+      // sightings finding it in theFound like the points on file
+      for (int i = 0; i < count; i++)
+      {
+         if (theFound.add(xs[i], ys[i]))
+         {
+            append(aPartition, xs[i], ys[i]);
+            theFalsePositiveCount++;
+            theNewCount++;
+            aSink.point(xs[i], ys[i]);
+         }
+         else
+            theDuplicateCount++;
+      }
+      theSuspectCounts[aPartition] = 0;
+      thePendingCount -= count;
+
+      if (TRACE)
+         System.out.println("DiskPointSet: partition " + aPartition + ", " + count + " suspects, "
+                            + size + " bytes scanned");
+   }
+}
@@ -0,0 +1,428 @@
+/*
+ * DoubleFormat.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with writing doubles as ASCII digits straight into
+ * a byte array
+ */
+
+import java.math.BigInteger;
+
+public final class DoubleFormat {
+
+   /*
+    * DoubleFormat
+    *
+    * Formats a double with the fewest decimal digits that still read back
+    * as the same double, using Giulietti's Schubfach algorithm ("The
+    * Schubfach way to render doubles", 2020).  The layout follows
+    * Double.toString: plain notation for 1.0E-3 <= |v| < 1.0E7 and
+    * computerized scientific notation otherwise.  Nothing is allocated per
+    * call; the digits are written into the caller's array.
+    */
+
+   //***
+   // class variables
+   //***
+
+   // the longest output, e.g. -2.2250738585072014E-308
+   public static final int MAX_LENGTH = 24;
+
+   // the most decimal places writeFixed accepts
+   public static final int MAX_DECIMALS = 15;
+
+   // scaled values at or above this are written in shortest form instead
+   private static final double FIXED_LIMIT = 0x1.0p62;
+
+   private static final int P = 53;
+   private static final int Q_MIN = -1074;
+   private static final long C_MIN = 1L << (P - 1);
+   private static final long C_TINY = 3;
+   private static final int H = 17;
+   private static final long T_MASK = (1L << (P - 1)) - 1;
+   private static final int BQ_MASK = (1 << 11) - 1;
+   private static final long MASK_63 = (1L << 63) - 1;
+
+   // range of k for which g1 and g0 are tabulated
+   private static final int K_MIN = -324;
+   private static final int K_MAX = 292;
+
+   // floor(10^-k 2^-r) + 1 with 2^125 <= 10^-k 2^-r < 2^126, split in 63-bit halves
+   private static final long[] G = buildTable();
+
+   // 10^0 through 10^18
+   private static final long[] POW10 = new long[19];
+   static
+   {
+      POW10[0] = 1;
+      for (int i = 1; i < POW10.length; i++)
+         POW10[i] = POW10[i - 1] * 10;
+   }
+
+   // tens and ones digit of 0 through 99
+   private static final byte[] DIGIT_TENS = new byte[100];
+   private static final byte[] DIGIT_ONES = new byte[100];
+   static
+   {
+      for (int i = 0; i < 100; i++)
+      {
+         DIGIT_TENS[i] = (byte)('0' + i / 10);
+         DIGIT_ONES[i] = (byte)('0' + i % 10);
+      }
+   }
+
+   private static final byte[] NAN = { 'N', 'a', 'N' };
+   private static final byte[] INFINITY = { 'I', 'n', 'f', 'i', 'n', 'i', 't', 'y' };
+
+   private DoubleFormat()
+   {
+   }
+
+   /*
+    * write
+    *
+    * This method writes the shortest decimal form of aValue at aPos and
+    * returns the position after the last byte written.  aBuffer needs
+    * MAX_LENGTH bytes of room.
+    */
+
+   public static int write(double aValue, byte[] aBuffer, int aPos)
+   {
+      long bits = Double.doubleToRawLongBits(aValue);
+      long t = bits & T_MASK;
+      int bq = (int)(bits >>> (P - 1)) & BQ_MASK;
+
+      // NaN and the infinities
+      if (bq == BQ_MASK)
+      {
+         if (t != 0)
+            return copy(NAN, aBuffer, aPos);
+         if (bits < 0)
+            aBuffer[aPos++] = '-';
+         return copy(INFINITY, aBuffer, aPos);
+      }
+
+      if (bits < 0)
+         aBuffer[aPos++] = '-';
+
+      // normal values
+      if (bq != 0)
+      {
+         int mq = -Q_MIN + 1 - bq;
+         long c = C_MIN | t;
+
+         // integers below 2^53 need no search
+         if (0 < mq && mq < P)
+         {
+            long f = c >> mq;
+            if (f << mq == c)
+               return layout(f, 0, aBuffer, aPos);
+         }
+         return toDecimal(-mq, c, 0, aBuffer, aPos);
+      }
+
+      // subnormal values and zero
+      if (t != 0)
+         return t < C_TINY
+            ? toDecimal(Q_MIN, 10 * t, -1, aBuffer, aPos)
+            : toDecimal(Q_MIN, t, 0, aBuffer, aPos);
+      aBuffer[aPos++] = '0';
+      aBuffer[aPos++] = '.';
+      aBuffer[aPos++] = '0';
+      return aPos;
+   }
+
+   /*
+    * writeFixed
+    *
+    * This method rounds aValue to aDecimals decimal places and writes it
+    * at aPos as plain digits, e.g. 12.50 for two places.  The value is
+    * scaled to a long once and printed with integer arithmetic only.
+    * Values too large to scale, NaN and the infinities fall back to
+    * write.  Returns the position after the last byte written; aBuffer
+    * needs MAX_LENGTH bytes of room.
+    */
+
+   public static int writeFixed(double aValue, int aDecimals, byte[] aBuffer, int aPos)
+   {
+      long scale = POW10[aDecimals];
+      double scaled = aValue * scale;
+      if (!(Math.abs(scaled) < FIXED_LIMIT))
+         return write(aValue, aBuffer, aPos);
+
+      long units = Math.round(scaled);
+      if (units < 0)
+      {
+         aBuffer[aPos++] = '-';
+         units = -units;
+      }
+      long whole = units / scale;
+      aPos = writeInt(whole, aBuffer, aPos);
+      if (aDecimals > 0)
+      {
+         aBuffer[aPos++] = '.';
+         aPos = writeDigits(units - whole * scale, aDecimals, aBuffer, aPos);
+      }
+      return aPos;
+   }
+
+   // Finds the shortest decimal in the rounding interval of c 2^q
+   private static int toDecimal(int q, long c, int dk, byte[] aBuffer, int aPos)
+   {
+      int out = (int)c & 0x1;
+      long cb = c << 2;
+      long cbr = cb + 2;
+      long cbl;
+      int k;
+      if (c != C_MIN || q == Q_MIN)
+      {
+         cbl = cb - 2;
+         k = flog10pow2(q);
+      }
+      else
+      {
+         cbl = cb - 1;
+         k = flog10threeQuartersPow2(q);
+      }
+      int h = q + flog2pow10(-k) + 2;
+
+      long g1 = G[2 * (k - K_MIN)];
+      long g0 = G[2 * (k - K_MIN) + 1];
+
+      long vb = rop(g1, g0, cb << h);
+      long vbl = rop(g1, g0, cbl << h);
+      long vbr = rop(g1, g0, cbr << h);
+
+      long s = vb >> 2;
+      if (s >= 100)
+      {
+         // try one digit less: sp10 = 10 floor(s / 10)
+         long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+         long tp10 = sp10 + 10;
+         boolean upin = vbl + out <= sp10 << 2;
+         boolean wpin = (tp10 << 2) + out <= vbr;
+         if (upin != wpin)
+            return layout(upin ? sp10 : tp10, k, aBuffer, aPos);
+      }
+
+      long tt = s + 1;
+      boolean uin = vbl + out <= s << 2;
+      boolean win = (tt << 2) + out <= vbr;
+      if (uin != win)
+         return layout(uin ? s : tt, k + dk, aBuffer, aPos);
+
+      // both candidates are in the interval, pick the closer one (even on ties)
+      long cmp = vb - ((s + tt) << 1);
+      return layout(cmp < 0 || (cmp == 0 && (s & 0x1) == 0) ? s : tt, k + dk, aBuffer, aPos);
+   }
+
+   // Writes f 10^e in the layout of Double.toString
+   private static int layout(long f, int e, byte[] aBuffer, int aPos)
+   {
+      // drop trailing zeros
+      while (f % 10 == 0)
+      {
+         f /= 10;
+         e++;
+      }
+
+      // number of digits, and the exponent of the value written as 0.ddd 10^dp
+      int len = digitCount(f);
+      int dp = len + e;
+
+      if (0 < dp && dp <= 7)
+      {
+         // plain notation, ddd.ddd
+         if (len <= dp)
+         {
+            aPos = writeDigits(f, len, aBuffer, aPos);
+            for (int i = len; i < dp; i++)
+               aBuffer[aPos++] = '0';
+            aBuffer[aPos++] = '.';
+            aBuffer[aPos++] = '0';
+         }
+         else
+         {
+            int start = aPos;
+            aPos = writeDigits(f, len, aBuffer, aPos + 1);
+            System.arraycopy(aBuffer, start + 1, aBuffer, start, dp);
+            aBuffer[start + dp] = '.';
+         }
+         return aPos;
+      }
+      if (-3 < dp && dp <= 0)
+      {
+         // plain notation, 0.000ddd
+         aBuffer[aPos++] = '0';
+         aBuffer[aPos++] = '.';
+         for (int i = dp; i < 0; i++)
+            aBuffer[aPos++] = '0';
+         return writeDigits(f, len, aBuffer, aPos);
+      }
+
+      // scientific notation, d.dddEx
+      int start = aPos;
+      aPos = writeDigits(f, len, aBuffer, aPos + 1);
+      aBuffer[start] = aBuffer[start + 1];
+      aBuffer[start + 1] = '.';
+      if (len == 1)
+         aBuffer[aPos++] = '0';
+      aBuffer[aPos++] = 'E';
+      return writeInt(dp - 1, aBuffer, aPos);
+   }
+
+   /*
+    * writeDigits
+    *
+    * This method writes the aLength decimal digits of the non-negative
+    * aValue, with leading zeros if needed, and returns the position after
+    * them
+    */
+
+   static int writeDigits(long aValue, int aLength, byte[] aBuffer, int aPos)
+   {
+      int end = aPos + aLength;
+      int i = end;
+
+      // peel off eight digits at a time so the rest runs on int arithmetic
+      while (aValue >= 100000000L)
+      {
+         long q = aValue / 100000000L;
+         int r = (int)(aValue - q * 100000000L);
+         aValue = q;
+         for (int k = 0; k < 4; k++)
+         {
+            int q2 = r / 100;
+            int d = r - q2 * 100;
+            aBuffer[--i] = DIGIT_ONES[d];
+            aBuffer[--i] = DIGIT_TENS[d];
+            r = q2;
+         }
+      }
+
+      // two digits at a time, leading zeros up to aLength
+      int v = (int)aValue;
+      while (i - aPos >= 2)
+      {
+         int q2 = v / 100;
+         int d = v - q2 * 100;
+         aBuffer[--i] = DIGIT_ONES[d];
+         aBuffer[--i] = DIGIT_TENS[d];
+         v = q2;
+      }
+      if (i > aPos)
+         aBuffer[--i] = (byte)('0' + v % 10);
+      return end;
+   }
+
+   /*
+    * writeInt
+    *
+    * This method writes a signed integer and returns the position after it
+    */
+
+   static int writeInt(long aValue, byte[] aBuffer, int aPos)
+   {
+      if (aValue < 0)
+      {
+         aBuffer[aPos++] = '-';
+         if (aValue == Long.MIN_VALUE)
+         {
+            // -2^63 has no positive counterpart, write its leading digit first
+            aBuffer[aPos++] = '9';
+            return writeDigits(-(aValue + 9 * POW10[18]), 18, aBuffer, aPos);
+         }
+         aValue = -aValue;
+      }
+      return writeDigits(aValue, digitCount(aValue), aBuffer, aPos);
+   }
+
+   /*
+    * digitCount
+    *
+    * This method returns the number of decimal digits of the non-negative
+    * aValue
+    */
+
+   static int digitCount(long aValue)
+   {
+      // estimate from the bit length, then correct by at most one
+      int len = flog10pow2(64 - Long.numberOfLeadingZeros(aValue));
+      if (len < POW10.length && aValue >= POW10[len])
+         len++;
+      return Math.max(len, 1);
+   }
+
+   private static int copy(byte[] aSource, byte[] aBuffer, int aPos)
+   {
+      System.arraycopy(aSource, 0, aBuffer, aPos, aSource.length);
+      return aPos + aSource.length;
+   }
+
+   //***
+   // fixed point helpers of the Schubfach paper
+   //***
+
+   // floor(q log10(2))
+   private static int flog10pow2(int q)
+   {
+      return (int)((q * 661971961083L) >> 41);
+   }
+
+   // floor(log10(3/4 2^q))
+   private static int flog10threeQuartersPow2(int q)
+   {
+      return (int)((q * 661971961083L + -274743187321L) >> 41);
+   }
+
+   // floor(e log2(10))
+   private static int flog2pow10(int e)
+   {
+      return (int)((e * 913124641741L) >> 38);
+   }
+
+   // round to odd of (g1 2^63 + g0) cp 2^-127
+   private static long rop(long g1, long g0, long cp)
+   {
+      long x1 = multiplyHigh(g0, cp);
+      long y0 = g1 * cp;
+      long y1 = multiplyHigh(g1, cp);
+      long z = (y0 >>> 1) + x1;
+      long vbp = y1 + (z >>> 63);
+      return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+   }
+
+   // high 64 bits of the signed 128-bit product, Math.multiplyHigh is Java 9+
+   private static long multiplyHigh(long x, long y)
+   {
+      long x1 = x >> 32;
+      long x2 = x & 0xFFFFFFFFL;
+      long y1 = y >> 32;
+      long y2 = y & 0xFFFFFFFFL;
+      long z2 = x2 * y2;
+      long t = x1 * y2 + (z2 >>> 32);
+      long z1 = t & 0xFFFFFFFFL;
+      long z0 = t >> 32;
+      z1 += x2 * y1;
+      return x1 * y1 + z0 + (z1 >> 32);
+   }
+
+   // Computes g1 and g0 for every k once, at class load
+   private static long[] buildTable()
+   {
+      long[] table = new long[2 * (K_MAX - K_MIN + 1)];
+      BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+      for (int k = K_MIN; k <= K_MAX; k++)
+      {
+         int r = flog2pow10(-k) - 125;
+         BigInteger num = BigInteger.TEN.pow(Math.max(-k, 0)).shiftLeft(Math.max(-r, 0));
+         BigInteger den = BigInteger.TEN.pow(Math.max(k, 0)).shiftLeft(Math.max(r, 0));
+         BigInteger g = num.divide(den).add(BigInteger.ONE);
+         table[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+         table[2 * (k - K_MIN) + 1] = g.and(mask63).longValue();
+      }
+      return table;
+   }
+}
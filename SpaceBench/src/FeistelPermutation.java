@@ -0,0 +1,100 @@
+/*
+ * FeistelPermutation.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with shuffling the numbers 0 to n - 1 without
+ * storing them
+ */
+
+public class FeistelPermutation {
+
+   /*
+    * FeistelPermutation
+    *
+    * A keyed bijection of [0, n).  An index is split into two halves of
+    * equal bit width and put through ROUNDS rounds of a balanced Feistel
+    * network whose round function is mix64 of the right half and a round
+    * key.  That permutes [0, 4^h) for the smallest h with 4^h >= n; an
+    * image outside [0, n) is encrypted again until it falls inside
+    * ("cycle walking"), which keeps the map a bijection of [0, n) and takes
+    * fewer than four rounds trips on average.
+    *
+    * apply(0), apply(1), ... therefore visits distinct values, so the first
+    * k of them are k draws without replacement, in O(1) memory and with
+    * every index computed on its own.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final int ROUNDS = 6;
+
+   private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+   //***
+   // instance variables
+   //***
+
+   private final long theSize;
+   private final int theHalfBits;
+   private final long theHalfMask;
+   private final long[] theRoundKeys;
+
+   /*
+    * FeistelPermutation
+    *
+    * This constructor sets up the permutation of [0, aSize) selected by aKey
+    */
+
+   FeistelPermutation(long aSize, long aKey)
+   {
+      if (aSize < 1 || aSize > (1L << 62))
+         throw new IllegalArgumentException("permutation size out of range: " + aSize);
+      theSize = aSize;
+      int bits = 64 - Long.numberOfLeadingZeros(aSize - 1);
+      theHalfBits = Math.max(1, (bits + 1) / 2);
+      theHalfMask = (1L << theHalfBits) - 1;
+      theRoundKeys = new long[ROUNDS];
+      for (int i = 0; i < ROUNDS; i++)
+         theRoundKeys[i] = RandomStreams.mix64(aKey + (i + 1) * GOLDEN_GAMMA);
+   }
+
+   /*
+    * apply
+    *
+    * This method returns the image of anIndex, which must lie in [0, n)
+    */
+
+   public long apply(long anIndex)
+   {
+      long value = anIndex;
+      do
+      {
+         value = encrypt(value);
+      }
+      while (value >= theSize);
+      return value;
+   }
+
+   public long size()
+   {
+      return theSize;
+   }
+
+   // One pass of the Feistel network over [0, 4^h)
+   private long encrypt(long aValue)
+   {
+      long left = aValue >>> theHalfBits;
+      long right = aValue & theHalfMask;
+      for (int i = 0; i < ROUNDS; i++)
+      {
+         long next = left ^ (RandomStreams.mix64(right ^ theRoundKeys[i]) & theHalfMask);
+         left = right;
+         right = next;
+      }
+      return (left << theHalfBits) | right;
+   }
+}
@@ -0,0 +1,241 @@
+/*
+ * GeneratorScheduler.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with running the enabled data generators, each as an
+ * independent task on a bounded pool of generator threads
+ */
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class GeneratorScheduler {
+
+   /*
+    * GeneratorScheduler
+    *
+    * This class owns the data generators and runs every enabled one as a
+    * separate task.  At most theGeneratorThreadCount generators run at the
+    * same time, a report is printed as each one completes, and the first
+    * failure cancels the generators that are still running.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final boolean TRACE = false;
+
+   //***
+   // instance variables
+   //***
+
+   // data generators
+   private PointGenerator thePointGenerator;
+   private SquareGenerator theSquareGenerator;
+   private TriangleGenerator theTriangleGenerator;
+   private PolygonGenerator thePolygonGenerator;
+   private LineStringGenerator theLineStringGenerator;
+   private RandomWalkGenerator theRandomWalkGenerator;
+   private ConicSpiralGenerator theConicSpiralGenerator;
+   private MidPointDisplacementGenerator theMidPointDisplacementGenerator;
+   private QuickStarPolygonGenerator theQuickStarPolygonGenerator;
+
+   /*
+    * Task
+    *
+    * A single generator run against the data model
+    */
+
+   interface Task
+   {
+      void generate(DataGenModel aModel) throws IOException;
+   }
+
+   /*
+    * Report
+    *
+    * The completion report of a single generator run
+    */
+
+   static class Report
+   {
+      final String theName;
+      final long theElapsedMillis;
+
+      Report(String aName, long anElapsedMillis)
+      {
+         theName = aName;
+         theElapsedMillis = anElapsedMillis;
+      }
+   }
+
+   GeneratorScheduler()
+   {
+      thePointGenerator = new PointGenerator();
+      theSquareGenerator = new SquareGenerator();
+      theTriangleGenerator = new TriangleGenerator();
+      thePolygonGenerator = new PolygonGenerator();
+      theLineStringGenerator = new LineStringGenerator();
+      theRandomWalkGenerator = new RandomWalkGenerator();
+      theConicSpiralGenerator = new ConicSpiralGenerator();
+      theMidPointDisplacementGenerator = new MidPointDisplacementGenerator();
+      theQuickStarPolygonGenerator = new QuickStarPolygonGenerator();
+   }
+
+   /*
+    * generate
+    *
+    * This method runs every enabled generator and returns their completion
+    * reports in the order they finished.  The first generator to fail
+    * cancels the others and its failure is rethrown once they have stopped.
+    */
+
+   public List<Report> generate(final DataGenModel aModel) throws IOException
+   {
+      //***
+      // collect the enabled generators
+      //***
+
+      Map<String, Task> tasks = new LinkedHashMap<String, Task>();
+      if (aModel.theGeneratePointsFlag)
+         tasks.put("points", thePointGenerator::generate);
+      if (aModel.theGenerateSquaresFlag)
+         tasks.put("squares", theSquareGenerator::generate);
+      if (aModel.theGenerateTrianglesFlag)
+         tasks.put("triangles", theTriangleGenerator::generate);
+      if (aModel.theGeneratePolygonsFlag)
+         tasks.put("polygons", thePolygonGenerator::generate);
+      if (aModel.theGenerateLineStringsFlag)
+         tasks.put("line strings", theLineStringGenerator::generate);
+      if (aModel.theGenerateRandomWalksFlag)
+         tasks.put("random walks", theRandomWalkGenerator::generate);
+      if (aModel.theGenerateConicSpiralsFlag)
+         tasks.put("conic spirals", theConicSpiralGenerator::generate);
+      if (aModel.theGenerateMidpointDisplacementsFlag)
+         tasks.put("midpoint displacements", theMidPointDisplacementGenerator::generate);
+      if (aModel.theGenerateQSPolygonsFlag)
+         tasks.put("quick-star polygons", theQuickStarPolygonGenerator::generate);
+
+      List<Report> reports = new ArrayList<Report>();
+      if (tasks.isEmpty())
+         return reports;
+
+      //***
+      // schedule them on a bounded pool
+      //***
+
+      int threadCount = Math.max(1, Math.min(aModel.theGeneratorThreadCount, tasks.size()));
+      if (TRACE)
+         System.out.println("GeneratorScheduler: " + tasks.size() + " generators on " + threadCount + " threads");
+
+      ExecutorService pool = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+         private int theThreadCount = 0;
+
+         public synchronized Thread newThread(Runnable aRunnable)
+         {
+            Thread thread = new Thread(aRunnable, "generator-" + (++theThreadCount));
+            thread.setDaemon(true);
+            return thread;
+         }
+      });
+      CompletionService<Report> completed = new ExecutorCompletionService<Report>(pool);
+      List<Future<Report>> futures = new ArrayList<Future<Report>>();
+
+      try
+      {
+         for (Map.Entry<String, Task> entry : tasks.entrySet())
+         {
+            final String name = entry.getKey();
+            final Task task = entry.getValue();
+            futures.add(completed.submit(new Callable<Report>() {
+               public Report call() throws IOException
+               {
+                  long start = System.nanoTime();
+                  task.generate(aModel);
+                  return new Report(name, (System.nanoTime() - start) / 1000000);
+               }
+            }));
+         }
+
+         //***
+         // report each generator as it completes
+         //***
+
+         for (int i = 0; i < futures.size(); i++)
+         {
+            Report report = completed.take().get();
+            reports.add(report);
+            System.out.println("  finished " + report.theName + " in " + report.theElapsedMillis + " ms ("
+                               + reports.size() + " of " + futures.size() + " generators)");
+         }
+         return reports;
+      }
+      catch (ExecutionException e)
+      {
+         cancel(futures);
+         Throwable cause = e.getCause();
+         if (cause instanceof IOException)
+            throw (IOException)cause;
+         throw new IOException("data generator failed: " + cause, cause);
+      }
+      catch (InterruptedException e)
+      {
+         cancel(futures);
+         Thread.currentThread().interrupt();
+         throw new InterruptedIOException("data generation was interrupted");
+      }
+      finally
+      {
+         pool.shutdownNow();
+         awaitTermination(pool);
+      }
+   }
+
+   /*
+    * checkCancelled
+    *
+    * Generators call this method once per generated geometry.  If the
+    * scheduler cancelled the generator it closes the given output and
+    * throws, so the generator stops promptly without leaking its file.
+    */
+
+   static void checkCancelled(Closeable anOutput) throws IOException
+   {
+      if (Thread.currentThread().isInterrupted())
+      {
+         anOutput.close();
+         throw new InterruptedIOException("data generation was cancelled");
+      }
+   }
+
+   // Cancels every generator that has not finished yet
+   private void cancel(List<Future<Report>> aFutureList)
+   {
+      for (Future<Report> future : aFutureList)
+         future.cancel(true);
+   }
+
+   // Waits for cancelled generators to close their files
+   private void awaitTermination(ExecutorService aPool)
+   {
+      boolean interrupted = false;
+      while (true)
+      {
+         try
+         {
+            if (aPool.awaitTermination(1, TimeUnit.SECONDS))
+               break;
+         }
+         catch (InterruptedException e)
+         {
+            interrupted = true;
+         }
+      }
+      if (interrupted)
+         Thread.currentThread().interrupt();
+   }
+}
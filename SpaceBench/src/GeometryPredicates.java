@@ -0,0 +1,350 @@
+/*
+ * GeometryPredicates.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with deciding exactly which side of a line a point
+ * lies on, and the segment tests built from that
+ */
+
+@SuppressWarnings("strictfp")
+public strictfp class GeometryPredicates {
+
+   /*
+    * GeometryPredicates
+    *
+    * Orientation tests in the style of Shewchuk's adaptive predicates.
+    * orient2d first takes the cross product in plain doubles and keeps it
+    * when it is further from zero than its worst rounding error, which is
+    * nearly always.  Otherwise it works the product out again in growing
+    * precision, using exact floating-point expansions, only as far as
+    * needed to be sure of the sign.  The sign is therefore always that of
+    * the exact determinant of the given doubles, so collinearity and
+    * intersection are decided the same way on every machine, with no
+    * divisions and no slope comparisons.  The error bounds hold only for
+    * doubles rounded at every step, which a Java 8 runtime guarantees
+    * only in strictfp code; from Java 17 on all code is strict, and the
+    * warning saying so is suppressed.
+    */
+
+   //***
+   // class variables
+   //***
+
+   // half an ulp of 1, and the Dekker splitter 2^27 + 1
+   private static final double EPSILON = Math.ulp(1.0) / 2;
+   private static final double SPLITTER = 134217729.0;
+
+   // error bounds of the successive stages of orient2d
+   private static final double RESULT_ERR_BOUND = (3.0 + 8.0 * EPSILON) * EPSILON;
+   private static final double CCW_ERR_BOUND_A = (3.0 + 16.0 * EPSILON) * EPSILON;
+   private static final double CCW_ERR_BOUND_B = (2.0 + 12.0 * EPSILON) * EPSILON;
+   private static final double CCW_ERR_BOUND_C = (9.0 + 64.0 * EPSILON) * EPSILON * EPSILON;
+
+   private GeometryPredicates()
+   {
+   }
+
+   /*
+    * orient2d
+    *
+    * This method returns a value whose sign is that of twice the signed
+    * area of triangle abc: positive when c is left of the directed line
+    * ab, negative when right, and zero exactly when the three points are
+    * collinear
+    */
+
+   public static double orient2d(double ax, double ay, double bx, double by, double cx, double cy)
+   {
+      double detLeft = (ax - cx) * (by - cy);
+      double detRight = (ay - cy) * (bx - cx);
+      double det = detLeft - detRight;
+      double detSum = Math.abs(detLeft) + Math.abs(detRight);
+      if (Math.abs(det) > CCW_ERR_BOUND_A * detSum || detSum == 0)
+         return det;
+      return orient2dAdapt(ax, ay, bx, by, cx, cy, detSum);
+   }
+
+   /*
+    * orientation
+    *
+    * This method returns 1, -1 or 0 as c is left of, right of or on the
+    * line ab
+    */
+
+   public static int orientation(double ax, double ay, double bx, double by, double cx, double cy)
+   {
+      return (int)Math.signum(orient2d(ax, ay, bx, by, cx, cy));
+   }
+
+   /*
+    * collinear
+    *
+    * This method returns whether a, b and c lie on one line
+    */
+
+   public static boolean collinear(double ax, double ay, double bx, double by, double cx, double cy)
+   {
+      return orient2d(ax, ay, bx, by, cx, cy) == 0;
+   }
+
+   /*
+    * onSegment
+    *
+    * This method returns whether p lies on the closed segment ab
+    */
+
+   public static boolean onSegment(double px, double py, double ax, double ay, double bx, double by)
+   {
+      return inBox(px, py, ax, ay, bx, by) && orient2d(ax, ay, bx, by, px, py) == 0;
+   }
+
+   /*
+    * segmentsIntersect
+    *
+    * This method returns whether the closed segments ab and cd share any
+    * point, crossing, touching or overlapping
+    */
+
+   public static boolean segmentsIntersect(double ax, double ay, double bx, double by,
+                                           double cx, double cy, double dx, double dy)
+   {
+      if (boxesApart(ax, ay, bx, by, cx, cy, dx, dy))
+         return false;
+      // either segment wholly on one side of the other's line
+      int o1 = orientation(ax, ay, bx, by, cx, cy);
+      int o2 = orientation(ax, ay, bx, by, dx, dy);
+      if (o1 * o2 > 0)
+         return false;
+      int o3 = orientation(cx, cy, dx, dy, ax, ay);
+      int o4 = orientation(cx, cy, dx, dy, bx, by);
+      if (o3 * o4 > 0)
+         return false;
+      if (o1 * o2 < 0 && o3 * o4 < 0)
+         return true;
+
+      // an end lying on the other segment
+      return (o1 == 0 && inBox(cx, cy, ax, ay, bx, by)) || (o2 == 0 && inBox(dx, dy, ax, ay, bx, by))
+             || (o3 == 0 && inBox(ax, ay, cx, cy, dx, dy)) || (o4 == 0 && inBox(bx, by, cx, cy, dx, dy));
+   }
+
+   /*
+    * segmentsCross
+    *
+    * This method returns whether the segments ab and cd cross at a single
+    * point inside both
+    */
+
+   public static boolean segmentsCross(double ax, double ay, double bx, double by,
+                                       double cx, double cy, double dx, double dy)
+   {
+      if (boxesApart(ax, ay, bx, by, cx, cy, dx, dy))
+         return false;
+      return orientation(ax, ay, bx, by, cx, cy) * orientation(ax, ay, bx, by, dx, dy) < 0
+             && orientation(cx, cy, dx, dy, ax, ay) * orientation(cx, cy, dx, dy, bx, by) < 0;
+   }
+
+   // Whether p lies in the bounding box of ab
+   private static boolean inBox(double px, double py, double ax, double ay, double bx, double by)
+   {
+      return Math.min(ax, bx) <= px && px <= Math.max(ax, bx) && Math.min(ay, by) <= py && py <= Math.max(ay, by);
+   }
+
+   // Whether the bounding boxes of ab and cd are disjoint
+   private static boolean boxesApart(double ax, double ay, double bx, double by,
+                                     double cx, double cy, double dx, double dy)
+   {
+      return Math.max(ax, bx) < Math.min(cx, dx) || Math.max(cx, dx) < Math.min(ax, bx)
+             || Math.max(ay, by) < Math.min(cy, dy) || Math.max(cy, dy) < Math.min(ay, by);
+   }
+
+   //***
+   // adaptive stages
+   //***
+
+   // Refines orient2d when the plain estimate is too close to zero
+   private static double orient2dAdapt(double ax, double ay, double bx, double by, double cx, double cy,
+                                       double aDetSum)
+   {
+      double acx = ax - cx, bcx = bx - cx;
+      double acy = ay - cy, bcy = by - cy;
+
+      // the products exactly, as the expansion b
+      double detLeft = acx * bcy;
+      double detLeftTail = twoProductTail(acx, bcy, detLeft);
+      double detRight = acy * bcx;
+      double detRightTail = twoProductTail(acy, bcx, detRight);
+      double[] b = new double[4];
+      twoTwoDiff(detLeft, detLeftTail, detRight, detRightTail, b);
+
+      double det = b[0] + b[1] + b[2] + b[3];
+      double errBound = CCW_ERR_BOUND_B * aDetSum;
+      if (det >= errBound || -det >= errBound)
+         return det;
+
+      // the rounding of the differences
+      double acxTail = twoDiffTail(ax, cx, acx);
+      double bcxTail = twoDiffTail(bx, cx, bcx);
+      double acyTail = twoDiffTail(ay, cy, acy);
+      double bcyTail = twoDiffTail(by, cy, bcy);
+      if (acxTail == 0 && acyTail == 0 && bcxTail == 0 && bcyTail == 0)
+         return det;
+
+      errBound = CCW_ERR_BOUND_C * aDetSum + RESULT_ERR_BOUND * Math.abs(det);
+      det += (acx * bcyTail + bcy * acxTail) - (acy * bcxTail + bcx * acyTail);
+      if (det >= errBound || -det >= errBound)
+         return det;
+
+      // last resort, the whole determinant exactly
+      double[] u = new double[4];
+      double[] c1 = new double[8];
+      double[] c2 = new double[12];
+      double[] d = new double[16];
+
+      double s1 = acxTail * bcy;
+      double t1 = acyTail * bcx;
+      twoTwoDiff(s1, twoProductTail(acxTail, bcy, s1), t1, twoProductTail(acyTail, bcx, t1), u);
+      int c1Length = expansionSum(b, 4, u, 4, c1);
+
+      s1 = acx * bcyTail;
+      t1 = acy * bcxTail;
+      twoTwoDiff(s1, twoProductTail(acx, bcyTail, s1), t1, twoProductTail(acy, bcxTail, t1), u);
+      int c2Length = expansionSum(c1, c1Length, u, 4, c2);
+
+      s1 = acxTail * bcyTail;
+      t1 = acyTail * bcxTail;
+      twoTwoDiff(s1, twoProductTail(acxTail, bcyTail, s1), t1, twoProductTail(acyTail, bcxTail, t1), u);
+      int dLength = expansionSum(c2, c2Length, u, 4, d);
+
+      return d[dLength - 1];
+   }
+
+   // The rounding error of x = a + b
+   private static double twoSumTail(double a, double b, double x)
+   {
+      double bVirtual = x - a;
+      double aVirtual = x - bVirtual;
+      return (a - aVirtual) + (b - bVirtual);
+   }
+
+   // The rounding error of x = a + b, given |a| >= |b|
+   private static double fastTwoSumTail(double a, double b, double x)
+   {
+      return b - (x - a);
+   }
+
+   // The rounding error of x = a - b
+   private static double twoDiffTail(double a, double b, double x)
+   {
+      double bVirtual = a - x;
+      double aVirtual = x + bVirtual;
+      return (a - aVirtual) + (bVirtual - b);
+   }
+
+   // The rounding error of x = a * b, by Dekker's splitting
+   private static double twoProductTail(double a, double b, double x)
+   {
+      double c = SPLITTER * a;
+      double aHigh = c - (c - a);
+      double aLow = a - aHigh;
+      c = SPLITTER * b;
+      double bHigh = c - (c - b);
+      double bLow = b - bHigh;
+      double err = x - (aHigh * bHigh) - (aLow * bHigh) - (aHigh * bLow);
+      return (aLow * bLow) - err;
+   }
+
+   // Writes (a1 + a0) - (b1 + b0) exactly as four components, smallest first
+   private static void twoTwoDiff(double a1, double a0, double b1, double b0, double[] anOut)
+   {
+      double i = a0 - b0;
+      anOut[0] = twoDiffTail(a0, b0, i);
+      double j = a1 + i;
+      double zero = twoSumTail(a1, i, j);
+      i = zero - b1;
+      anOut[1] = twoDiffTail(zero, b1, i);
+      anOut[3] = j + i;
+      anOut[2] = twoSumTail(j, i, anOut[3]);
+   }
+
+   // Writes the sum of expansions e and f to h, dropping zero components,
+   // and returns its length (Shewchuk's fast_expansion_sum_zeroelim)
+   private static int expansionSum(double[] e, int anELength, double[] f, int anFLength, double[] h)
+   {
+      int eIndex = 0, fIndex = 0, hIndex = 0;
+      double eNow = e[0], fNow = f[0];
+      double q, qNew, hh;
+
+      if ((fNow > eNow) == (fNow > -eNow))
+      {
+         q = eNow;
+         eNow = (++eIndex < anELength) ? e[eIndex] : 0;
+      }
+      else
+      {
+         q = fNow;
+         fNow = (++fIndex < anFLength) ? f[fIndex] : 0;
+      }
+
+      if (eIndex < anELength && fIndex < anFLength)
+      {
+         if ((fNow > eNow) == (fNow > -eNow))
+         {
+            qNew = eNow + q;
+            hh = fastTwoSumTail(eNow, q, qNew);
+            eNow = (++eIndex < anELength) ? e[eIndex] : 0;
+         }
+         else
+         {
+            qNew = fNow + q;
+            hh = fastTwoSumTail(fNow, q, qNew);
+            fNow = (++fIndex < anFLength) ? f[fIndex] : 0;
+         }
+         q = qNew;
+         if (hh != 0)
+            h[hIndex++] = hh;
+
+         while (eIndex < anELength && fIndex < anFLength)
+         {
+            if ((fNow > eNow) == (fNow > -eNow))
+            {
+               qNew = q + eNow;
+               hh = twoSumTail(q, eNow, qNew);
+               eNow = (++eIndex < anELength) ? e[eIndex] : 0;
+            }
+            else
+            {
+               qNew = q + fNow;
+               hh = twoSumTail(q, fNow, qNew);
+               fNow = (++fIndex < anFLength) ? f[fIndex] : 0;
+            }
+            q = qNew;
+            if (hh != 0)
+               h[hIndex++] = hh;
+         }
+      }
+
+      while (eIndex < anELength)
+      {
+         qNew = q + eNow;
+         hh = twoSumTail(q, eNow, qNew);
+         eNow = (++eIndex < anELength) ? e[eIndex] : 0;
+         q = qNew;
+         if (hh != 0)
+            h[hIndex++] = hh;
+      }
+      while (fIndex < anFLength)
+      {
+         qNew = q + fNow;
+         hh = twoSumTail(q, fNow, qNew);
+         fNow = (++fIndex < anFLength) ? f[fIndex] : 0;
+         q = qNew;
+         if (hh != 0)
+            h[hIndex++] = hh;
+      }
+      if (q != 0 || hIndex == 0)
+         h[hIndex++] = q;
+      return hIndex;
+   }
+}
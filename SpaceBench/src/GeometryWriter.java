@@ -0,0 +1,90 @@
+/*
+ * GeometryWriter.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with writing generated geometries to a data file
+ * in the scene's output format
+ */
+
+import java.io.*;
+import java.nio.channels.WritableByteChannel;
+
+public abstract class GeometryWriter implements Closeable {
+
+   /*
+    * GeometryWriter
+    *
+    * Generators write a geometry by beginning it, adding its coordinates
+    * and ending it, and never see the encoding.  open picks the writer
+    * for the model's output format and puts it over an AsyncFileOutput,
+    * so the disk writes run on their own thread.  When the scene asks for
+    * encoder threads, open returns a PipelineWriter instead, which moves
+    * the encoding off the generator thread as well.
+    */
+
+   /*
+    * open
+    *
+    * This method creates the named data file and returns a writer for it
+    * that follows the model's output options
+    */
+
+   public static GeometryWriter open(DataGenModel aModel, String aFilename) throws IOException
+   {
+      if (aModel.theEncoderThreadCount > 0)
+         return new PipelineWriter(aModel, aFilename);
+      return create(aModel, AsyncFileOutput.open(aModel, aFilename));
+   }
+
+   /*
+    * create
+    *
+    * This method returns an encoder for the model's output format that
+    * writes to the given channel
+    */
+
+   public static GeometryWriter create(DataGenModel aModel, WritableByteChannel aChannel)
+   {
+      switch (aModel.theOutputFormat)
+      {
+         case WKB:
+            return new WkbWriter(aChannel, false, 0, false);
+         case EWKB:
+            return new WkbWriter(aChannel, true, aModel.theSrid, false);
+         case HEX_WKB:
+            return new WkbWriter(aChannel, false, 0, true);
+         case HEX_EWKB:
+            return new WkbWriter(aChannel, true, aModel.theSrid, true);
+         default:
+            return new WktWriter(aChannel, aModel.theCoordinateDecimals);
+      }
+   }
+
+   //***
+   // geometry structure
+   //***
+
+   public abstract void beginPoint() throws IOException;
+
+   public abstract void beginLineString() throws IOException;
+
+   public abstract void beginPolygon() throws IOException;
+
+   public abstract void beginTriangle() throws IOException;
+
+   // Adds one vertex to the open geometry
+   public abstract void coordinate(double x, double y) throws IOException;
+
+   // Closes the open geometry
+   public abstract void endGeometry() throws IOException;
+
+   //***
+   // stream handling
+   //***
+
+   public abstract void flush() throws IOException;
+
+   public abstract void close() throws IOException;
+}
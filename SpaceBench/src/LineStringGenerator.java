@@ -11,8 +11,7 @@
 
 import java.lang.Math;
 import java.io.*;
-import java.awt.geom.Point2D;
-import java.util.*;
+import java.util.function.DoubleSupplier;
 
 public class LineStringGenerator {
 
@@ -22,8 +21,23 @@ public class LineStringGenerator {
     * This class generates line strings randomly within a (N by N) space.  The
     * points that comprise a line string are tested for uniqueness, and the
     * resulting line strings are writen to a ASCII text file.
+    *
+    * The points of a line string are kept in parallel double arrays, checked
+    * for uniqueness in a PointHashSet and sorted with a merge sort, so a line
+    * string of n points costs O(n log n) and allocates nothing once the
+    * arrays are sized.
     */
-	
+
+   //***
+   // instance variables
+   //***
+
+   // the points of the line string being built, and room to merge them
+   private double[] theX;
+   private double[] theY;
+   private double[] theMergeX;
+   private double[] theMergeY;
+
    LineStringGenerator()
    {
    }
@@ -38,8 +52,7 @@ public class LineStringGenerator {
    public void generate(DataGenModel aModel) throws IOException
    {
       String outFilename;
-      FileWriter f = null;
-      PrintWriter out = null;
+      GeometryWriter out = null;
       int desiredSegmentCount, currSegmentCount;
       double x, y;
 
@@ -48,35 +61,56 @@ public class LineStringGenerator {
          return;
 
       // setup file output
-      outFilename = aModel.theFilenamePrefix + "linestrings.txt";
-      f = new FileWriter(outFilename);
-      out = new PrintWriter(f);
+      outFilename = aModel.theFilenamePrefix + "linestrings" + aModel.theOutputFormat.extension();
+      out = GeometryWriter.open(aModel, outFilename);
 
       // generate linestrings
       System.out.println("  creating linestrings datafile [" + outFilename + "]");
       System.out.println("    all linestrings will contain unique points");
-      List<Point2D> xyCoords = new ArrayList<Point2D>();
+      int maxPointCount = aModel.theLineStringMaxSegmentCount + aModel.theLineStringMinSegmentCount + 1;
+      theX = new double[maxPointCount];
+      theY = new double[maxPointCount];
+      theMergeX = new double[maxPointCount];
+      theMergeY = new double[maxPointCount];
+      PointHashSet seen = null;
+      int seenSize = 0;
+      RandomSource random = RandomStreams.stream(aModel, "linestrings", 0);
+      Placement placement = new Placement(aModel);
+      DoubleSupplier uniform = random::nextDouble;
+      double[] vertex = new double[2];
 
-      int lineCount = 0;
+      long lineCount = 0;
       while (lineCount < aModel.theNumberOfLineStrings)
       {
+         GeneratorScheduler.checkCancelled(out);
+
          //***
          // create next line string
          //***
 
          currSegmentCount = 0;
-         xyCoords.clear();
-         desiredSegmentCount = (int)(Math.random()*aModel.theLineStringMaxSegmentCount)+aModel.theLineStringMinSegmentCount;
+         desiredSegmentCount = (int)(random.nextDouble()*aModel.theLineStringMaxSegmentCount)+aModel.theLineStringMinSegmentCount;
          if (desiredSegmentCount >= 1)
          {
+            // clearing the set costs its whole table, so it is made again
+            // when the line string is far smaller, or larger, than it
+            if (seen == null || desiredSegmentCount + 1 > seenSize || 16 * (desiredSegmentCount + 1) < seenSize)
+            {
+               seenSize = desiredSegmentCount + 1;
+               seen = new PointHashSet(seenSize);
+            }
+            else
+               seen.clear();
+
             while (currSegmentCount <= desiredSegmentCount)
             {
-               x = (Math.random()*aModel.theSceneLength)+1;
-               y = (Math.random()*aModel.theSceneLength)+1;
-               Point2D candidatePt = new Point2D.Double(x,y);
-               if (xyCoords.contains(candidatePt) == false)
+               placement.sample(uniform, vertex);
+               x = (vertex[0]*aModel.theSceneLength)+1;
+               y = (vertex[1]*aModel.theSceneLength)+1;
+               if (seen.add(x, y))
                {
-                  xyCoords.add(candidatePt);
+                  theX[currSegmentCount] = x;
+                  theY[currSegmentCount] = y;
                   currSegmentCount++;
                }
             }
@@ -85,46 +119,7 @@ public class LineStringGenerator {
             // sort line string verticies (x then y ascending)
             //***
             
-            boolean sortedByX = false;
-            while (!sortedByX)
-            {
-              sortedByX = true;
-              for (int i = 0; i < xyCoords.size()-1; i++)
-              {
-                 if (xyCoords.get(i).getX() > xyCoords.get(i+1).getX())
-                 {
-                    sortedByX = false;
-                    double x1 = xyCoords.get(i).getX();
-                    double y1 = xyCoords.get(i).getY();
-                    double x2 = xyCoords.get(i+1).getX();
-                    double y2 = xyCoords.get(i+1).getY();
-                    Point2D p1 = new Point2D.Double(x1,y1);
-                    Point2D p2 = new Point2D.Double(x2,y2);
-                    xyCoords.set(i, p2);
-                    xyCoords.set(i+1, p1);
-                 }
-              }
-            }
-            boolean sortedByY = false;
-            while (!sortedByY)
-            {
-              sortedByY = true;
-              for (int i = 0; i < xyCoords.size()-1; i++)
-              {
-                 double x1 = xyCoords.get(i).getX();
-                 double y1 = xyCoords.get(i).getY();
-                 double x2 = xyCoords.get(i+1).getX();
-                 double y2 = xyCoords.get(i+1).getY();
-                 if ((x1 == x2) && (y1 > y2))
-                 {
-                    sortedByY = false;
-                    Point2D p1 = new Point2D.Double(x1,y1);
-                    Point2D p2 = new Point2D.Double(x2,y2);
-                    xyCoords.set(i, p2);
-                    xyCoords.set(i+1, p1);
-                 }
-              }
-            }
+            sortByXThenY(currSegmentCount);
 
             //***
             // write line string to output file
@@ -132,16 +127,10 @@ public class LineStringGenerator {
             
             //Old format - LINESTRING ((30 10) (10 30) (40 40))
             //New format - LINESTRING (30 10, 10 30, 40 40)
-            out.print("LINESTRING (");
-            for (int i = 0; i < xyCoords.size()-1; i++)
-            {
-               x = xyCoords.get(i).getX();
-               y = xyCoords.get(i).getY();
-               out.print(x+" "+y+", ");
-            }
-            x = xyCoords.get(xyCoords.size()-1).getX();
-            y = xyCoords.get(xyCoords.size()-1).getY();
-            out.println(x+" "+y+")");
+            out.beginLineString();
+            for (int i = 0; i < currSegmentCount; i++)
+               out.coordinate(theX[i], theY[i]);
+            out.endGeometry();
          }
          lineCount++;
          if (lineCount%10000 == 0)
@@ -150,4 +139,47 @@ public class LineStringGenerator {
       out.close();
       System.out.println("    " + aModel.theNumberOfLineStrings + " line strings were generated.");
    }
-}
\ No newline at end of file
+
+   // Sorts the first aCount points by x, then by y, a bottom up merge sort
+   private void sortByXThenY(int aCount)
+   {
+      double[] fromX = theX, fromY = theY, toX = theMergeX, toY = theMergeY;
+      for (int width = 1; width < aCount; width *= 2)
+      {
+         for (int lo = 0; lo < aCount; lo += 2 * width)
+         {
+            int mid = Math.min(lo + width, aCount), hi = Math.min(lo + 2 * width, aCount);
+            int i = lo, j = mid, k = lo;
+            while (i < mid && j < hi)
+            {
+               if (fromX[j] < fromX[i] || (fromX[j] == fromX[i] && fromY[j] < fromY[i]))
+               {
+                  toX[k] = fromX[j];
+                  toY[k++] = fromY[j++];
+               }
+               else
+               {
+                  toX[k] = fromX[i];
+                  toY[k++] = fromY[i++];
+               }
+            }
+            System.arraycopy(fromX, i, toX, k, mid - i);
+            System.arraycopy(fromY, i, toY, k, mid - i);
+            k += mid - i;
+            System.arraycopy(fromX, j, toX, k, hi - j);
+            System.arraycopy(fromY, j, toY, k, hi - j);
+         }
+         double[] swap = fromX;
+         fromX = toX;
+         toX = swap;
+         swap = fromY;
+         fromY = toY;
+         toY = swap;
+      }
+      if (fromX != theX)
+      {
+         System.arraycopy(fromX, 0, theX, 0, aCount);
+         System.arraycopy(fromY, 0, theY, 0, aCount);
+      }
+   }
+}
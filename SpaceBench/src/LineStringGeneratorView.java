@@ -61,7 +61,7 @@ public class LineStringGeneratorView implements PropertyChangeListener, ItemList
 
    // property values
    private boolean theGenerateFlag;
-   private int theNumberOfLineStrings;
+   private long theNumberOfLineStrings;
    private int theMaximumSegmentCount;
    private int theMinimumSegmentCount;
 
@@ -104,7 +104,7 @@ public class LineStringGeneratorView implements PropertyChangeListener, ItemList
     * This method sets the current number of squares
     */
    
-   public void setNumberOfLineStrings(int aCount)
+   public void setNumberOfLineStrings(long aCount)
    {
       theNumberOfLineStrings = aCount;
       if (theNumberOfLineStringsField != null)
@@ -163,7 +163,7 @@ public class LineStringGeneratorView implements PropertyChangeListener, ItemList
    * This method returns the current number of line strings
    */
    
-   public int getNumberOfLineStrings()
+   public long getNumberOfLineStrings()
    {
       return theNumberOfLineStrings;
    }
@@ -299,7 +299,7 @@ public class LineStringGeneratorView implements PropertyChangeListener, ItemList
       Object source = e.getSource();
       if (source == theNumberOfLineStringsField)
       {
-         theNumberOfLineStrings = ((Number)theNumberOfLineStringsField.getValue()).intValue();
+         theNumberOfLineStrings = ((Number)theNumberOfLineStringsField.getValue()).longValue();
          if (TRACE)
             System.out.println("LineStrings: number of squares = " + theNumberOfLineStrings);
       }
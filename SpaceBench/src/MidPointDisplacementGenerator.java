@@ -9,8 +9,7 @@
 
 import java.lang.Math;
 import java.io.*;
-import java.awt.geom.Point2D;
-import java.util.*;
+import java.util.function.DoubleSupplier;
 
 public class MidPointDisplacementGenerator {
 	
@@ -23,24 +22,34 @@ public class MidPointDisplacementGenerator {
 		
 		//Set up output 
 		String outFilename;
-		FileWriter f = null;
-		PrintWriter out = null;
+		GeometryWriter out = null;
 		//Random rnd = new Random();
 		
+		// do we wish line strings generated?
+		if (aModel.theGenerateMidpointDisplacementsFlag == false)
+			return;
+		
 		//generate output file
-		outFilename = aModel.theFilenamePrefix + "midPointDisplacement.txt";
-		f = new FileWriter(outFilename);
-		out = new PrintWriter(f);        
+		outFilename = aModel.theFilenamePrefix + "midPointDisplacement" + aModel.theOutputFormat.extension();
+		out = GeometryWriter.open(aModel, outFilename);
 		System.out.println("  creating midPointDisplacement datafile [" + outFilename + "]");
 		
 		// Input from User (grabbing from data model)
-		int desiredNumberOfAlgorithms = aModel.theNumberofMidpointDisplacements;
-		int  count = 0;
+		long desiredNumberOfAlgorithms = aModel.theNumberofMidpointDisplacements;
+		long count = 0;
 		
 		//Points
 		double x,y;
+		RandomSource random = RandomStreams.stream(aModel, "midpoint displacements", 0);
+		Placement placement = new Placement(aModel);
+		DoubleSupplier uniform = random::nextDouble;
+		double[] end = new double[2];
+		
+		//the points of the line string being built, kept from one to the next
+		CoordinateBuffer midPointDisp = new CoordinateBuffer((1 << Math.min(aModel.theRecursionDepth, 20)) + 1);
 		
 		while(count < desiredNumberOfAlgorithms){
+			GeneratorScheduler.checkCancelled(out);
 			
 			//get the user input
 			double displacementBound = aModel.theDisplacementBound;
@@ -48,16 +57,14 @@ public class MidPointDisplacementGenerator {
 			int it = 0;
 			int numOfIt = aModel.theRecursionDepth;
 			
-			//produce starting points
-			Point2D StartPoint = new Point2D.Double((Math.random()*aModel.theSceneLength)+1,
-					Math.random()*aModel.theSceneLength);
-			Point2D EndPoint = new Point2D.Double(Math.random()*aModel.theSceneLength,
-					Math.random()*aModel.theSceneLength);
-			
-			//Create Instance of Mid Point Displacement and load with starting and ending points
-			LinkedList<Point2D> midPointDisp = new LinkedList<Point2D>();
-			midPointDisp.add(StartPoint);
-			midPointDisp.add(EndPoint);
+			//produce starting points, and load them as the first line string
+			midPointDisp.clear();
+			placement.sample(uniform, end);
+			midPointDisp.add((end[0]*aModel.theSceneLength)+1,
+					end[1]*aModel.theSceneLength);
+			placement.sample(uniform, end);
+			midPointDisp.add(end[0]*aModel.theSceneLength,
+					end[1]*aModel.theSceneLength);
 			
 			// Generate points
 			while(it<numOfIt){ //recursion depth
@@ -77,22 +84,13 @@ public class MidPointDisplacementGenerator {
 				int putBack  = fBackIndex;
 				
 					
-					Point2D frontLowerLimit;
-					Point2D frontUpperLimit;
-					
-					Point2D backUpperLimit;
-					Point2D backLowerLimit;
-					
 					//for the first iteration
 					if(it == 0){
 						
-						frontLowerLimit = midPointDisp.get(0);
-						frontUpperLimit = midPointDisp.get(1);
-						double X = ((frontLowerLimit.getX() + frontUpperLimit.getX())/2);
-						double Y =  ((frontLowerLimit.getY() +frontUpperLimit.getY())/2);
+						double X = ((midPointDisp.x(0) + midPointDisp.x(1))/2);
+						double Y =  ((midPointDisp.y(0) + midPointDisp.y(1))/2);
 						Y += displacementBound;
-						Point2D dispPoint = new Point2D.Double(X,Y);
-						midPointDisp.add(1, dispPoint);
+						midPointDisp.insert(1, X, Y);
 						
 					}else{
 						
@@ -110,26 +108,17 @@ public class MidPointDisplacementGenerator {
 						//Insert Following
 						while(currentStep<steps){
 							
-							backLowerLimit = midPointDisp.get(bBackIndex);
-							backUpperLimit = midPointDisp.get(fBackIndex);
-						
-							frontUpperLimit = midPointDisp.get(fFrontIndex);
-							frontLowerLimit = midPointDisp.get(bFrontIndex);
+							double X1 = ((midPointDisp.x(bBackIndex) + midPointDisp.x(fBackIndex))/2);
+							double Y1 = ((midPointDisp.y(bBackIndex) + midPointDisp.y(fBackIndex))/2);
 						
-							double X1 = ((backLowerLimit.getX() + backUpperLimit.getX())/2);
-							double Y1 = ((backLowerLimit.getY() + backUpperLimit.getY())/2);
-						
-							double X2 = ((frontUpperLimit.getX() + frontLowerLimit.getX())/2);
-							double Y2 = ((frontUpperLimit.getY() + frontLowerLimit.getY())/2);
+							double X2 = ((midPointDisp.x(fFrontIndex) + midPointDisp.x(bFrontIndex))/2);
+							double Y2 = ((midPointDisp.y(fFrontIndex) + midPointDisp.y(bFrontIndex))/2);
 							
 							Y1 += displacementBound;
 							Y2 += displacementBound;
 						
-							Point2D lowerDispPoint = new Point2D.Double(X1,Y1);
-							Point2D higherDispPoint = new Point2D.Double(X2,Y2);
-							
-							midPointDisp.add(putBack, lowerDispPoint);
-							midPointDisp.add(putFront, higherDispPoint);
+							midPointDisp.insert(putBack, X1, Y1);
+							midPointDisp.insert(putFront, X2, Y2);
 							
 							bBackIndex = bBackIndex+2;
 							fBackIndex = fBackIndex+2;
@@ -148,26 +137,15 @@ public class MidPointDisplacementGenerator {
 			
 			//print to txt
 			//output line string to text file 
-		   	out.print("LINESTRING (");
-			 
-		    for (int i = 0; i < midPointDisp.size()-1; i++)
-		    {
-		    	x = midPointDisp.get(i).getX();
-		        y = midPointDisp.get(i).getY();
-		               
-		        out.print(x+" "+y+", ");
-		    }
-		            
-		     x = midPointDisp.get(midPointDisp.size()-1).getX();
-		     y = midPointDisp.get(midPointDisp.size()-1).getY();
-		     out.println(x+" "+y+")");
+		   	out.beginLineString();
+		    midPointDisp.writeTo(out);
+		    out.endGeometry();
 		     
 		     //next algorithm
 		     count++;
 		}
 		
 		out.close();
-		f.close();
 		
 		System.out.println("    " + desiredNumberOfAlgorithms + " line strings (MPD) were generated.");
 					    
@@ -76,7 +76,7 @@ public class MidPointDisplacementGeneratorView implements PropertyChangeListener
 	   
 	   // property values
 	   private boolean theGenerateFlag;
-	   private int theNumberOfMidPointDisplacement;
+	   private long theNumberOfMidPointDisplacement;
 	   private int theRecursionDepth;
 	   private double theDisplacementBound;
 	   private double theDisplacementBoundReduction;
@@ -122,7 +122,7 @@ public class MidPointDisplacementGeneratorView implements PropertyChangeListener
 	    * This method sets the current number of line strings produced
 	    */
 	   
-	   public void setNumberOfMidPointDisplacements(int aCount)
+	   public void setNumberOfMidPointDisplacements(long aCount)
 	   {
 		   theNumberOfMidPointDisplacement = aCount;
 	      if (theNumberOfMidpointDisplacementsField != null)
@@ -198,7 +198,7 @@ public class MidPointDisplacementGeneratorView implements PropertyChangeListener
 	   * This method returns the current number of line strings generated
 	   */
 	   
-	   public int getNumberOfMidPointDisplacement()
+	   public long getNumberOfMidPointDisplacement()
 	   {
 	      return theNumberOfMidPointDisplacement;
 	   }
@@ -367,7 +367,7 @@ public class MidPointDisplacementGeneratorView implements PropertyChangeListener
 	      
 	      if (source == theNumberOfMidpointDisplacementsField)
 	      {
-	    	  theNumberOfMidPointDisplacement = ((Number)theNumberOfMidpointDisplacementsField.getValue()).intValue();
+	    	  theNumberOfMidPointDisplacement = ((Number)theNumberOfMidpointDisplacementsField.getValue()).longValue();
 	         if (TRACE)
 	            System.out.println("MidPoint Displacement: number of algorithms = " + theNumberOfMidPointDisplacement);
 	      }
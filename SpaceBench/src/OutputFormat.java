@@ -0,0 +1,44 @@
+/*
+ * OutputFormat.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with choosing the encoding of the generated data files
+ */
+
+public enum OutputFormat {
+
+   // well-known text, one geometry per line, the default
+   WKT(".txt"),
+
+   // little-endian well-known binary, records back to back
+   WKB(".wkb"),
+
+   // WKB extended with the scene SRID, as PostGIS writes it
+   EWKB(".ewkb"),
+
+   // WKB in hexadecimal, one geometry per line
+   HEX_WKB(".hex.txt"),
+
+   // EWKB in hexadecimal, one geometry per line
+   HEX_EWKB(".hex.txt");
+
+   private final String theExtension;
+
+   OutputFormat(String anExtension)
+   {
+      theExtension = anExtension;
+   }
+
+   /*
+    * extension
+    *
+    * This method returns the filename extension of data files in this format
+    */
+
+   public String extension()
+   {
+      return theExtension;
+   }
+}
@@ -0,0 +1,86 @@
+/*
+ * PhiloxRandomSource.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with drawing random numbers with the Philox4x32-10
+ * counter based algorithm
+ */
+
+public class PhiloxRandomSource implements RandomSource {
+
+   /*
+    * PhiloxRandomSource
+    *
+    * Philox4x32-10 (Salmon et al., "Parallel random numbers: as easy as
+    * 1, 2, 3") encrypts a 128-bit counter under a 64-bit key.  Each counter
+    * value yields two longs, and any position of the stream can be reached
+    * without generating the values before it.
+    */
+
+   private static final long M0 = 0xD2511F53L;
+   private static final long M1 = 0xCD9E8D57L;
+   private static final int W0 = 0x9E3779B9;
+   private static final int W1 = 0xBB67AE85;
+   private static final int ROUNDS = 10;
+
+   private final int theKey0, theKey1;
+   private long theCounter;
+
+   // second long of the last encrypted counter, used on the next call
+   private long theBuffered;
+   private boolean theHasBuffered;
+
+   PhiloxRandomSource(long aSeed)
+   {
+      theKey0 = (int)aSeed;
+      theKey1 = (int)(aSeed >>> 32);
+      theCounter = 0;
+   }
+
+   private PhiloxRandomSource(PhiloxRandomSource aSource)
+   {
+      theKey0 = aSource.theKey0;
+      theKey1 = aSource.theKey1;
+      theCounter = aSource.theCounter;
+      theBuffered = aSource.theBuffered;
+      theHasBuffered = aSource.theHasBuffered;
+   }
+
+   public long nextLong()
+   {
+      if (theHasBuffered)
+      {
+         theHasBuffered = false;
+         return theBuffered;
+      }
+
+      int c0 = (int)theCounter, c1 = (int)(theCounter >>> 32), c2 = 0, c3 = 0;
+      int k0 = theKey0, k1 = theKey1;
+      theCounter++;
+
+      for (int round = 0; round < ROUNDS; round++)
+      {
+         long p0 = M0 * (c0 & 0xFFFFFFFFL);
+         long p1 = M1 * (c2 & 0xFFFFFFFFL);
+         int n0 = (int)(p1 >>> 32) ^ c1 ^ k0;
+         int n2 = (int)(p0 >>> 32) ^ c3 ^ k1;
+         c1 = (int)p1;
+         c3 = (int)p0;
+         c0 = n0;
+         c2 = n2;
+         k0 += W0;
+         k1 += W1;
+      }
+
+      theBuffered = ((long)c3 << 32) | (c2 & 0xFFFFFFFFL);
+      theHasBuffered = true;
+      return ((long)c1 << 32) | (c0 & 0xFFFFFFFFL);
+   }
+
+   public RandomSource copy()
+   {
+      return new PhiloxRandomSource(this);
+   }
+}
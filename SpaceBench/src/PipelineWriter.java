@@ -0,0 +1,564 @@
+/*
+ * PipelineWriter.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with splitting the writing of a data file into
+ * generate, encode and write stages that run on different threads
+ */
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+public class PipelineWriter extends GeometryWriter {
+
+   /*
+    * PipelineWriter
+    *
+    * The generator thread only records its geometries: types, vertex
+    * counts and coordinates go into primitive arrays of a batch held in a
+    * slot of a pre-allocated ring.  A full batch is published and one of
+    * theEncoderThreadCount encoder threads turns it into the bytes of the
+    * scene's output format, using an encoder owned by the slot.  A single
+    * writer thread takes the encoded slots in publishing order, writes them
+    * to the file and frees the slot for the generator again.  Encoders may
+    * finish out of order but the file is the same as one written by a
+    * single thread.
+    *
+    * When all slots are in use the generator waits, so the slowest stage
+    * sets the pace.  Busy and waiting times of every stage and the ring
+    * occupancy are counted and printed when the file is closed, which
+    * shows the stage to give more threads to.
+    */
+
+   //***
+   // class variables
+   //***
+
+   // a batch is published once it holds this many geometries or vertices
+   private static final int BATCH_GEOMETRIES = 1024;
+   private static final int BATCH_VERTICES = 1 << 15;
+
+   // a slot grown past these by one huge geometry is cut back when reused
+   private static final int MAX_KEPT_VERTICES = 4 * BATCH_VERTICES;
+   private static final int MAX_KEPT_BYTES = 1 << 20;
+
+   // geometry types recorded in a batch
+   private static final byte POINT = 0;
+   private static final byte LINESTRING = 1;
+   private static final byte POLYGON = 2;
+   private static final byte TRIANGLE = 3;
+
+   // states of a ring slot
+   private static final int FREE = 0;
+   private static final int FILLED = 1;
+   private static final int ENCODING = 2;
+   private static final int ENCODED = 3;
+
+   /*
+    * Batch
+    *
+    * The geometries of one slot in primitive arrays; theEnds holds the end
+    * of each geometry's vertices in theVertices
+    */
+
+   private static class Batch
+   {
+      int theGeometryCount;
+      byte[] theTypes = new byte[BATCH_GEOMETRIES];
+      int[] theEnds = new int[BATCH_GEOMETRIES];
+      final CoordinateBuffer theVertices = new CoordinateBuffer(BATCH_VERTICES);
+
+      boolean isFull()
+      {
+         return theGeometryCount == BATCH_GEOMETRIES || theVertices.size() >= BATCH_VERTICES;
+      }
+   }
+
+   /*
+    * MemoryChannel
+    *
+    * Collects the encoded bytes of a slot in a reusable array
+    */
+
+   private static class MemoryChannel implements WritableByteChannel
+   {
+      static final int INITIAL_SIZE = 1 << 16;
+
+      byte[] theBytes = new byte[INITIAL_SIZE];
+      int theLength;
+
+      public int write(ByteBuffer aSource)
+      {
+         int length = aSource.remaining();
+         if (theLength + length > theBytes.length)
+            theBytes = Arrays.copyOf(theBytes, Math.max(theBytes.length * 2, theLength + length));
+         aSource.get(theBytes, theLength, length);
+         theLength += length;
+         return length;
+      }
+
+      public boolean isOpen()
+      {
+         return true;
+      }
+
+      public void close()
+      {
+      }
+   }
+
+   /*
+    * Slot
+    *
+    * One entry of the ring: a batch, its encoder and the encoded bytes
+    */
+
+   private static class Slot
+   {
+      final Batch theBatch = new Batch();
+      final MemoryChannel theBytes = new MemoryChannel();
+      final GeometryWriter theEncoder;
+      int theState;
+
+      Slot(DataGenModel aModel)
+      {
+         theEncoder = GeometryWriter.create(aModel, theBytes);
+         theState = FREE;
+      }
+   }
+
+   //***
+   // instance variables
+   //***
+
+   private final String theFilename;
+   private final FileChannel theChannel;
+   private final Slot[] theRing;
+   private final Thread[] theEncoders;
+   private final Thread theWriter;
+
+   // sequence numbers of the next slot to publish, encode and write, guarded by this
+   private long theNextPublish;
+   private long theNextEncode;
+   private long theNextWrite;
+   private boolean theClosingFlag;
+   private boolean theAbortFlag;
+   private IOException theFailure;
+
+   // generator thread only
+   private Slot theCurrent;
+   private byte theCurrentType;
+   private boolean theClosedFlag;
+
+   // stage counters; the encode and write counters are guarded by this
+   private final long theStartNanos;
+   private long theGeometryCount;
+   private long theGenerateStallNanos;
+   private long theEncodeNanos;
+   private long theWriteNanos;
+   private long theWriteIdleNanos;
+   private long theByteCount;
+   private long theOccupancySum;
+   private long theOccupancyMax;
+
+   PipelineWriter(DataGenModel aModel, String aFilename) throws IOException
+   {
+      theFilename = aFilename;
+      theRing = new Slot[aModel.thePipelineRingSize];
+      for (int i = 0; i < theRing.length; i++)
+         theRing[i] = new Slot(aModel);
+      theChannel = new FileOutputStream(aFilename).getChannel();
+      theStartNanos = System.nanoTime();
+
+      String name = new File(aFilename).getName();
+      theEncoders = new Thread[aModel.theEncoderThreadCount];
+      for (int i = 0; i < theEncoders.length; i++)
+      {
+         theEncoders[i] = new Thread(new Runnable() {
+            public void run()
+            {
+               encodeLoop();
+            }
+         }, "encoder-" + name + "-" + (i + 1));
+         theEncoders[i].setDaemon(true);
+         theEncoders[i].start();
+      }
+      theWriter = new Thread(new Runnable() {
+         public void run()
+         {
+            writeLoop();
+         }
+      }, "writer-" + name);
+      theWriter.setDaemon(true);
+      theWriter.start();
+   }
+
+   //***
+   // generate stage, on the generator thread
+   //***
+
+   public void beginPoint() throws IOException
+   {
+      begin(POINT);
+   }
+
+   public void beginLineString() throws IOException
+   {
+      begin(LINESTRING);
+   }
+
+   public void beginPolygon() throws IOException
+   {
+      begin(POLYGON);
+   }
+
+   public void beginTriangle() throws IOException
+   {
+      begin(TRIANGLE);
+   }
+
+   /*
+    * coordinate
+    *
+    * This method records one vertex of the open geometry
+    */
+
+   public void coordinate(double x, double y)
+   {
+      theCurrent.theBatch.theVertices.add(x, y);
+   }
+
+   /*
+    * endGeometry
+    *
+    * This method records the end of the open geometry and publishes the
+    * batch once it is full
+    */
+
+   public void endGeometry()
+   {
+      Batch batch = theCurrent.theBatch;
+      batch.theTypes[batch.theGeometryCount] = theCurrentType;
+      batch.theEnds[batch.theGeometryCount] = batch.theVertices.size();
+      batch.theGeometryCount++;
+      theGeometryCount++;
+      if (batch.isFull())
+         publish();
+   }
+
+   /*
+    * flush
+    *
+    * This method publishes the geometries recorded so far
+    */
+
+   public void flush() throws IOException
+   {
+      if (theCurrent != null && theCurrent.theBatch.theGeometryCount > 0)
+         publish();
+      checkFailure();
+   }
+
+   /*
+    * close
+    *
+    * This method publishes the last batch, waits until every batch is in
+    * the file and prints the stage counters.  An interrupted thread drops
+    * the batches not yet written but still waits for the file to close.
+    */
+
+   public void close() throws IOException
+   {
+      if (theClosedFlag)
+         return;
+      theClosedFlag = true;
+      try
+      {
+         if (theCurrent != null && theCurrent.theBatch.theGeometryCount > 0)
+            publish();
+         synchronized (this)
+         {
+            theClosingFlag = true;
+            notifyAll();
+            while (theNextWrite < theNextPublish && theFailure == null)
+               wait();
+         }
+         for (Thread encoder : theEncoders)
+            encoder.join();
+         theWriter.join();
+      }
+      catch (InterruptedException e)
+      {
+         abort();
+         throw new InterruptedIOException("writing " + theFilename + " was interrupted");
+      }
+      finally
+      {
+         theChannel.close();
+      }
+
+      System.out.println("    " + report());
+      checkFailure();
+   }
+
+   // Starts recording a geometry, claiming a slot if none is open
+   private void begin(byte aType) throws IOException
+   {
+      if (theCurrent == null)
+         claim();
+      theCurrentType = aType;
+   }
+
+   // Waits for the next slot in the ring to be free and opens its batch
+   private void claim() throws IOException
+   {
+      Slot slot = theRing[(int)(theNextPublish % theRing.length)];
+      long start = System.nanoTime();
+      try
+      {
+         synchronized (this)
+         {
+            while (slot.theState != FREE && theFailure == null)
+               wait();
+         }
+      }
+      catch (InterruptedException e)
+      {
+         abort();
+         throw new InterruptedIOException("writing " + theFilename + " was interrupted");
+      }
+      theGenerateStallNanos += System.nanoTime() - start;
+      checkFailure();
+
+      // a geometry of millions of vertices needs a batch, and bytes, to
+      // itself; keep that memory only until the slot comes round again
+      slot.theBatch.theVertices.reset(MAX_KEPT_VERTICES);
+      if (slot.theBytes.theBytes.length > MAX_KEPT_BYTES)
+         slot.theBytes.theBytes = new byte[MemoryChannel.INITIAL_SIZE];
+
+      slot.theBatch.theGeometryCount = 0;
+      theCurrent = slot;
+   }
+
+   // Hands the open batch to the encoders
+   private void publish()
+   {
+      synchronized (this)
+      {
+         theCurrent.theState = FILLED;
+         theNextPublish++;
+         long occupancy = theNextPublish - theNextWrite;
+         theOccupancySum += occupancy;
+         theOccupancyMax = Math.max(theOccupancyMax, occupancy);
+         notifyAll();
+      }
+      theCurrent = null;
+   }
+
+   private synchronized void checkFailure() throws IOException
+   {
+      if (theFailure != null)
+         throw theFailure;
+   }
+
+   // Stops the encoder and writer threads and waits for them
+   private void abort()
+   {
+      synchronized (this)
+      {
+         theAbortFlag = true;
+         notifyAll();
+      }
+      for (Thread thread : allThreads())
+      {
+         while (thread.isAlive())
+         {
+            try
+            {
+               thread.join();
+            }
+            catch (InterruptedException e)
+            {
+               // keep waiting, the interrupt is restored below
+            }
+         }
+      }
+      Thread.currentThread().interrupt();
+   }
+
+   private Thread[] allThreads()
+   {
+      Thread[] threads = Arrays.copyOf(theEncoders, theEncoders.length + 1);
+      threads[theEncoders.length] = theWriter;
+      return threads;
+   }
+
+   // Records the first failure of a stage and stops the others
+   private synchronized void fail(IOException anError)
+   {
+      if (theFailure == null)
+         theFailure = anError;
+      theAbortFlag = true;
+      notifyAll();
+   }
+
+   //***
+   // encode stage, on the encoder threads
+   //***
+
+   private void encodeLoop()
+   {
+      try
+      {
+         while (true)
+         {
+            Slot slot;
+            synchronized (this)
+            {
+               while (!theAbortFlag && theNextEncode == theNextPublish && !theClosingFlag)
+                  wait();
+               if (theAbortFlag || theNextEncode == theNextPublish)
+                  return;
+               slot = theRing[(int)(theNextEncode % theRing.length)];
+               theNextEncode++;
+               slot.theState = ENCODING;
+            }
+
+            long start = System.nanoTime();
+            encode(slot);
+            long elapsed = System.nanoTime() - start;
+
+            synchronized (this)
+            {
+               slot.theState = ENCODED;
+               theEncodeNanos += elapsed;
+               notifyAll();
+            }
+         }
+      }
+      catch (IOException e)
+      {
+         fail(e);
+      }
+      catch (InterruptedException e)
+      {
+         fail(new InterruptedIOException("encoder of " + theFilename + " was interrupted"));
+      }
+   }
+
+   // Encodes the batch of a slot into its byte array
+   private static void encode(Slot aSlot) throws IOException
+   {
+      Batch batch = aSlot.theBatch;
+      GeometryWriter encoder = aSlot.theEncoder;
+      int start = 0;
+      for (int g = 0; g < batch.theGeometryCount; g++)
+      {
+         switch (batch.theTypes[g])
+         {
+            case POINT:
+               encoder.beginPoint();
+               break;
+            case LINESTRING:
+               encoder.beginLineString();
+               break;
+            case POLYGON:
+               encoder.beginPolygon();
+               break;
+            default:
+               encoder.beginTriangle();
+               break;
+         }
+         int end = batch.theEnds[g];
+         batch.theVertices.writeTo(encoder, start, end);
+         start = end;
+         encoder.endGeometry();
+      }
+      encoder.flush();
+   }
+
+   //***
+   // write stage, on the writer thread
+   //***
+
+   private void writeLoop()
+   {
+      try
+      {
+         while (true)
+         {
+            Slot slot;
+            long start = System.nanoTime();
+            synchronized (this)
+            {
+               slot = theRing[(int)(theNextWrite % theRing.length)];
+               while (!theAbortFlag && slot.theState != ENCODED && !(theClosingFlag && theNextWrite == theNextPublish))
+                  wait();
+               if (theAbortFlag || slot.theState != ENCODED)
+                  return;
+               theWriteIdleNanos += System.nanoTime() - start;
+            }
+
+            start = System.nanoTime();
+            ByteBuffer bytes = ByteBuffer.wrap(slot.theBytes.theBytes, 0, slot.theBytes.theLength);
+            while (bytes.hasRemaining())
+               theChannel.write(bytes);
+            long elapsed = System.nanoTime() - start;
+
+            synchronized (this)
+            {
+               theWriteNanos += elapsed;
+               theByteCount += slot.theBytes.theLength;
+               slot.theBytes.theLength = 0;
+               slot.theState = FREE;
+               theNextWrite++;
+               notifyAll();
+            }
+         }
+      }
+      catch (IOException e)
+      {
+         fail(e);
+      }
+      catch (InterruptedException e)
+      {
+         fail(new InterruptedIOException("writer of " + theFilename + " was interrupted"));
+      }
+   }
+
+   //***
+   // stage counters
+   //***
+
+   /*
+    * report
+    *
+    * This method describes how busy each stage was: the share of the run
+    * the generator spent waiting for a free slot, the share of the encoder
+    * threads' time spent encoding, the writer's time writing and waiting,
+    * and the average number of ring slots in use
+    */
+
+   public synchronized String report()
+   {
+      double elapsed = Math.max(1, System.nanoTime() - theStartNanos);
+      double seconds = elapsed / 1e9;
+      long batches = Math.max(1, theNextPublish);
+      return String.format("pipeline [%s]: %d geometries in %.0f ms, %.1f M/s; "
+                           + "generate stalled %.0f%%; encode %d threads %.0f%% busy; "
+                           + "write %.0f%% busy, %.0f%% idle, %.1f MB/s; "
+                           + "ring %.1f of %d slots in use (max %d)",
+                           new File(theFilename).getName(), theGeometryCount, elapsed / 1e6,
+                           theGeometryCount / seconds / 1e6,
+                           100 * theGenerateStallNanos / elapsed,
+                           theEncoders.length, 100 * theEncodeNanos / (elapsed * theEncoders.length),
+                           100 * theWriteNanos / elapsed, 100 * theWriteIdleNanos / elapsed,
+                           theByteCount / seconds / 1e6,
+                           (double)theOccupancySum / batches, theRing.length, theOccupancyMax);
+   }
+}
@@ -0,0 +1,180 @@
+/*
+ * Placement.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with drawing the positions the generators place
+ * their geometries at
+ */
+
+import java.io.IOException;
+import java.util.function.DoubleSupplier;
+
+public class Placement {
+
+   /*
+    * Placement
+    *
+    * Draws positions in the unit square, which each generator scales to
+    * the part of the scene its geometries may start in.  The uniform
+    * distribution draws x then y, exactly as the generators did before,
+    * so its output is unchanged.
+    *
+    * Cluster centers are drawn from the model's seed when the placement is
+    * made, so every generator and shard of a run shares them.  The cluster
+    * of each position comes from an AliasTable in constant time however
+    * many clusters there are.  Normal offsets that leave the unit square
+    * are drawn again.
+    *
+    * A density map is stretched over the scene.  Its pixels are chosen
+    * from an AliasTable of their brightness, and the position is spread
+    * uniformly within the chosen pixel, so a sample costs three uniform
+    * values and two array reads however large the map.
+    */
+
+   //***
+   // instance variables
+   //***
+
+   private final PlacementDistribution theDistribution;
+   private final double theSpread;
+   private final double[] theCenterX;
+   private final double[] theCenterY;
+   private final AliasTable theClusters;
+   private final int theMapWidth;
+   private final int theMapHeight;
+
+   /*
+    * Placement
+    *
+    * This constructor sets up the placement aModel asks for, reading its
+    * density map if it has one
+    */
+
+   Placement(DataGenModel aModel) throws IOException
+   {
+      theDistribution = aModel.thePlacementDistribution;
+      theSpread = aModel.theClusterSpread / aModel.theSceneLength;
+
+      if (theDistribution == PlacementDistribution.GAUSSIAN_CLUSTERS
+          || theDistribution == PlacementDistribution.ZIPF_HOTSPOTS)
+      {
+         int count = aModel.theClusterCount;
+         RandomSource random = RandomStreams.stream(aModel, "placement", 0);
+         theCenterX = new double[count];
+         theCenterY = new double[count];
+         double[] weights = new double[count];
+         for (int i = 0; i < count; i++)
+         {
+            theCenterX[i] = random.nextDouble();
+            theCenterY[i] = random.nextDouble();
+            if (theDistribution == PlacementDistribution.ZIPF_HOTSPOTS)
+               weights[i] = 1 / Math.pow(i + 1, aModel.theZipfExponent);
+            else
+               weights[i] = 1;
+         }
+         theClusters = new AliasTable(weights);
+         theMapWidth = 0;
+         theMapHeight = 0;
+      }
+      else if (theDistribution == PlacementDistribution.DENSITY_MAP)
+      {
+         DensityMap map = DensityMap.read(aModel.theDensityMapFilename);
+         theCenterX = null;
+         theCenterY = null;
+         theClusters = new AliasTable(map.getWeights());
+         theMapWidth = map.getWidth();
+         theMapHeight = map.getHeight();
+      }
+      else
+      {
+         theCenterX = null;
+         theCenterY = null;
+         theClusters = null;
+         theMapWidth = 0;
+         theMapHeight = 0;
+      }
+   }
+
+   /*
+    * sample
+    *
+    * This method stores a position in [0, 1) x [0, 1) in aPoint[0] and
+    * aPoint[1], drawing uniform values from aUniform
+    */
+
+   public void sample(DoubleSupplier aUniform, double[] aPoint)
+   {
+      switch (theDistribution)
+      {
+         case GAUSSIAN_CLUSTERS:
+         case ZIPF_HOTSPOTS:
+         {
+            int cluster = theClusters.sample(aUniform.getAsDouble());
+            do
+            {
+               normalPair(aUniform, aPoint);
+               aPoint[0] = theCenterX[cluster] + theSpread * aPoint[0];
+               aPoint[1] = theCenterY[cluster] + theSpread * aPoint[1];
+            }
+            while (inside(aPoint) == false);
+            break;
+         }
+
+         case DIAGONAL:
+            do
+            {
+               double t = aUniform.getAsDouble();
+               normalPair(aUniform, aPoint);
+               double offset = theSpread * aPoint[0] * Math.sqrt(0.5);
+               aPoint[0] = t + offset;
+               aPoint[1] = t - offset;
+            }
+            while (inside(aPoint) == false);
+            break;
+
+         case DENSITY_MAP:
+         {
+            // the first image row is the top of the scene
+            int pixel = theClusters.sample(aUniform.getAsDouble());
+            int col = pixel % theMapWidth;
+            int row = pixel / theMapWidth;
+            aPoint[0] = (col + aUniform.getAsDouble()) / theMapWidth;
+            aPoint[1] = (theMapHeight - 1 - row + aUniform.getAsDouble()) / theMapHeight;
+            break;
+         }
+
+         default:
+            aPoint[0] = aUniform.getAsDouble();
+            aPoint[1] = aUniform.getAsDouble();
+            break;
+      }
+   }
+
+   /*
+    * isUniform
+    *
+    * This method returns whether positions are spread evenly, letting
+    * generators keep their batched uniform path
+    */
+
+   public boolean isUniform()
+   {
+      return theDistribution == PlacementDistribution.UNIFORM;
+   }
+
+   // Stores two independent standard normal values, by Box-Muller
+   private static void normalPair(DoubleSupplier aUniform, double[] aPair)
+   {
+      double radius = Math.sqrt(-2 * Math.log(1 - aUniform.getAsDouble()));
+      double angle = 2 * Math.PI * aUniform.getAsDouble();
+      aPair[0] = radius * Math.cos(angle);
+      aPair[1] = radius * Math.sin(angle);
+   }
+
+   private static boolean inside(double[] aPoint)
+   {
+      return aPoint[0] >= 0 && aPoint[0] < 1 && aPoint[1] >= 0 && aPoint[1] < 1;
+   }
+}
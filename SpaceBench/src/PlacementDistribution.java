@@ -0,0 +1,27 @@
+/*
+ * PlacementDistribution.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with choosing where in the scene the generators
+ * place their geometries
+ */
+
+public enum PlacementDistribution {
+
+   // evenly over the whole scene, the default
+   UNIFORM,
+
+   // around equally likely cluster centers, with normal spread
+   GAUSSIAN_CLUSTERS,
+
+   // around cluster centers whose popularity follows Zipf's law
+   ZIPF_HOTSPOTS,
+
+   // along the diagonal from the lower left corner, with normal spread
+   DIAGONAL,
+
+   // in proportion to the brightness of a grayscale raster over the scene
+   DENSITY_MAP
+}
@@ -9,9 +9,13 @@
  */
 
 import java.io.*;
+import java.util.function.DoubleSupplier;
 
 public class PointGenerator
 {
+   // candidates rejected in a row before Poisson disk generation gives up
+   private static final long MAX_POISSON_DISK_MISSES = 1000000;
+
    /*
     * PointGenerator
     *
@@ -31,78 +35,304 @@ public class PointGenerator
     * writting their locations to the output file. It optionally checks for
     * duplicate points.
     *
-    * Duplicates are checked by checking against the list of points. This is 
-    * very time inefficient for large numbers of points. 
+    * Duplicates are found by looking each point up in a PointHashSet of
+    * the points generated so far, in constant time per point.  The lattice
+    * method instead draws distinct integer cells of the grid, which needs
+    * no memory and splits across shards like the non-unique path.  The
+    * Poisson disk method keeps every point at least the minimum point
+    * separation from the others, checking each candidate against a
+    * PoissonDiskGrid in constant time.  The disk set method finds
+    * duplicates like the hash set, but in a DiskPointSet so the heap does
+    * not grow with the number of points.
+    *
+    * Every method but the lattice draws its points from the model's
+    * Placement; lattice points are always spread evenly.
     */
    
-   public void generate(DataGenModel aModel) throws IOException
+   public void generate(final DataGenModel aModel) throws IOException
    {
       double x,y;
       //,i,j;
       long cnt;
       String outFilename;
-      FileWriter f = null;
-      PrintWriter out = null;
+      GeometryWriter out = null;
 
       // do we wish points generated?
       if (aModel.theGeneratePointsFlag == false)
          return;
 
       // setup file output
-      outFilename = aModel.theFilenamePrefix + "points.txt";
-      f = new FileWriter(outFilename);
-      out = new PrintWriter(f);
+      outFilename = aModel.theFilenamePrefix + "points" + aModel.theOutputFormat.extension();
+      final Placement placement = new Placement(aModel);
+      double[] xy = new double[2];
 
       // generate points
       System.out.println("  creating points datafile [" + outFilename + "]");
       if (aModel.theUniquePointsFlag == false)
       {
          System.out.println("    dataset may contain duplicate points");
-         cnt = 0;
-         while (cnt < aModel.theNumberOfPoints)
+         ShardedOutput.generate(aModel, "points", outFilename, aModel.theNumberOfPoints,
+            (aFirst, aCount, aRandom, anOut) -> generatePoints(aModel, placement, aFirst, aCount, aRandom, anOut));
+         System.out.println("    " + aModel.theNumberOfPoints + " points were generated.");
+      }
+      else if (aModel.theUniquePointsMethod == UniquePointsMethod.LATTICE)
+      {
+         // the n-th point is cell n of a shuffle of the scene grid
+         System.out.println("    data will contain only unique lattice points");
+         final long cellsPerSide = cellsPerSide(aModel);
+         final FeistelPermutation cells = new FeistelPermutation(cellsPerSide * cellsPerSide,
+            RandomStreams.stream(aModel, "lattice points", 0).nextLong());
+         ShardedOutput.generate(aModel, "lattice points", outFilename, aModel.theNumberOfPoints,
+            (aFirst, aCount, aRandom, anOut) -> generateLatticePoints(aModel, cells, cellsPerSide, aFirst, aCount, anOut));
+         System.out.println("    " + aModel.theNumberOfPoints + " points were generated.");
+      }
+      else if (aModel.theUniquePointsMethod == UniquePointsMethod.POISSON_DISK)
+      {
+         out = GeometryWriter.open(aModel, outFilename);
+         System.out.println("    data will contain only points at least "
+                            + aModel.theMinimumPointSeparation + " apart");
+         try
          {
-               x = (Math.random()*aModel.theSceneLength)+1;
-               y = (Math.random()*aModel.theSceneLength)+1;
-               out.println("POINT (" + x + " " + y + ")");
-               cnt++;
-               if (cnt%100000 == 0)
-                  System.out.println("    generated " + cnt + " of " + aModel.theNumberOfPoints);
+            generatePoissonDiskPoints(aModel, placement, out);
+         }
+         finally
+         {
+            out.close();
+         }
+      }
+      else if (aModel.theUniquePointsMethod == UniquePointsMethod.DISK_SET)
+      {
+         out = GeometryWriter.open(aModel, outFilename);
+         System.out.println("    data will contain only unique points, checked on disk");
+         try
+         {
+            generateDiskSetPoints(aModel, placement, outFilename, out);
+         }
+         finally
+         {
+            out.close();
          }
-         System.out.println("    " + aModel.theNumberOfPoints + " points were generated.");
       }
       else
       {
+           out = GeometryWriter.open(aModel, outFilename);
            System.out.println("    data will contain only unique points");
-           double[] xValues = new double[(aModel.theNumberOfPoints)];
-           double[] yValues = new double[(aModel.theNumberOfPoints)];
-           int duplicates = 0;
-           cnt = 0;
-           while (cnt < aModel.theNumberOfPoints)
+           DoubleSupplier uniform = RandomStreams.stream(aModel, "unique points", 0)::nextDouble;
+           PointHashSet seen = new PointHashSet(aModel.theNumberOfPoints);
+           long duplicates = 0;
+           try
+           {
+              cnt = 0;
+              while (cnt < aModel.theNumberOfPoints)
+              {
+                    GeneratorScheduler.checkCancelled(out);
+                    placement.sample(uniform, xy);
+                    x = (xy[0]*aModel.theSceneLength)+1;
+                    y = (xy[1]*aModel.theSceneLength)+1;
+
+                    // keep the point only if it was not generated before
+                    if (seen.add(x, y) == false)
+                    {
+                       duplicates++;
+                       continue;
+                    }
+
+                    out.beginPoint();
+                    out.coordinate(x, y);
+                    out.endGeometry();
+                    cnt++;
+                    if (cnt%100000 == 0)
+                       System.out.println("    generated " + cnt + " of " + aModel.theNumberOfPoints);
+              }
+              System.out.println("    " + aModel.theNumberOfPoints + " points were generated.");
+              System.out.println("    " + duplicates + " duplicates were eliminated.");
+           }
+           finally
            {
-                 x = (Math.random()*aModel.theSceneLength)+1;
-                 y = (Math.random()*aModel.theSceneLength)+1;
-                 int prevdup = duplicates;
-                 
-                 for(int a = 0; a < cnt; a++) {
-                	 if (xValues[a] == x) {
-                		 if (yValues[a] == y){
-                			 duplicates++; 
-                		 }
-                	 }
-                 }
-                 
-                 if(prevdup == duplicates) {
-                     xValues[(int) cnt] = x;
-                     yValues[(int) cnt] = y;
-                     out.println("POINT (" + x + " " + y + ")");
-                     cnt++;
-                     if (cnt%100000 == 0)
-                        System.out.println("    generated " + cnt + " of " + aModel.theNumberOfPoints);
-                   }
+              out.close();
            }
-           System.out.println("    " + aModel.theNumberOfPoints + " points were generated.");
-           System.out.println("    " + duplicates + " duplicates were eliminated.");
       }
-      out.close();
    }
-}
\ No newline at end of file
+
+   /*
+    * generatePoissonDiskPoints
+    *
+    * This method throws random darts at the scene, keeping each one that
+    * is no closer than the minimum point separation to a point already
+    * kept.  Past about 55% of the densest packing the scene jams and darts
+    * stop landing, so it gives up after a long enough run of misses.
+    */
+
+   private void generatePoissonDiskPoints(DataGenModel aModel, Placement aPlacement, GeometryWriter out)
+      throws IOException
+   {
+      DoubleSupplier uniform = RandomStreams.stream(aModel, "poisson disk points", 0)::nextDouble;
+      double[] xy = new double[2];
+      PoissonDiskGrid grid = new PoissonDiskGrid(aModel.theMinimumPointSeparation, aModel.theNumberOfPoints);
+      long rejected = 0;
+      long misses = 0;
+      long cnt = 0;
+      while (cnt < aModel.theNumberOfPoints)
+      {
+         GeneratorScheduler.checkCancelled(out);
+         aPlacement.sample(uniform, xy);
+         double x = (xy[0]*aModel.theSceneLength)+1;
+         double y = (xy[1]*aModel.theSceneLength)+1;
+
+         // keep the point only if it is far enough from all the others
+         if (grid.add(x, y) == false)
+         {
+            rejected++;
+            if (++misses == MAX_POISSON_DISK_MISSES)
+               throw new IOException("only " + cnt + " points fit " + aModel.theMinimumPointSeparation
+                                     + " apart; " + misses + " candidates in a row were too close");
+            continue;
+         }
+         misses = 0;
+
+         out.beginPoint();
+         out.coordinate(x, y);
+         out.endGeometry();
+         cnt++;
+         if (cnt%100000 == 0)
+            System.out.println("    generated " + cnt + " of " + aModel.theNumberOfPoints);
+      }
+      System.out.println("    " + aModel.theNumberOfPoints + " points were generated.");
+      System.out.println("    " + rejected + " candidates were too close and rejected.");
+   }
+
+   /*
+    * generateDiskSetPoints
+    *
+    * This method draws random points and drops repeats using a DiskPointSet
+    * kept next to the output file.  The set holds back points its Bloom
+    * filter is unsure of, so draws stop while those are pending and resume
+    * only to replace the ones that turn out to be duplicates.
+    */
+
+   private void generateDiskSetPoints(final DataGenModel aModel, Placement aPlacement, String anOutFilename,
+                                      final GeometryWriter out) throws IOException
+   {
+      DoubleSupplier uniform = RandomStreams.stream(aModel, "unique points", 0)::nextDouble;
+      double[] xy = new double[2];
+      final long[] written = new long[1];
+      DiskPointSet.PointSink sink = (x, y) ->
+      {
+         out.beginPoint();
+         out.coordinate(x, y);
+         out.endGeometry();
+         written[0]++;
+         if (written[0]%100000 == 0)
+            System.out.println("    generated " + written[0] + " of " + aModel.theNumberOfPoints);
+      };
+
+      DiskPointSet seen = new DiskPointSet(new File(anOutFilename + ".dedup"), aModel.theNumberOfPoints);
+      try
+      {
+         while (written[0] < aModel.theNumberOfPoints)
+         {
+            while (written[0] + seen.getPendingCount() < aModel.theNumberOfPoints)
+            {
+               GeneratorScheduler.checkCancelled(out);
+               aPlacement.sample(uniform, xy);
+               double x = (xy[0]*aModel.theSceneLength)+1;
+               double y = (xy[1]*aModel.theSceneLength)+1;
+               seen.add(x, y, sink);
+            }
+            seen.flush(sink);
+         }
+         System.out.println("    " + aModel.theNumberOfPoints + " points were generated.");
+         System.out.println("    " + seen.getDuplicateCount() + " duplicates were eliminated.");
+         System.out.printf("    %d Bloom filter hits, %d false positives, false-duplicate rate %.4f%%, %d MB of partitions read%n",
+                           seen.getSuspectCount(), seen.getFalsePositiveCount(), seen.getFalseDuplicateRate() * 100,
+                           seen.getBytesScanned() >> 20);
+      }
+      finally
+      {
+         seen.close();
+      }
+   }
+
+   /*
+    * cellsPerSide
+    *
+    * This method returns the number of integer cells along each side of
+    * the scene, the lattice points being 1 through that number
+    */
+
+   static long cellsPerSide(DataGenModel aModel)
+   {
+      return (long)Math.floor(aModel.theSceneLength);
+   }
+
+   /*
+    * generateLatticePoints
+    *
+    * This method writes lattice points aFirst to aFirst + aCount - 1.  Point
+    * n sits at cell aCells.apply(n) of the scene grid, so no point repeats
+    * and nothing about earlier points has to be remembered.
+    */
+
+   private void generateLatticePoints(DataGenModel aModel, FeistelPermutation aCells, long aCellsPerSide,
+                                      long aFirst, long aCount, GeometryWriter out) throws IOException
+   {
+      for (long cnt = 0; cnt < aCount; )
+      {
+         GeneratorScheduler.checkCancelled(out);
+         long cell = aCells.apply(aFirst + cnt);
+         out.beginPoint();
+         out.coordinate(cell % aCellsPerSide + 1, cell / aCellsPerSide + 1);
+         out.endGeometry();
+         cnt++;
+         if ((aFirst + cnt)%100000 == 0)
+            System.out.println("    generated " + (aFirst + cnt) + " of " + aModel.theNumberOfPoints);
+      }
+   }
+
+   /*
+    * generatePoints
+    *
+    * This method writes aCount points that may contain duplicates.  It is
+    * run once per block of the output, each block with its own random stream.
+    * Uniform coordinates are drawn x, y, x, y, ... a batch at a time.
+    */
+
+   private void generatePoints(DataGenModel aModel, Placement aPlacement, long aFirst, long aCount,
+                               RandomSource aRandom, GeometryWriter out) throws IOException
+   {
+      double[] xy = new double[UniformBatch.SIZE];
+      DoubleSupplier uniform = new UniformBatch(aRandom)::next;
+      long cnt = 0;
+      while (cnt < aCount)
+      {
+         GeneratorScheduler.checkCancelled(out);
+         int points = (int)Math.min(aCount - cnt, xy.length / 2);
+         if (aPlacement.isUniform())
+            UniformBatch.fillScaled(aRandom, xy, 0, points * 2, aModel.theSceneLength, 1);
+         else
+            samplePoints(aPlacement, uniform, xy, points, aModel.theSceneLength);
+         for (int i = 0; i < points; i++)
+         {
+            out.beginPoint();
+            out.coordinate(xy[2 * i], xy[2 * i + 1]);
+            out.endGeometry();
+            cnt++;
+            if ((aFirst + cnt)%100000 == 0)
+               System.out.println("    generated " + (aFirst + cnt) + " of " + aModel.theNumberOfPoints);
+         }
+      }
+   }
+
+   // Fills aPoints x, y pairs of anXY from aPlacement, scaled to the scene
+   private static void samplePoints(Placement aPlacement, DoubleSupplier aUniform, double[] anXY, int aPoints,
+                                    double aSceneLength)
+   {
+      double[] point = new double[2];
+      for (int i = 0; i < aPoints; i++)
+      {
+         aPlacement.sample(aUniform, point);
+         anXY[2 * i] = (point[0]*aSceneLength)+1;
+         anXY[2 * i + 1] = (point[1]*aSceneLength)+1;
+      }
+   }
+}
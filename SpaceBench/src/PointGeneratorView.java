@@ -29,6 +29,7 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
    private static final int DEFAULT_POINT_COUNT = 100;
    private static final boolean DEFAULT_UNIQUE_POINTS_FLAG = false;
    private static final String UNIQUE_POINTS_CHECKBOX_TITLE = "Should points be unique?";
+   private static final double DEFAULT_MIN_SEPARATION = 1.0;
 
    //***
    // instance variables
@@ -51,10 +52,23 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
    private JCheckBox theUniquePointsCheckbox;
    private JPanel theUniquePointsPanel;
 
+   // elements for 'unique points method'
+   private JPanel theUniquePointsMethodPanel;
+   private JLabel theUniquePointsMethodLabel;
+   private JComboBox<UniquePointsMethod> theUniquePointsMethodBox;
+
+   // elements for 'minimum separation'
+   private NumberFormat theMinimumSeparationFormat;
+   private JPanel theMinimumSeparationPanel;
+   private JLabel theMinimumSeparationLabel;
+   private JFormattedTextField theMinimumSeparationField;
+
    // property values
    private boolean theGenerateFlag;
-   private int theNumberOfPoints;
+   private long theNumberOfPoints;
    private boolean theUniquePointsFlag;
+   private UniquePointsMethod theUniquePointsMethod;
+   private double theMinimumSeparation;
 
    /*
     * PointGeneratorView
@@ -68,6 +82,8 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
       theGenerateFlag = DEFAULT_GENERATE_FLAG;
       theNumberOfPoints = DEFAULT_POINT_COUNT;
       theUniquePointsFlag = DEFAULT_UNIQUE_POINTS_FLAG;
+      theUniquePointsMethod = UniquePointsMethod.HASH_SET;
+      theMinimumSeparation = DEFAULT_MIN_SEPARATION;
    }
 
    /*
@@ -95,7 +111,7 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
     * controls the number of points generated in the scene
     */
    
-   public void setNumberOfPoints(int aCount)
+   public void setNumberOfPoints(long aCount)
    {
       theNumberOfPoints = aCount;
       if (theNumberOfPointsField != null)
@@ -125,6 +141,38 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
       }
    }
    
+   /*
+    * setUniquePointsMethod
+    * 
+    * This method sets how unique points are kept unique
+    */
+   
+   public void setUniquePointsMethod(UniquePointsMethod aMethod)
+   {
+      theUniquePointsMethod = aMethod;
+      if (theUniquePointsMethodBox != null)
+      {
+         theUniquePointsMethodBox.setSelectedItem(theUniquePointsMethod);
+         theUniquePointsMethodBox.updateUI();
+      }
+   }
+
+   /*
+    * setMinimumSeparation
+    * 
+    * This method sets how far apart Poisson disk points must be
+    */
+   
+   public void setMinimumSeparation(double aSeparation)
+   {
+      theMinimumSeparation = aSeparation;
+      if (theMinimumSeparationField != null)
+      {
+         theMinimumSeparationField.setValue(theMinimumSeparation);
+         theMinimumSeparationField.updateUI();
+      }
+   }
+
   /*
    * getGenerateFlag
    *
@@ -142,7 +190,7 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
     * This method returns the current number of points property
     */
    
-   public int getNumberOfPoints()
+   public long getNumberOfPoints()
    {
       return theNumberOfPoints;
    }
@@ -158,6 +206,28 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
       return theUniquePointsFlag;
    }  
 
+   /*
+    * getUniquePointsMethod
+    * 
+    * This method returns how unique points are kept unique
+    */
+   
+   public UniquePointsMethod getUniquePointsMethod()
+   {
+      return theUniquePointsMethod;
+   }
+
+   /*
+    * getMinimumSeparation
+    * 
+    * This method returns how far apart Poisson disk points must be
+    */
+   
+   public double getMinimumSeparation()
+   {
+      return theMinimumSeparation;
+   }
+
    /*
     * build
     * 
@@ -213,6 +283,43 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
       theUniquePointsPanel = new JPanel();
       theUniquePointsPanel.add(theUniquePointsCheckbox);
 
+      //***
+      // unique points method
+      //***
+
+      // create unique points method elements [label, combo box]
+      theUniquePointsMethodLabel = new JLabel("Unique points method:");
+      theUniquePointsMethodLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theUniquePointsMethodBox = new JComboBox<UniquePointsMethod>(UniquePointsMethod.values());
+      theUniquePointsMethodBox.setSelectedItem(theUniquePointsMethod);
+      theUniquePointsMethodBox.addItemListener(this);
+
+      // add to containing panel
+      theUniquePointsMethodPanel = new JPanel();
+      theUniquePointsMethodPanel.add(theUniquePointsMethodLabel);
+      theUniquePointsMethodPanel.add(theUniquePointsMethodBox);
+
+      //***
+      // minimum separation
+      //***
+
+      // build format arguments
+      theMinimumSeparationFormat = NumberFormat.getNumberInstance();
+
+      // create minimum separation elements [label, field]
+      theMinimumSeparationLabel = new JLabel("Poisson disk minimum separation:");
+      theMinimumSeparationLabel.setHorizontalAlignment(JLabel.LEFT);
+      theMinimumSeparationField = new JFormattedTextField(theMinimumSeparationFormat);
+      theMinimumSeparationField.setValue(Double.valueOf(theMinimumSeparation));
+      theMinimumSeparationField.setColumns(10);
+      theMinimumSeparationField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theMinimumSeparationPanel = new JPanel();
+      theMinimumSeparationPanel.add(theMinimumSeparationLabel);
+      theMinimumSeparationPanel.add(theMinimumSeparationField);
+
       //***
       // update tabbed pane
       //***
@@ -223,6 +330,8 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
       theTabbedPanePanel.add(theGeneratePanel);
       theTabbedPanePanel.add(theNumberOfPointsPanel);
       theTabbedPanePanel.add(theUniquePointsPanel);
+      theTabbedPanePanel.add(theUniquePointsMethodPanel);
+      theTabbedPanePanel.add(theMinimumSeparationPanel);
 
       // add new tab to tabbed pane
       aTabbedPane.addTab(TAB_TITLE, null, theTabbedPanePanel, TAB_TOOLTIP);
@@ -239,10 +348,16 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
       Object source = e.getSource();
       if (source == theNumberOfPointsField)
       {
-         theNumberOfPoints = ((Number)theNumberOfPointsField.getValue()).intValue();
+         theNumberOfPoints = ((Number)theNumberOfPointsField.getValue()).longValue();
          if (TRACE)
             System.out.println("Points: number of points = " + theNumberOfPoints);
       }
+      else if (source == theMinimumSeparationField)
+      {
+         theMinimumSeparation = ((Number)theMinimumSeparationField.getValue()).doubleValue();
+         if (TRACE)
+            System.out.println("Points: minimum separation = " + theMinimumSeparation);
+      }
    }
 
    /*
@@ -261,11 +376,15 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
          {
            theNumberOfPointsField.setEnabled(true);
            theUniquePointsCheckbox.setEnabled(true);
+           theUniquePointsMethodBox.setEnabled(true);
+           theMinimumSeparationField.setEnabled(true);
          }
          else
          {
            theNumberOfPointsField.setEnabled(false);
            theUniquePointsCheckbox.setEnabled(false);
+           theUniquePointsMethodBox.setEnabled(false);
+           theMinimumSeparationField.setEnabled(false);
          }
          if (TRACE)
             System.out.println("Points: generate = " + theGenerateFlag);
@@ -276,6 +395,12 @@ public class PointGeneratorView implements PropertyChangeListener, ItemListener
          if (TRACE)
             System.out.println("Points: unique points = " + theUniquePointsFlag);
       }
+      if (source == theUniquePointsMethodBox && e.getStateChange() == ItemEvent.SELECTED)
+      {
+         theUniquePointsMethod = (UniquePointsMethod)theUniquePointsMethodBox.getSelectedItem();
+         if (TRACE)
+            System.out.println("Points: unique points method = " + theUniquePointsMethod);
+      }
    }
     
 }
\ No newline at end of file
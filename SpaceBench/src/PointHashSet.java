@@ -0,0 +1,166 @@
+/*
+ * PointHashSet.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with remembering which points were already
+ * generated, for the unique points option
+ */
+
+import java.util.Arrays;
+
+public class PointHashSet {
+
+   /*
+    * PointHashSet
+    *
+    * An open-addressing hash set of (x, y) points with linear probing.  A
+    * point is stored as the raw bits of its two coordinates in two
+    * parallel long arrays, so adding or looking up a point allocates
+    * nothing.  The table doubles when it is more than MAX_LOAD full.
+    *
+    * Points are equal when their coordinates are ==, as in the comparison
+    * this replaces; -0.0 is stored as 0.0 so both land in the same slot.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final double MAX_LOAD = 0.7;
+
+   // most points one table can hold
+   public static final long MAX_SIZE = (long)((1 << 30) * MAX_LOAD);
+
+   // bits of a NaN that Double.doubleToLongBits never returns, marks an empty slot
+   private static final long EMPTY = -1L;
+
+   private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+   //***
+   // instance variables
+   //***
+
+   private long[] theXBits;
+   private long[] theYBits;
+   private int theMask;
+   private int theSize;
+   private int theGrowThreshold;
+
+   /*
+    * PointHashSet
+    *
+    * This constructor sizes the table for anExpectedSize points
+    */
+
+   PointHashSet(long anExpectedSize)
+   {
+      long capacity = Long.highestOneBit(Math.max(16, (long)(anExpectedSize / MAX_LOAD)) * 2 - 1);
+      if (capacity > (1 << 30))
+         throw new IllegalArgumentException("too many points for one hash set: " + anExpectedSize);
+      allocate((int)capacity);
+   }
+
+   /*
+    * add
+    *
+    * This method adds the point (x, y), returning false if it was
+    * already in the set
+    */
+
+   public boolean add(double x, double y)
+   {
+      long xBits = Double.doubleToLongBits(x + 0.0);
+      long yBits = Double.doubleToLongBits(y + 0.0);
+      int slot = hash(xBits, yBits) & theMask;
+      while (theXBits[slot] != EMPTY)
+      {
+         if (theXBits[slot] == xBits && theYBits[slot] == yBits)
+            return false;
+         slot = (slot + 1) & theMask;
+      }
+      theXBits[slot] = xBits;
+      theYBits[slot] = yBits;
+      if (++theSize > theGrowThreshold)
+         grow();
+      return true;
+   }
+
+   /*
+    * contains
+    *
+    * This method returns whether the point (x, y) is in the set
+    */
+
+   public boolean contains(double x, double y)
+   {
+      long xBits = Double.doubleToLongBits(x + 0.0);
+      long yBits = Double.doubleToLongBits(y + 0.0);
+      int slot = hash(xBits, yBits) & theMask;
+      while (theXBits[slot] != EMPTY)
+      {
+         if (theXBits[slot] == xBits && theYBits[slot] == yBits)
+            return true;
+         slot = (slot + 1) & theMask;
+      }
+      return false;
+   }
+
+   /*
+    * clear
+    *
+    * This method empties the set, keeping its table for reuse
+    */
+
+   public void clear()
+   {
+      Arrays.fill(theXBits, EMPTY);
+      theSize = 0;
+   }
+
+   /*
+    * size
+    *
+    * This method returns the number of points in the set
+    */
+
+   public int size()
+   {
+      return theSize;
+   }
+
+   private static int hash(long anXBits, long aYBits)
+   {
+      return (int)RandomStreams.mix64(anXBits * GOLDEN_GAMMA + aYBits);
+   }
+
+   private void allocate(int aCapacity)
+   {
+      theXBits = new long[aCapacity];
+      theYBits = new long[aCapacity];
+      Arrays.fill(theXBits, EMPTY);
+      theMask = aCapacity - 1;
+      theGrowThreshold = (int)(aCapacity * MAX_LOAD);
+   }
+
+   // Doubles the table and re-inserts every point
+   private void grow()
+   {
+      if (theXBits.length >= (1 << 30))
+         throw new IllegalStateException("point hash set is full at " + theSize + " points");
+      long[] xBits = theXBits;
+      long[] yBits = theYBits;
+      allocate(xBits.length * 2);
+      for (int i = 0; i < xBits.length; i++)
+      {
+         if (xBits[i] == EMPTY)
+            continue;
+         int slot = hash(xBits[i], yBits[i]) & theMask;
+         while (theXBits[slot] != EMPTY)
+            slot = (slot + 1) & theMask;
+         theXBits[slot] = xBits[i];
+         theYBits[slot] = yBits[i];
+      }
+   }
+}
@@ -0,0 +1,186 @@
+/*
+ * PoissonDiskGrid.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with keeping generated points at least a minimum
+ * distance apart
+ */
+
+import java.util.Arrays;
+
+public class PoissonDiskGrid {
+
+   /*
+    * PoissonDiskGrid
+    *
+    * The scene is divided into square cells of side r / sqrt(2).  A cell's
+    * diagonal is r, so it can hold at most one accepted point, and a
+    * candidate can only be closer than r to points in the 5 x 5 block of
+    * cells around its own, less the four corners.  Checking a candidate
+    * therefore costs 21 cell lookups whatever the number of points.
+    *
+    * Only occupied cells are stored, in an open-addressing hash table from
+    * cell to point kept in primitive arrays, so memory follows the number
+    * of points rather than the area of the scene.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final double MAX_LOAD = 0.7;
+
+   // most points one table can hold
+   public static final long MAX_SIZE = (long)((1 << 30) * MAX_LOAD);
+
+   // cell keys are non-negative, so -1 marks an empty slot
+   private static final long EMPTY = -1L;
+
+   // largest number of cells along a side, so a cell fits a 31-bit coordinate
+   public static final long MAX_CELLS_PER_SIDE = 1L << 31;
+
+   //***
+   // instance variables
+   //***
+
+   private final double theSeparation;
+   private final double theSeparationSquared;
+   private final double theCellSize;
+
+   private long[] theCells;
+   private double[] theX;
+   private double[] theY;
+   private int theMask;
+   private int theSize;
+   private int theGrowThreshold;
+
+   /*
+    * PoissonDiskGrid
+    *
+    * This constructor sets up an empty grid for points at least
+    * aSeparation apart, sized for anExpectedSize points
+    */
+
+   PoissonDiskGrid(double aSeparation, long anExpectedSize)
+   {
+      theSeparation = aSeparation;
+      theSeparationSquared = aSeparation * aSeparation;
+      theCellSize = aSeparation / Math.sqrt(2);
+      long capacity = Long.highestOneBit(Math.max(16, (long)(anExpectedSize / MAX_LOAD)) * 2 - 1);
+      if (capacity > (1 << 30))
+         throw new IllegalArgumentException("too many points for one grid: " + anExpectedSize);
+      allocate((int)capacity);
+   }
+
+   /*
+    * maximumPoints
+    *
+    * This method bounds how many points at least aSeparation apart fit in
+    * a square of side aSideLength: disks of radius aSeparation / 2 around
+    * them cannot overlap, and cannot pack more densely than hexagonally
+    */
+
+   static double maximumPoints(double aSideLength, double aSeparation)
+   {
+      double side = aSideLength + aSeparation;
+      return 2 * side * side / (Math.sqrt(3) * aSeparation * aSeparation);
+   }
+
+   /*
+    * add
+    *
+    * This method adds the non-negative point (x, y) if no point of the
+    * grid is closer than the separation, returning whether it was added
+    */
+
+   public boolean add(double x, double y)
+   {
+      long cx = (long)(x / theCellSize);
+      long cy = (long)(y / theCellSize);
+
+      // look for a neighbour closer than the separation
+      for (long i = -2; i <= 2; i++)
+      {
+         for (long j = -2; j <= 2; j++)
+         {
+            // the corner cells are at least the separation away
+            if ((i == -2 || i == 2) && (j == -2 || j == 2))
+               continue;
+            if (cx + i < 0 || cy + j < 0)
+               continue;
+            int slot = find(key(cx + i, cy + j));
+            if (theCells[slot] != EMPTY)
+            {
+               double dx = theX[slot] - x;
+               double dy = theY[slot] - y;
+               if (dx * dx + dy * dy < theSeparationSquared)
+                  return false;
+            }
+         }
+      }
+
+      int slot = find(key(cx, cy));
+      theCells[slot] = key(cx, cy);
+      theX[slot] = x;
+      theY[slot] = y;
+      if (++theSize > theGrowThreshold)
+         grow();
+      return true;
+   }
+
+   public int size()
+   {
+      return theSize;
+   }
+
+   public double getSeparation()
+   {
+      return theSeparation;
+   }
+
+   private static long key(long aCellX, long aCellY)
+   {
+      return (aCellX << 31) | aCellY;
+   }
+
+   // Returns the slot holding aKey, or the empty slot where it would go
+   private int find(long aKey)
+   {
+      int slot = (int)RandomStreams.mix64(aKey) & theMask;
+      while (theCells[slot] != EMPTY && theCells[slot] != aKey)
+         slot = (slot + 1) & theMask;
+      return slot;
+   }
+
+   private void allocate(int aCapacity)
+   {
+      theCells = new long[aCapacity];
+      theX = new double[aCapacity];
+      theY = new double[aCapacity];
+      Arrays.fill(theCells, EMPTY);
+      theMask = aCapacity - 1;
+      theGrowThreshold = (int)(aCapacity * MAX_LOAD);
+   }
+
+   // Doubles the table and re-inserts every point
+   private void grow()
+   {
+      if (theCells.length >= (1 << 30))
+         throw new IllegalStateException("Poisson disk grid is full at " + theSize + " points");
+      long[] cells = theCells;
+      double[] xs = theX;
+      double[] ys = theY;
+      allocate(cells.length * 2);
+      for (int i = 0; i < cells.length; i++)
+      {
+         if (cells[i] == EMPTY)
+            continue;
+         int slot = find(cells[i]);
+         theCells[slot] = cells[i];
+         theX[slot] = xs[i];
+         theY[slot] = ys[i];
+      }
+   }
+}
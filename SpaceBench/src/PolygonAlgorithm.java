@@ -0,0 +1,25 @@
+/*
+ * PolygonAlgorithm.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with choosing how the polygon generator builds its
+ * polygons
+ */
+
+public enum PolygonAlgorithm {
+
+   // vertices added one at a time, candidates crossing the polygon drawn
+   // again, giving up when none fits; the default
+   INCREMENTAL,
+
+   // random points joined in order of their angle around their centroid
+   STAR_ANGULAR_SORT,
+
+   // random points split recursively by random lines into chains
+   SPACE_PARTITIONING,
+
+   // a random order of random points with crossing edges swapped apart
+   TWO_OPT
+}
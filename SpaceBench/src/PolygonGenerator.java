@@ -16,10 +16,15 @@
     char[][] Grid:  Grid[x][y] denotes point (x, y) in the grid
                     Grid[x][y] = '.' means (x, y) is NOT a vertice of the polygon being generated
                     Grid[x][y] = '*' means (x, y) is an existing vertice of the polygon being generated
+
+    PolygonSegmentGrid grid:  lists each vertex i, with the segment (X[i-1], Y[i-1]) -> (X[i], Y[i]),
+                    in the cells of the bounding square that segment passes, so a candidate is
+                    only checked against the nearby part of the polygon
 */
 
 import java.lang.Math;
 import java.io.*;
+import java.util.function.DoubleSupplier;
 
 public class PolygonGenerator {
 
@@ -42,54 +47,147 @@ public class PolygonGenerator {
     * have up to a specified number of verticies (minimum of 3)
     */
    
-   public void generate(DataGenModel aModel) throws IOException
+   public void generate(final DataGenModel aModel) throws IOException
    {
-	  int PolygonCNT;
-	  int NumVer, VerCNT;
-	  int i;
-	  double x, y, leftX, lowerY;
 	  String outFilename;
-	  FileWriter f = null;
-	  PrintWriter out = null;
 	
 	  // do we wish polygons generated?
 	  if (aModel.theGeneratePolygonsFlag == false)
 	     return;
 	     
 	  // setup file output
-	  outFilename = aModel.theFilenamePrefix + "polygons.txt";
-	  f = new FileWriter(outFilename);
-	  out = new PrintWriter(f);
+	  outFilename = aModel.theFilenamePrefix + "polygons" + aModel.theOutputFormat.extension();
+	  final Placement placement = new Placement(aModel);
+	  final PolygonStatistics statistics = new PolygonStatistics();
 	
 	  // generate polygons
 	  System.out.println("  creating polygon datafile [" + outFilename + "]");
+	  ShardedOutput.generate(aModel, "polygons", outFilename, aModel.theNumberOfPolygons,
+	     (aFirst, aCount, aRandom, anOut) -> generatePolygons(aModel, placement, statistics, aFirst, aCount, aRandom, anOut));
+	  System.out.println("    " + aModel.theNumberOfPolygons + " polygons were generated.");
+	  statistics.print(aModel.thePolygonAlgorithm);
+    }
+
+   /*
+    * generatePolygons
+    *
+    * This method writes aCount polygons to the given output.  It is run
+    * once per block of the output, each block with its own random stream.
+    * What each polygon cost to place, not counting writing it, is added
+    * to aStatistics.
+    */
+
+   private void generatePolygons(DataGenModel aModel, Placement aPlacement, PolygonStatistics aStatistics, long aFirst, long aCount,
+                                 RandomSource aRandom, GeometryWriter out) throws IOException
+   {
+	  long PolygonCNT, start;
+	  int NumVer, VerCNT;
+	  int i;
+	  double leftX, lowerY;
 	
 	  double[] pointsX = new double[aModel.thePolygonMaxVertexCount + 1];
 	  double[] pointsY = new double[aModel.thePolygonMaxVertexCount + 1];
-	
-	  int cnt, trialNum = (int)Math.pow((double)(aModel.thePolygonBBoxLength + 1), 2.0) / 2;
+	  double[] corner = new double[2];
+	  DoubleSupplier uniform = aRandom::nextDouble;
+	  long[] tally = new long[3];
+	  double[] bestX = null, bestY = null;
+	  PolygonSegmentGrid grid = null;
+	  SimplePolygonBuilder builder = null;
+	  if (aModel.thePolygonAlgorithm == PolygonAlgorithm.INCREMENTAL)
+	  {
+	     grid = new PolygonSegmentGrid(aModel.thePolygonMaxVertexCount);
+	     bestX = new double[aModel.thePolygonMaxVertexCount + 1];
+	     bestY = new double[aModel.thePolygonMaxVertexCount + 1];
+	  }
+	  else
+	     builder = new SimplePolygonBuilder(aModel.thePolygonMaxVertexCount);
 	
 	  PolygonCNT = 0;
-	    while (PolygonCNT < aModel.theNumberOfPolygons)
+	    while (PolygonCNT < aCount)
 	    {
+	        GeneratorScheduler.checkCancelled(out);
 	
 	        // the number of vertices of the polygon >= 3
-	NumVer = (int)Math.round( Math.random() * (aModel.thePolygonMaxVertexCount - aModel.thePolygonMinVertexCount) + aModel.thePolygonMinVertexCount);
+	NumVer = (int)Math.round( aRandom.nextDouble() * (aModel.thePolygonMaxVertexCount - aModel.thePolygonMinVertexCount) + aModel.thePolygonMinVertexCount);
 	
 	// the least x & y of the bounding square
-	leftX  = Math.random() * (aModel.theSceneLength - aModel.thePolygonBBoxLength);
-	lowerY = Math.random() * (aModel.theSceneLength - aModel.thePolygonBBoxLength);
+	aPlacement.sample(uniform, corner);
+	leftX  = corner[0] * (aModel.theSceneLength - aModel.thePolygonBBoxLength);
+	lowerY = corner[1] * (aModel.theSceneLength - aModel.thePolygonBBoxLength);
+	
+	// place the vertices
+	start = System.nanoTime();
+	tally[0] = tally[1] = tally[2] = 0;
+	if (aModel.thePolygonAlgorithm == PolygonAlgorithm.INCREMENTAL)
+	   VerCNT = incrementalPolygon(aModel, aRandom, leftX, lowerY, NumVer, pointsX, pointsY, bestX, bestY, grid, tally);
+	else
+	{
+	   for (i = 0; i < NumVer; i++)
+	   {
+	      pointsX[i] = leftX + aRandom.nextDouble() * aModel.thePolygonBBoxLength;
+	      pointsY[i] = lowerY + aRandom.nextDouble() * aModel.thePolygonBBoxLength;
+	   }
+	   builder.build(aModel.thePolygonAlgorithm, pointsX, pointsY, NumVer, aRandom);
+	   VerCNT = NumVer;
+	}
+	aStatistics.polygonBuilt(System.nanoTime() - start, tally[0], tally[1], (int)tally[2], VerCNT, NumVer);
 	
+	 // print out & draw the polygon
+	 //Old format - POLYGON ((926 918) (941 903) (913 954) (882 881))
+	 //New format - POLYGON ((926 918, 941 903, 913 954, 882 881))
+	if (VerCNT >= 3)
+	{
+	   NumVer = VerCNT;
+	   pointsX[NumVer] = pointsX[0];
+	   pointsY[NumVer] = pointsY[0];
+	   out.beginPolygon();
+	   for (i = 0; i < NumVer; i++)
+	      out.coordinate(pointsX[i], pointsY[i]);
+	   out.endGeometry();
+	    }
+	    PolygonCNT ++;
+	    if ((aFirst + PolygonCNT) % 10000 == 0)
+	       System.out.println("    generated " + (aFirst + PolygonCNT) + " of " + aModel.theNumberOfPolygons);
+	}  // while (PolygonCNT < PolygonNum)
+    }
+
+   /*
+    * incrementalPolygon
+    *
+    * This method places up to aVertexCount vertices one at a time within
+    * the bounding square at (leftX, lowerY), drawing candidates until one
+    * keeps the polygon simple, and returns how many it placed.  A vertex
+    * gets at most PolygonVertexAttempts candidates; when none fits, the
+    * last vertices are taken back and placed again, twice as many each
+    * time the polygon sticks no further along, up to PolygonBacktracks
+    * times.  The longest polygon reached is the one kept, using bestX and
+    * bestY.  The candidates drawn, the vertices placed and the backtracks
+    * are added to tally[0], tally[1] and tally[2].
+    */
+
+   private int incrementalPolygon(DataGenModel aModel, RandomSource aRandom, double leftX, double lowerY, int NumVer,
+                                  double[] pointsX, double[] pointsY, double[] bestX, double[] bestY,
+                                  PolygonSegmentGrid grid, long[] tally)
+   {
+	  int VerCNT, bestCNT, stuckCNT, streak, backtracks, i;
+	  double x, y;
+	  int cnt, trialNum = aModel.thePolygonVertexAttempts;
+
 	// the vertex 0 of the polygon
-	x = leftX + Math.random() * aModel.thePolygonBBoxLength;
-	y = lowerY + Math.random() * aModel.thePolygonBBoxLength;
+	x = leftX + aRandom.nextDouble() * aModel.thePolygonBBoxLength;
+	y = lowerY + aRandom.nextDouble() * aModel.thePolygonBBoxLength;
 	pointsX[0] = x;
 	pointsY[0] = y;
+	grid.reset(leftX, lowerY, aModel.thePolygonBBoxLength);
+	grid.add(0, x, y, x, y);
+	tally[0]++;
+	tally[1]++;
 	
 	while(true)
 	{
-	x = leftX + Math.random() * aModel.thePolygonBBoxLength;
-	y = lowerY + Math.random() * aModel.thePolygonBBoxLength;
+	x = leftX + aRandom.nextDouble() * aModel.thePolygonBBoxLength;
+	y = lowerY + aRandom.nextDouble() * aModel.thePolygonBBoxLength;
+	tally[0]++;
 	
 	 if ( (x >= leftX && x <= (leftX+aModel.thePolygonBBoxLength)) && (y >= lowerY && y <= (lowerY+aModel.thePolygonBBoxLength))
 	     // if (x, y) falls in the bounding square
@@ -97,6 +195,8 @@ public class PolygonGenerator {
 	    {
 	       pointsX[1] = x;
 	       pointsY[1] = y;
+	       grid.add(1, pointsX[0], pointsY[0], x, y);
+	       tally[1]++;
 	       break;
 	    }
 	
@@ -105,6 +205,10 @@ public class PolygonGenerator {
 	
 	 // finish the polygon: a sequence of >= 3 vertices
 	 VerCNT = 2;
+	 bestCNT = 0;
+	 stuckCNT = 0;
+	 streak = 0;
+	 backtracks = 0;
 	 while (VerCNT < NumVer)
 	 {
 	    // generate a random vertex
@@ -112,15 +216,15 @@ public class PolygonGenerator {
 	while (cnt <= trialNum)
 	{
 	     // give a candidate vertex
-	   x = leftX + Math.random() * aModel.thePolygonBBoxLength;
-	   y = lowerY + Math.random() * aModel.thePolygonBBoxLength;
+	   x = leftX + aRandom.nextDouble() * aModel.thePolygonBBoxLength;
+	   y = lowerY + aRandom.nextDouble() * aModel.thePolygonBBoxLength;
 	
 	      // check the validness of the vertex
 	    if ( (x < leftX || x > (leftX+aModel.thePolygonBBoxLength)) || (y < lowerY || y > (lowerY+aModel.thePolygonBBoxLength)) )
 	      //if (x, y) is outside the bounding square
 	       ;
 	
-	    else if ( InvalidVertex(x, y, pointsX, pointsY, VerCNT - 1) )
+	    else if ( InvalidVertex(x, y, pointsX, pointsY, VerCNT - 1, grid) )
 	            ;
 	
 	    else
@@ -128,6 +232,7 @@ public class PolygonGenerator {
 	      // (x, y) is selected
 	       pointsX[VerCNT] = x;
 	       pointsY[VerCNT] = y;
+	       grid.add(VerCNT, pointsX[VerCNT-1], pointsY[VerCNT-1], x, y);
 	       break;
 	    }
 	
@@ -135,186 +240,96 @@ public class PolygonGenerator {
 	
 	}  // while (cnt <= trialNum)
 	
-	    if (cnt > trialNum)
+	    tally[0] += Math.min(cnt, trialNum);
+	    if (cnt <= trialNum)
+	    {
+	       tally[1]++;
+	       VerCNT ++;
+	       continue;
+	    }
+
+	    // no candidate fitted: remember the longest polygon so far, then
+	    // take back the last vertices, more when stuck again as early
+	    if (VerCNT > bestCNT)
+	    {
+	       bestCNT = VerCNT;
+	       System.arraycopy(pointsX, 0, bestX, 0, VerCNT);
+	       System.arraycopy(pointsY, 0, bestY, 0, VerCNT);
+	    }
+	    if (backtracks == aModel.thePolygonBacktracks || VerCNT <= 2)
 	       break;
-	    VerCNT ++;
-	    if (VerCNT % 1000 == 0)
-	       System.out.println(VerCNT/1000);
+	    streak = (VerCNT <= stuckCNT) ? Math.min(streak + 1, 30) : 0;
+	    stuckCNT = VerCNT;
+	    VerCNT = Math.max(2, VerCNT - (1 << streak));
+	    backtracks ++;
+
+	    grid.reset(leftX, lowerY, aModel.thePolygonBBoxLength);
+	    grid.add(0, pointsX[0], pointsY[0], pointsX[0], pointsY[0]);
+	    for (i = 1; i < VerCNT; i++)
+	       grid.add(i, pointsX[i-1], pointsY[i-1], pointsX[i], pointsY[i]);
 	
 	 }  // while loop: finish the polygon
-	
-	 // print out & draw the polygon
-	 //Old format - POLYGON ((926 918) (941 903) (913 954) (882 881))
-	 //New format - POLYGON ((926 918, 941 903, 913 954, 882 881))
-	if (VerCNT >= 3)
-	{
-	   NumVer = VerCNT;
-	   pointsX[NumVer] = pointsX[0];
-	   pointsY[NumVer] = pointsY[0];
-	   out.print("POLYGON ((");
-	   out.print(pointsX[0] + " " + pointsY[0] + ", ");
-	   for (i = 1; i <= NumVer-2; i++)
-	      out.print(pointsX[i] +" " + pointsY[i] + ", ");
-	   out.print(pointsX[NumVer-1] +" " + pointsY[NumVer-1]);
-	   out.println("))");
-	    }
-	    PolygonCNT ++;
-	    if (PolygonCNT % 1000 == 0)
-	       System.out.println(PolygonCNT/1000);
-	}  // while (PolygonCNT < PolygonNum)
-	out.close();
-	System.out.println("    " + aModel.theNumberOfPolygons + " polygons were generated.");
+
+	 tally[2] += backtracks;
+	 if (bestCNT > VerCNT)
+	 {
+	    VerCNT = bestCNT;
+	    System.arraycopy(bestX, 0, pointsX, 0, VerCNT);
+	    System.arraycopy(bestY, 0, pointsY, 0, VerCNT);
+	 }
+	 return VerCNT;
     }
     
     private boolean isCollinear(double pointsX, double pointsY, double pointsX2, double pointsY2, double x, double y)  {
-         // check collinearity of three points (x1, y1), (x2, y2), & (x3, y3)
-
-        // Case 1: two of the points overlap
-        if ( (pointsX == pointsX2 && pointsY == pointsY2) || (pointsX2 == x && pointsY2 == y) || (x == pointsX && y == pointsY) )
-         return true;
-
-        // Case 2: the points are totally isolated
-      double d1 = pointsX - x;
-      double d2 = pointsX2 - x;
-      if (d1 == 0 && d2 == 0)
-         return true;
-      else
-      if (d1 != 0 && d2 != 0)
-         if ( (pointsY - y)/d1 == (pointsY2 - y)/d2 )
-            return true;
-
-      return false;
+         // check collinearity of three points (x1, y1), (x2, y2), & (x3, y3), two of which may overlap
 
+        return GeometryPredicates.collinear(pointsX, pointsY, pointsX2, pointsY2, x, y);
     }
 
     private boolean passVertex(double pointsX, double pointsY, double x, double y, double[] pointsX2, double[] pointsY2, int start, int end)  {
       // detects if line segment (x1, y1) -> (x2, y2) passes thru any (X[i], Y[i]) for i = start ~ end
 
       for (int i = start; i <= end; i ++)
-         if (isCollinear(pointsX2[i], pointsY2[i], pointsX, pointsY, x, y))
-         {
-             /* Case 1: (x1, y1) -> (x2, y2) is vertical */
-            if (pointsX == x)
-                if ( (pointsY <= pointsY2[i] && pointsY2[i] <= y) || (y <= pointsY2[i] && pointsY2[i] <= pointsY) )
-                  return true;
-             /* Case 2: (x1, y1) -> (x2, y2) is NOT vertical */
-            else
-                if ( (pointsX <= pointsX2[i] && pointsX2[i] <= x) || (x <= pointsX2[i] && pointsX2[i] <= pointsX) )
-                  return true;
-         }
+         if (GeometryPredicates.onSegment(pointsX2[i], pointsY2[i], pointsX, pointsY, x, y))
+            return true;
 
         return false;
     }
 
-    private boolean inSegment(double x, double y, double[] pointsX, double[] pointsY, int m)  {
-      // detect if (x, y) lies in line segments (X[i-1], Y[i-1]) -> (X[i], Y[i]), for i = 1, 2, ..., m
-
-        for (int i = 1; i <= m; i ++)
-         if (isCollinear(x, y, pointsX[i-1], pointsY[i-1], pointsX[i], pointsY[i]))
-         {
-             /* Case 1: the segment is vertical */
-            if (pointsX[i-1] == pointsX[i])
-                if ( (pointsY[i-1] <= y && y <= pointsY[i]) || (pointsY[i] <= y && y <= pointsY[i-1]) )
-                  return true;
-             /* Case 2: the segment is NOT vertical */
-            else
-                if ( (pointsX[i-1] <= x && x <= pointsX[i]) || (pointsX[i] <= x && x <= pointsX[i-1]) )
-                  return true;
-         }
+    private boolean inSegment(double x, double y, double[] pointsX, double[] pointsY, int i)  {
+      // detect if (x, y) lies in line segment (X[i-1], Y[i-1]) -> (X[i], Y[i])
 
-        return false;
+        return GeometryPredicates.onSegment(x, y, pointsX[i-1], pointsY[i-1], pointsX[i], pointsY[i]);
     }
 
 
     private boolean Intersect(double pointsX, double pointsY, double x2, double y2, double pointsX2, double pointsY2, double pointsX3, double pointsY3)  {
-      // detects if line segments S12 (x1, y1) -> (x2, y2) & S34 (x3, y3) -> (x4, y4) intersect
-        // ATTENTION:  accuracy matters to calculation of slopes, and to solving equations
-
-        double  x12min = Math.min(pointsX, x2),    x12max = Math.max(pointsX, x2);
-        double  x34min = Math.min(pointsX2, pointsX3),    x34max = Math.max(pointsX2, pointsX3);
-        double  y12min = Math.min(pointsY, y2),    y12max = Math.max(pointsY, y2);
-        double  y34min = Math.min(pointsY2, pointsY3),    y34max = Math.max(pointsY2, pointsY3);
-
-        double y, m12, b12, m34, b34;
-
-
-        // S12 and S34 are vertical
-        if (pointsX == x2 && pointsX2 == pointsX3)
-            if (pointsX == pointsX2 && y12min <= y34max && y34min <= y12max)
-               return true;
-
-        // only S12 is vertical
-        if (pointsX == x2 && pointsX2 != pointsX3)
-        {
-         m34 = (double)(pointsY3 - pointsY2) / (double)(pointsX3 - pointsX2);
-         b34 = pointsY2 - m34*pointsX2;
-         y = m34 * pointsX + b34;
-            if ((x34min <= pointsX && pointsX <= x34max) && (y12min <= y && y <= y12max))
-               return true;
-        }
-
-        // only S34 is vertical
-        if (pointsX != x2 && pointsX2 == pointsX3)
-        {
-         m12 = (double)(y2 - pointsY) / (double)(x2 - pointsX);
-         b12 = pointsY - m12*pointsX;
-         y = m12 * pointsX2 + b12;
-            if ((x12min <= pointsX2 && pointsX2 <= x12max) && (y34min <= y && y <= y34max))
-               return true;
-        }
-
-        // neither of S12 & S34 is vertical
-        if (pointsX != x2 && pointsX2 != pointsX3)
-        {
-         m12 = (double)(y2 - pointsY) / (double)(x2 - pointsX);
-         b12 = pointsY - m12*pointsX;
-         m34 = (double)(pointsY3 - pointsY2) / (double)(pointsX3 - pointsX2);
-         b34 = pointsY2 - m34*pointsX2;
-
-         // they have equal slopes
-         if (m12 == m34)
-                if (b12 == b34 && x12min <= x34max && x34min <= x12max)
-                  return true;
-
-            // they have different slopes
-            if (m12 != m34)
-                if (x12min <= x34max && x34min <= x12max);
-                {
-                	double x_highmin = Math.max(x12min, x34min);
-                	double x_lowmax  = Math.min(x12max, x34max);
-                	double x = (b34 - b12) / (m12 - m34);   // the x value of the intersection point
-                	if (x_highmin <= x && x <= x_lowmax)
-                		return true;
-                }
-        }
-
-        return false;
+      // detects if line segments S12 (x1, y1) -> (x2, y2) & S34 (x3, y3) -> (x4, y4) cross, touch or overlap
 
+        return GeometryPredicates.segmentsIntersect(pointsX, pointsY, x2, y2, pointsX2, pointsY2, pointsX3, pointsY3);
     }
 
-    private boolean InvalidVertex(double x, double y, double[] pointsX, double[] pointsY, int n)  {
+    private boolean InvalidVertex(final double x, final double y, final double[] pointsX, final double[] pointsY, final int n,
+                                  PolygonSegmentGrid grid)  {
 
-    /* the coordinates of vertices 0 ~ n of the polygon are already stored by X and Y */
+    /* the coordinates of vertices 0 ~ n of the polygon are already stored by X and Y, and listed with
+       their segments in grid; only the entries grid finds near a new segment are checked against it */
 
     // (1) check the invalidness of segment (X[n], Y[n]) -> (x, y)
 
         /* Case 1: (X[n-1], Y[n-1]), (X[n], Y[n]), and (x, y) are collinear */
         if ( isCollinear(pointsX[n-1], pointsY[n-1], pointsX[n], pointsY[n], x, y) )    return true;
 
-        /* Case 2: (X[n], Y[n]) -> (x, y) passes thru one of vertices 0 ~ n - 1 of the polygon */
-        if (passVertex(pointsX[n], pointsY[n], x, y, pointsX, pointsY, 0, n - 1))       return true;
+        if (grid.anyHit(pointsX[n], pointsY[n], x, y, i ->
+                /* Case 2: (X[n], Y[n]) -> (x, y) passes thru one of vertices 0 ~ n - 1 of the polygon */
+                (i <= n - 1 && passVertex(pointsX[n], pointsY[n], x, y, pointsX, pointsY, i, i))
 
-        /* Case 3: (x, y) falls in one of the first n - 1 segments of the polygon */
-        for(int i = 0; i < pointsX.length; i++) {
-        	if(x == pointsX[i] && y == pointsY[i]) {
-        		return true;
-        	}
-        }
-        if (inSegment(x, y, pointsX, pointsY, n - 1))       return true;
+                /* Case 3: (x, y) is one of vertices 0 ~ n, or falls in one of the first n - 1 segments of the polygon */
+                || (x == pointsX[i] && y == pointsY[i])
+                || (i >= 1 && i <= n - 1 && inSegment(x, y, pointsX, pointsY, i))
 
-      /* Case 4: (X[n], Y[n]) -> (x, y) intersects and overlaps (X[i-1], Y[i-1]) -> (X[i], Y[i]) */
-        for (int i = n - 1; i > 0; i --)
-         if ( Intersect(pointsX[n], pointsY[n], x, y, pointsX[i-1], pointsY[i-1], pointsX[i], pointsY[i]) )
+                /* Case 4: (X[n], Y[n]) -> (x, y) intersects and overlaps (X[i-1], Y[i-1]) -> (X[i], Y[i]) */
+                || (i >= 1 && i <= n - 1 && Intersect(pointsX[n], pointsY[n], x, y, pointsX[i-1], pointsY[i-1], pointsX[i], pointsY[i]))))
             return true;
 
     // (2) check the invalidness of segment (x, y) -> (X[0], Y[0])
@@ -322,15 +337,17 @@ public class PolygonGenerator {
         /* Case 1: (X[n], Y[n]), (x, y), and (X[0], Y[0]) are collinear */
         if ( isCollinear(pointsX[n], pointsY[n], x, y, pointsX[0], pointsY[0]) )    return true;
 
-        /* Case 2: (x, y) -> (X[0], Y[0]) passes thru one of vertices 1 ~ n of the polygon */
-        if (passVertex(x, y, pointsX[0], pointsY[0], pointsX, pointsY, 1, n))       return true;
+        if (grid.anyHit(x, y, pointsX[0], pointsY[0], i ->
+                /* Case 2: (x, y) -> (X[0], Y[0]) passes thru one of vertices 1 ~ n of the polygon */
+                (i >= 1 && passVertex(x, y, pointsX[0], pointsY[0], pointsX, pointsY, i, i))
 
-      /* Case 3: (x, y) -> (X[0], Y[0]) intersects and overlaps (X[i-1], Y[i-1]) -> (X[i], Y[i]) */
-        for (int i = n; i > 0; i --)
-         if ( Intersect(x, y, pointsX[0], pointsY[0], pointsX[i-1], pointsY[i-1], pointsX[i], pointsY[i]) )
+                /* Case 3: (x, y) -> (X[0], Y[0]) intersects and overlaps (X[i-1], Y[i-1]) -> (X[i], Y[i]),
+                   leaving out segment 1, which always meets it at (X[0], Y[0]); the two overlap only if (X[1], Y[1])
+                   lies on this segment, caught by Case 2 at vertex 1, or (x, y) lies on segment 1, caught by
+                   Case 3 of (1), or by Case 1 of (1) while segment 1 is the last one */
+                || (i >= 2 && Intersect(x, y, pointsX[0], pointsY[0], pointsX[i-1], pointsY[i-1], pointsX[i], pointsY[i]))))
             return true;
 
-
         return false;
     }
 }
\ No newline at end of file
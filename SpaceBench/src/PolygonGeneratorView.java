@@ -30,6 +30,8 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
    private static final int DEFAULT_MAX_VERTEX_COUNT = 10;
    private static final int DEFAULT_BBOX_LENGTH = 100;
    private static final int DEFAULT_MIN_VERTEX_COUNT = 3;
+   private static final int DEFAULT_VERTEX_ATTEMPTS = 4000;
+   private static final int DEFAULT_BACKTRACKS = 64;
    
    //***
    // instance variables
@@ -66,12 +68,32 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
    private JLabel theBBoxLengthLabel;
    private JFormattedTextField theBBoxLengthField;
 
+   // elements for 'algorithm'
+   private JPanel theAlgorithmPanel;
+   private JLabel theAlgorithmLabel;
+   private JComboBox<PolygonAlgorithm> theAlgorithmBox;
+
+   // elements for 'vertex attempts'
+   private NumberFormat theVertexAttemptsFormat;
+   private JPanel theVertexAttemptsPanel;
+   private JLabel theVertexAttemptsLabel;
+   private JFormattedTextField theVertexAttemptsField;
+
+   // elements for 'backtracks'
+   private NumberFormat theBacktracksFormat;
+   private JPanel theBacktracksPanel;
+   private JLabel theBacktracksLabel;
+   private JFormattedTextField theBacktracksField;
+
    // property values
    private boolean theGenerateFlag;
-   private int theNumberOfPolygons;
+   private long theNumberOfPolygons;
    private int theMaximumVertexCount;
    private int theBBoxLength;
    private int theMinimumVertexCount;
+   private PolygonAlgorithm theAlgorithm;
+   private int theVertexAttempts;
+   private int theBacktracks;
 
    /*
     * PolygonGeneratorView
@@ -87,7 +109,9 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
       theMaximumVertexCount = DEFAULT_MAX_VERTEX_COUNT;
       theBBoxLength = DEFAULT_BBOX_LENGTH;
       theMinimumVertexCount = DEFAULT_MIN_VERTEX_COUNT;
-      
+      theAlgorithm = PolygonAlgorithm.INCREMENTAL;
+      theVertexAttempts = DEFAULT_VERTEX_ATTEMPTS;
+      theBacktracks = DEFAULT_BACKTRACKS;
    }
 
    /*
@@ -114,7 +138,7 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
     * This method sets the current number of polygons
     */
    
-   public void setNumberOfPolygons(int aCount)
+   public void setNumberOfPolygons(long aCount)
    {
       theNumberOfPolygons = aCount;
       if (theNumberOfPolygonsField != null)
@@ -172,6 +196,56 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
       }
    }
 
+   /*
+    * setAlgorithm
+    *
+    * This method sets how polygons are built
+    */
+   
+   public void setAlgorithm(PolygonAlgorithm anAlgorithm)
+   {
+      theAlgorithm = anAlgorithm;
+      if (theAlgorithmBox != null)
+      {
+         theAlgorithmBox.setSelectedItem(theAlgorithm);
+         theAlgorithmBox.updateUI();
+      }
+   }
+
+   /*
+    * setVertexAttempts
+    *
+    * This method sets how many candidates the incremental method draws
+    * for each vertex
+    */
+   
+   public void setVertexAttempts(int aCount)
+   {
+      theVertexAttempts = aCount;
+      if (theVertexAttemptsField != null)
+      {
+         theVertexAttemptsField.setValue(theVertexAttempts);
+         theVertexAttemptsField.updateUI();
+      }
+   }
+
+   /*
+    * setBacktracks
+    *
+    * This method sets how many times the incremental method may back up
+    * on one polygon
+    */
+   
+   public void setBacktracks(int aCount)
+   {
+      theBacktracks = aCount;
+      if (theBacktracksField != null)
+      {
+         theBacktracksField.setValue(theBacktracks);
+         theBacktracksField.updateUI();
+      }
+   }
+
   /*
    * getGenerateFlag
    *
@@ -188,7 +262,7 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
    * This method returns the current number of polygons
    */
    
-   public int getNumberOfPolygons()
+   public long getNumberOfPolygons()
    {
       return theNumberOfPolygons;
    }
@@ -226,6 +300,39 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
       return theMinimumVertexCount;
    }
 
+   /*
+    * getAlgorithm
+    *
+    * This method returns how polygons are built
+    */
+   
+   public PolygonAlgorithm getAlgorithm()
+   {
+      return theAlgorithm;
+   }
+
+   /*
+    * getVertexAttempts
+    *
+    * This method returns the current candidates drawn per vertex
+    */
+   
+   public int getVertexAttempts()
+   {
+      return theVertexAttempts;
+   }
+
+   /*
+    * getBacktracks
+    *
+    * This method returns the current backtracks allowed per polygon
+    */
+   
+   public int getBacktracks()
+   {
+      return theBacktracks;
+   }
+
    /*
     * build
     * 
@@ -328,6 +435,63 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
       theBBoxLengthPanel.add(theBBoxLengthLabel);
       theBBoxLengthPanel.add(theBBoxLengthField);
 
+      //***
+      // algorithm
+      //***
+
+      // create algorithm elements [label, combo box]
+      theAlgorithmLabel = new JLabel("Algorithm:");
+      theAlgorithmLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theAlgorithmBox = new JComboBox<PolygonAlgorithm>(PolygonAlgorithm.values());
+      theAlgorithmBox.setSelectedItem(theAlgorithm);
+      theAlgorithmBox.addItemListener(this);
+
+      // add to containing panel
+      theAlgorithmPanel = new JPanel();
+      theAlgorithmPanel.add(theAlgorithmLabel);
+      theAlgorithmPanel.add(theAlgorithmBox);
+
+      //***
+      // vertex attempts
+      //***
+
+      // build format arguments
+      theVertexAttemptsFormat = NumberFormat.getIntegerInstance();
+
+      // create vertex attempts elements [label, field]
+      theVertexAttemptsLabel = new JLabel("Candidates per vertex:");
+      theVertexAttemptsLabel.setHorizontalAlignment(JLabel.LEFT);
+      theVertexAttemptsField = new JFormattedTextField(theVertexAttemptsFormat);
+      theVertexAttemptsField.setValue(Integer.valueOf(theVertexAttempts));
+      theVertexAttemptsField.setColumns(10);
+      theVertexAttemptsField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theVertexAttemptsPanel = new JPanel();
+      theVertexAttemptsPanel.add(theVertexAttemptsLabel);
+      theVertexAttemptsPanel.add(theVertexAttemptsField);
+
+      //***
+      // backtracks
+      //***
+
+      // build format arguments
+      theBacktracksFormat = NumberFormat.getIntegerInstance();
+
+      // create backtracks elements [label, field]
+      theBacktracksLabel = new JLabel("Backtracks per polygon:");
+      theBacktracksLabel.setHorizontalAlignment(JLabel.LEFT);
+      theBacktracksField = new JFormattedTextField(theBacktracksFormat);
+      theBacktracksField.setValue(Integer.valueOf(theBacktracks));
+      theBacktracksField.setColumns(10);
+      theBacktracksField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theBacktracksPanel = new JPanel();
+      theBacktracksPanel.add(theBacktracksLabel);
+      theBacktracksPanel.add(theBacktracksField);
+
       //***
       // update tabbed panel
       //***
@@ -340,6 +504,9 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
       theTabbedPanePanel.add(theMinimumVertexCountPanel);
       theTabbedPanePanel.add(theMaximumVertexCountPanel);
       theTabbedPanePanel.add(theBBoxLengthPanel);
+      theTabbedPanePanel.add(theAlgorithmPanel);
+      theTabbedPanePanel.add(theVertexAttemptsPanel);
+      theTabbedPanePanel.add(theBacktracksPanel);
 
 
       // add new tab to tabbed panel
@@ -357,7 +524,7 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
       Object source = e.getSource();
       if (source == theNumberOfPolygonsField)
       {
-         theNumberOfPolygons = ((Number)theNumberOfPolygonsField.getValue()).intValue();
+         theNumberOfPolygons = ((Number)theNumberOfPolygonsField.getValue()).longValue();
          if (TRACE)
             System.out.println("Polygons: number of squares = " + theNumberOfPolygons);
       }
@@ -378,6 +545,18 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
     	  if (TRACE)
               System.out.println("Polygons: minimum vertex count = " + theMinimumVertexCount);
       }
+      else if (source == theVertexAttemptsField)
+      {
+         theVertexAttempts = ((Number)theVertexAttemptsField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Polygons: candidates per vertex = " + theVertexAttempts);
+      }
+      else if (source == theBacktracksField)
+      {
+         theBacktracks = ((Number)theBacktracksField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Polygons: backtracks per polygon = " + theBacktracks);
+      }
    }
    
    /*
@@ -398,6 +577,9 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
            theMaximumVertexCountField.setEnabled(true);
            theBBoxLengthField.setEnabled(true);
            theMinimumVertexCountField.setEnabled(true);
+           theAlgorithmBox.setEnabled(true);
+           theVertexAttemptsField.setEnabled(true);
+           theBacktracksField.setEnabled(true);
          }
          else
          {
@@ -405,9 +587,18 @@ public class PolygonGeneratorView implements PropertyChangeListener, ItemListene
            theMaximumVertexCountField.setEnabled(false);
            theBBoxLengthField.setEnabled(false);
            theMinimumVertexCountField.setEnabled(false);
+           theAlgorithmBox.setEnabled(false);
+           theVertexAttemptsField.setEnabled(false);
+           theBacktracksField.setEnabled(false);
          }
          if (TRACE)
             System.out.println("Polygons: generate = " + theGenerateFlag);
       }
+      if (source == theAlgorithmBox && e.getStateChange() == ItemEvent.SELECTED)
+      {
+         theAlgorithm = (PolygonAlgorithm)theAlgorithmBox.getSelectedItem();
+         if (TRACE)
+            System.out.println("Polygons: algorithm = " + theAlgorithm);
+      }
    }
 }
\ No newline at end of file
@@ -0,0 +1,285 @@
+/*
+ * PolygonSegmentGrid.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with finding the parts of a polygon under
+ * construction that lie near a candidate segment
+ */
+
+import java.util.Arrays;
+
+public class PolygonSegmentGrid {
+
+   /*
+    * PolygonSegmentGrid
+    *
+    * A uniform grid over the bounding square of the polygon being built.
+    * Entry i stands for vertex i and for the segment from vertex i - 1 to
+    * vertex i, and is listed in every cell that segment passes within a
+    * small margin of.  A candidate segment then need only be checked
+    * against the entries of the cells it passes through, nearest its
+    * start first, rather than against the whole polygon.  The margin
+    * covers the rounding of the walk itself, so no entry that truly
+    * touches a segment is skipped.
+    *
+    * Most random polygons stall long before their maximum vertex count,
+    * and walking a long segment across a fine, nearly empty grid costs
+    * more than it saves, so the grid starts coarse and doubles its cells
+    * per side whenever the polygon outgrows one entry per cell.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final int MIN_CELLS_PER_SIDE = 4;
+   private static final int MAX_CELLS_PER_SIDE = 256;
+   private static final double MARGIN = 1e-9;
+   private static final int INITIAL_CELL_CAPACITY = 4;
+
+   /*
+    * EntryTest
+    *
+    * Says whether the candidate fails against entry anIndex
+    */
+
+   interface EntryTest
+   {
+      boolean test(int anIndex);
+   }
+
+   //***
+   // instance variables
+   //***
+
+   private final int theMaxCellsPerSide;
+   private int theCellsPerSide;
+   private final int[][] theEntries;
+   private final int[] theEntryCounts;
+
+   // cells holding entries, so reset only clears those
+   private final int[] theUsedCells;
+   private int theUsedCount;
+
+   // marks entries already tested by the current query
+   private final int[] theStamps;
+   private int theStamp;
+
+   // cells of the last walk, in order
+   private int[] theWalk;
+
+   // the segment of each entry, kept to rebuild a finer grid
+   private final double[] theX0;
+   private final double[] theY0;
+   private final double[] theX1;
+   private final double[] theY1;
+   private int theSize;
+
+   private double theLength;
+   private double theLeft;
+   private double theLower;
+   private double theCellSize;
+   private double theMargin;
+
+   /*
+    * PolygonSegmentGrid
+    *
+    * This constructor makes room for polygons of up to aMaxVertexCount
+    * vertices
+    */
+
+   PolygonSegmentGrid(int aMaxVertexCount)
+   {
+      int side = MIN_CELLS_PER_SIDE;
+      while (side < MAX_CELLS_PER_SIDE && (long)side * side < aMaxVertexCount + 1)
+         side *= 2;
+      theMaxCellsPerSide = side;
+      theCellsPerSide = MIN_CELLS_PER_SIDE;
+
+      int cells = side * side;
+      theEntries = new int[cells][];
+      theEntryCounts = new int[cells];
+      theUsedCells = new int[cells];
+      theStamps = new int[aMaxVertexCount + 1];
+      theWalk = new int[4 * side];
+      theX0 = new double[aMaxVertexCount + 1];
+      theY0 = new double[aMaxVertexCount + 1];
+      theX1 = new double[aMaxVertexCount + 1];
+      theY1 = new double[aMaxVertexCount + 1];
+   }
+
+   /*
+    * reset
+    *
+    * This method empties the grid and lays it over the square with lower
+    * left corner (aLeft, aLower) and sides aLength
+    */
+
+   public void reset(double aLeft, double aLower, double aLength)
+   {
+      clearCells();
+      theSize = 0;
+      theCellsPerSide = MIN_CELLS_PER_SIDE;
+
+      theLeft = aLeft;
+      theLower = aLower;
+      theLength = aLength;
+      theCellSize = aLength / theCellsPerSide;
+      theMargin = MARGIN * (Math.abs(aLeft) + Math.abs(aLower) + aLength);
+   }
+
+   /*
+    * add
+    *
+    * This method lists entry anIndex, the segment (x0, y0) -> (x1, y1), in
+    * the cells it passes near
+    */
+
+   public void add(int anIndex, double x0, double y0, double x1, double y1)
+   {
+      theX0[anIndex] = x0;
+      theY0[anIndex] = y0;
+      theX1[anIndex] = x1;
+      theY1[anIndex] = y1;
+      theSize = Math.max(theSize, anIndex + 1);
+
+      if (theSize > theCellsPerSide * theCellsPerSide && theCellsPerSide < theMaxCellsPerSide)
+         refine();
+      else
+         list(anIndex);
+   }
+
+   /*
+    * anyHit
+    *
+    * This method offers aTest each entry near the segment (x0, y0) ->
+    * (x1, y1) once, from the (x0, y0) end on, and returns whether any
+    * failed
+    */
+
+   public boolean anyHit(double x0, double y0, double x1, double y1, EntryTest aTest)
+   {
+      if (++theStamp == Integer.MAX_VALUE)
+      {
+         Arrays.fill(theStamps, 0);
+         theStamp = 1;
+      }
+
+      int count = walk(x0, y0, x1, y1);
+      for (int k = 0; k < count; k++)
+      {
+         int cell = theWalk[k];
+         int[] entries = theEntries[cell];
+         int size = theEntryCounts[cell];
+         for (int j = 0; j < size; j++)
+         {
+            int index = entries[j];
+            if (theStamps[index] != theStamp)
+            {
+               theStamps[index] = theStamp;
+               if (aTest.test(index))
+                  return true;
+            }
+         }
+      }
+      return false;
+   }
+
+   // Lists entry anIndex in the cells its segment passes near
+   private void list(int anIndex)
+   {
+      int count = walk(theX0[anIndex], theY0[anIndex], theX1[anIndex], theY1[anIndex]);
+      for (int k = 0; k < count; k++)
+      {
+         int cell = theWalk[k];
+         int size = theEntryCounts[cell];
+         if (size == 0)
+         {
+            theUsedCells[theUsedCount++] = cell;
+            if (theEntries[cell] == null)
+               theEntries[cell] = new int[INITIAL_CELL_CAPACITY];
+         }
+         else if (size == theEntries[cell].length)
+            theEntries[cell] = Arrays.copyOf(theEntries[cell], size * 2);
+         theEntries[cell][size] = anIndex;
+         theEntryCounts[cell] = size + 1;
+      }
+   }
+
+   // Doubles the cells per side and lists every entry again
+   private void refine()
+   {
+      clearCells();
+      while (theSize > theCellsPerSide * theCellsPerSide && theCellsPerSide < theMaxCellsPerSide)
+         theCellsPerSide *= 2;
+      theCellSize = theLength / theCellsPerSide;
+      for (int i = 0; i < theSize; i++)
+         list(i);
+   }
+
+   private void clearCells()
+   {
+      for (int i = 0; i < theUsedCount; i++)
+         theEntryCounts[theUsedCells[i]] = 0;
+      theUsedCount = 0;
+   }
+
+   // Lists in theWalk the cells within the margin of a segment, column by
+   // column and row by row in the direction it runs, returning how many
+   private int walk(double x0, double y0, double x1, double y1)
+   {
+      double minX = Math.min(x0, x1), maxX = Math.max(x0, x1);
+      double minY = Math.min(y0, y1), maxY = Math.max(y0, y1);
+      int firstCol = column(x0 < x1 ? minX - theMargin : maxX + theMargin);
+      int lastCol = column(x0 < x1 ? maxX + theMargin : minX - theMargin);
+      int colStep = (firstCol <= lastCol) ? 1 : -1;
+      int count = 0;
+
+      for (int col = firstCol; ; col += colStep)
+      {
+         // the part of the segment within a margin of this column
+         double low = Math.max(minX, theLeft + col * theCellSize - theMargin);
+         double high = Math.min(maxX, theLeft + (col + 1) * theCellSize + theMargin);
+         double yLow = minY, yHigh = maxY;
+         if (x0 != x1 && low <= high)
+         {
+            double yAtLow = y0 + (low - x0) / (x1 - x0) * (y1 - y0);
+            double yAtHigh = y0 + (high - x0) / (x1 - x0) * (y1 - y0);
+            yLow = Math.max(minY, Math.min(yAtLow, yAtHigh));
+            yHigh = Math.min(maxY, Math.max(yAtLow, yAtHigh));
+         }
+         int firstRow = row(y0 < y1 ? yLow - theMargin : yHigh + theMargin);
+         int lastRow = row(y0 < y1 ? yHigh + theMargin : yLow - theMargin);
+         int rowStep = (firstRow <= lastRow) ? 1 : -1;
+
+         for (int row = firstRow; ; row += rowStep)
+         {
+            if (count == theWalk.length)
+               theWalk = Arrays.copyOf(theWalk, count * 2);
+            theWalk[count++] = row * theCellsPerSide + col;
+            if (row == lastRow)
+               break;
+         }
+         if (col == lastCol)
+            break;
+      }
+      return count;
+   }
+
+   private int column(double x)
+   {
+      return clamp((int)Math.floor((x - theLeft) / theCellSize));
+   }
+
+   private int row(double y)
+   {
+      return clamp((int)Math.floor((y - theLower) / theCellSize));
+   }
+
+   private int clamp(int aCell)
+   {
+      return Math.max(0, Math.min(theCellsPerSide - 1, aCell));
+   }
+}
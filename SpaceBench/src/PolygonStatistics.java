@@ -0,0 +1,84 @@
+/*
+ * PolygonStatistics.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with counting what the polygon generator spent on
+ * a run
+ */
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class PolygonStatistics {
+
+   /*
+    * PolygonStatistics
+    *
+    * Totals for one run of the polygon generator, added to by every block
+    * of the output as it finishes a polygon.  The counts of candidates
+    * drawn per vertex placed, of backtracks and of polygons that came out
+    * short show how hard the options are on the incremental method, so a
+    * small run can tell what a large one will cost.
+    */
+
+   //***
+   // instance variables
+   //***
+
+   private final LongAdder theBuildNanos = new LongAdder();
+   private final LongAdder thePolygons = new LongAdder();
+   private final LongAdder theAttempts = new LongAdder();
+   private final LongAdder theAccepted = new LongAdder();
+   private final LongAdder theVertices = new LongAdder();
+   private final LongAdder theBacktracks = new LongAdder();
+   private final LongAdder theShortPolygons = new LongAdder();
+   private final LongAdder theDroppedPolygons = new LongAdder();
+
+   /*
+    * polygonBuilt
+    *
+    * This method records a polygon that took aNanos to build, drew
+    * anAttempts candidate vertices of which anAccepted were placed,
+    * backtracked aBacktracks times and ended with aVertexCount of the
+    * aRequestedCount vertices asked for
+    */
+
+   public void polygonBuilt(long aNanos, long anAttempts, long anAccepted, int aBacktracks, int aVertexCount,
+                            int aRequestedCount)
+   {
+      theBuildNanos.add(aNanos);
+      thePolygons.increment();
+      theAttempts.add(anAttempts);
+      theAccepted.add(anAccepted);
+      theVertices.add(aVertexCount);
+      if (aBacktracks > 0)
+         theBacktracks.add(aBacktracks);
+      if (aVertexCount < 3)
+         theDroppedPolygons.increment();
+      else if (aVertexCount < aRequestedCount)
+         theShortPolygons.increment();
+   }
+
+   /*
+    * print
+    *
+    * This method writes the totals to the console, the candidate counts
+    * only when anAlgorithm draws candidates
+    */
+
+   public void print(PolygonAlgorithm anAlgorithm)
+   {
+      long polygons = Math.max(1, thePolygons.sum());
+      System.out.printf("    %s: %.1f microseconds per polygon%n", anAlgorithm,
+                        theBuildNanos.sum() / 1000.0 / polygons);
+      if (anAlgorithm != PolygonAlgorithm.INCREMENTAL)
+         return;
+
+      System.out.printf("    %.1f candidates per vertex placed, %.2f vertices per polygon, %d backtracks%n",
+                        theAttempts.sum() / (double)Math.max(1, theAccepted.sum()),
+                        theVertices.sum() / (double)polygons, theBacktracks.sum());
+      System.out.printf("    %d polygons short of their vertex count, %d dropped with under 3%n",
+                        theShortPolygons.sum(), theDroppedPolygons.sum());
+   }
+}
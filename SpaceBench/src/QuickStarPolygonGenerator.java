@@ -9,6 +9,7 @@
 
 import java.lang.Math;
 import java.io.*;
+import java.util.function.DoubleSupplier;
 import java.util.*;
 
 public class QuickStarPolygonGenerator {
@@ -19,26 +20,24 @@ public class QuickStarPolygonGenerator {
 	{
 		// set up file output 
 		String outFilename;
-	    FileWriter f = null;
-	    PrintWriter out = null;
+	    GeometryWriter out = null;
 	    
 	    // Is the generate flag checked?
 	    if (aModel.theGenerateQSPolygonsFlag == false)
 	    	return;
 	    
 	    // generate output file
-	    outFilename = aModel.theFilenamePrefix + "Quick-StarPolygons.txt";
-		f = new FileWriter(outFilename);
-		out = new PrintWriter(f);        
+	    outFilename = aModel.theFilenamePrefix + "Quick-StarPolygons" + aModel.theOutputFormat.extension();
+		out = GeometryWriter.open(aModel, outFilename);
 		System.out.println("  creating quick-star polygons datafile [" + outFilename + "]");
 
 		// input from user
-		int numOfQSPolygons = aModel.theNumberOfQSPolygons;
+		long numOfQSPolygons = aModel.theNumberOfQSPolygons;
 		int numOfQSVertices = aModel.theNumberOfQSVertices;
 		double starRadius = aModel.theStarRadius;
 		
 		
-		int outerCount = 0;	// polygon counter
+		long outerCount = 0;	// polygon counter
 		int innerCount = 0;	// vertex counter
 		double angle = 0;	// angle between two consecutive vertices 
 		double randRadius;	// radius in the range 0-radius
@@ -55,29 +54,35 @@ public class QuickStarPolygonGenerator {
 		
 		
 		gap = (2 * Math.PI) / numOfQSVertices;
-		Random rand = new Random();
+		UniformBatch rand = new UniformBatch(RandomStreams.stream(aModel, "quick-star polygons", 0));
+		Placement placement = new Placement(aModel);
+		DoubleSupplier uniform = rand::next;
+		double[] center = new double[2];
 		while (outerCount < numOfQSPolygons) {
+			GeneratorScheduler.checkCancelled(out);
+
 			// generating random center within scene bound
-			centerX = rand.nextDouble() * aModel.theSceneLength + 1;
-			centerY = rand.nextDouble() * aModel.theSceneLength + 1;
+			placement.sample(uniform, center);
+			centerX = center[0] * aModel.theSceneLength + 1;
+			centerY = center[1] * aModel.theSceneLength + 1;
 			verify = withinSceneLength(aModel, starRadius, centerX, centerY);
 			
 			if (verify) {
-				out.print("POLYGON (");
+				out.beginPolygon();
 				
 				angle = 0;
 				innerCount = 0;
 				
 				// Generates Vertices
 				while (innerCount < numOfQSVertices) {
-					randRadius = rand.nextFloat() * starRadius;
+					randRadius = rand.next() * starRadius;
 					x = centerX + randRadius * Math.cos(angle);
 					y = centerY + randRadius * Math.sin(angle);
-					out.printf("%f %f, ", x, y);
+					out.coordinate(x, y);
 					angle += gap;
 					innerCount++;
 				}
-				out.println(")");
+				out.endGeometry();
 				outerCount++;
 			}
 		}
@@ -70,7 +70,7 @@ public class QuickStarPolygonGeneratorView implements PropertyChangeListener, It
 
    // property values
    private boolean theGenerateFlag;
-   private int theNumberOfQSPolygons;
+   private long theNumberOfQSPolygons;
    private int theNumberOfQSVertices;
    //private int theBBoxLength;
    private double theStarRadius;
@@ -115,7 +115,7 @@ public class QuickStarPolygonGeneratorView implements PropertyChangeListener, It
     * This method sets the current number of polygons to be generated
     */
    
-   public void setNumberOfQSPolygons(int aCount)
+   public void setNumberOfQSPolygons(long aCount)
    {
       theNumberOfQSPolygons = aCount;
       if (theNumberOfPolygonsField != null)
@@ -190,7 +190,7 @@ public class QuickStarPolygonGeneratorView implements PropertyChangeListener, It
     * This method returns the current number of polygons
     */
    
-    public int getNumberOfQSPolygons()
+    public long getNumberOfQSPolygons()
     {
        return theNumberOfQSPolygons;
     }
@@ -361,7 +361,7 @@ public class QuickStarPolygonGeneratorView implements PropertyChangeListener, It
        Object source = e.getSource();
        if (source == theNumberOfPolygonsField)
        {
-          theNumberOfQSPolygons = ((Number)theNumberOfPolygonsField.getValue()).intValue();
+          theNumberOfQSPolygons = ((Number)theNumberOfPolygonsField.getValue()).longValue();
           if (TRACE)
              System.out.println("Quick-Star Polygons: number of squares = " + theNumberOfQSPolygons);
        }
@@ -0,0 +1,39 @@
+/*
+ * RandomEngine.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with choosing the random number algorithm for a run
+ */
+
+public enum RandomEngine {
+
+   // SplitMix64, the algorithm of java.util.SplittableRandom, the default
+   SPLITMIX64,
+
+   // xoshiro256++ by Blackman and Vigna, fastest per call
+   XOSHIRO256PP,
+
+   // Philox4x32-10 by Salmon et al., counter based with random access
+   PHILOX;
+
+   /*
+    * create
+    *
+    * This method returns a new source of this engine seeded with aSeed
+    */
+
+   public RandomSource create(long aSeed)
+   {
+      switch (this)
+      {
+         case XOSHIRO256PP:
+            return new Xoshiro256PlusPlusSource(aSeed);
+         case PHILOX:
+            return new PhiloxRandomSource(aSeed);
+         default:
+            return new SplitMix64Source(aSeed);
+      }
+   }
+}
@@ -0,0 +1,55 @@
+/*
+ * RandomSource.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with the source of random numbers every generator
+ * draws from
+ */
+
+public interface RandomSource {
+
+   /*
+    * nextLong
+    *
+    * Returns the next 64 uniformly distributed random bits
+    */
+
+   long nextLong();
+
+   /*
+    * nextDouble
+    *
+    * Returns a uniformly distributed value in [0, 1) built from the top
+    * 53 bits of nextLong
+    */
+
+   default double nextDouble()
+   {
+      return (nextLong() >>> 11) * 0x1.0p-53;
+   }
+
+   /*
+    * nextDoubles
+    *
+    * Fills aLength elements of anArray, from anOffset, with the values
+    * that many nextDouble calls would return.  Sources override it with
+    * a loop that keeps their state in locals.
+    */
+
+   default void nextDoubles(double[] anArray, int anOffset, int aLength)
+   {
+      for (int i = anOffset; i < anOffset + aLength; i++)
+         anArray[i] = nextDouble();
+   }
+
+   /*
+    * copy
+    *
+    * Returns an independent source that will produce the same values as
+    * this one from its current position
+    */
+
+   RandomSource copy();
+}
@@ -0,0 +1,189 @@
+/*
+ * RandomSourceBenchmark.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file compares the cost of the random engines, alone and inside the
+ * real generator loops
+ *
+ * Usage: java RandomSourceBenchmark [calls per thread] [geometries] [threads]
+ */
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class RandomSourceBenchmark {
+
+   //***
+   // class variables
+   //***
+
+   private static final int DEFAULT_CALLS = 50000000;
+   private static final int DEFAULT_GEOMETRIES = 1000000;
+
+   // sink for drawn values so the JIT cannot drop the loops
+   private static volatile double theSink;
+
+   /*
+    * MathRandomSource
+    *
+    * The shared Math.random() generator the engines replace, measured as
+    * the baseline
+    */
+
+   private static class MathRandomSource implements RandomSource
+   {
+      public long nextLong()
+      {
+         return (long)(Math.random() * 0x1.0p53) << 11;
+      }
+
+      public double nextDouble()
+      {
+         return Math.random();
+      }
+
+      public RandomSource copy()
+      {
+         return this;
+      }
+   }
+
+   //***
+   // main entry point
+   //***
+
+   public static void main(String[] args) throws Exception
+   {
+      int calls = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CALLS;
+      int geometries = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GEOMETRIES;
+      int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+      //***
+      // cost per nextDouble() call, every thread drawing at once
+      //***
+
+      System.out.println("nextDouble() on " + threads + " threads, " + calls + " calls each");
+      measureCalls("Math.random", null, calls, threads);
+      for (RandomEngine engine : RandomEngine.values())
+         measureCalls(engine.name(), engine, calls, threads);
+
+      //***
+      // cost inside the point, square and triangle generator loops
+      //***
+
+      File dir = createTempDirectory();
+      System.out.println("generators writing " + geometries + " geometries each to " + dir);
+      for (RandomEngine engine : RandomEngine.values())
+         measureGenerators(engine, geometries, dir);
+      for (File file : dir.listFiles())
+         file.delete();
+      dir.delete();
+   }
+
+   // Reports the average cost of one nextDouble() call on each thread
+   private static void measureCalls(String aName, final RandomEngine anEngine, final int aCallCount, int aThreadCount)
+      throws Exception
+   {
+      ExecutorService pool = Executors.newFixedThreadPool(aThreadCount);
+      try
+      {
+         for (int pass = 0; pass < 2; pass++)
+         {
+            List<Future<Long>> futures = new ArrayList<Future<Long>>();
+            for (int t = 0; t < aThreadCount; t++)
+            {
+               final long seed = t;
+               futures.add(pool.submit(new Callable<Long>() {
+                  public Long call()
+                  {
+                     RandomSource random = (anEngine == null) ? new MathRandomSource() : anEngine.create(seed);
+                     double sum = 0;
+                     long start = System.nanoTime();
+                     for (int i = 0; i < aCallCount; i++)
+                        sum += random.nextDouble();
+                     long elapsed = System.nanoTime() - start;
+                     theSink = sum;
+                     return elapsed;
+                  }
+               }));
+            }
+            long elapsed = 0;
+            for (Future<Long> future : futures)
+               elapsed = Math.max(elapsed, future.get());
+
+            // the first pass only warms up the JIT
+            if (pass == 1)
+               System.out.printf("  %-14s %7.2f ns/call%n", aName, (double)elapsed / aCallCount);
+         }
+      }
+      finally
+      {
+         pool.shutdown();
+      }
+   }
+
+   // Reports the time the simple generators take with the given engine
+   private static void measureGenerators(RandomEngine anEngine, int aGeometryCount, File aDir) throws IOException
+   {
+      DataGenModel model = new DataGenModel();
+      model.theSceneLength = 1000;
+      model.theFilenamePrefix = aDir.getPath() + File.separator + anEngine.name() + ".";
+      model.theRandomEngine = anEngine;
+      model.theSeed = 1;
+      model.theShardCount = 1;
+      model.theNumberOfPoints = aGeometryCount;
+      model.theNumberOfSquares = aGeometryCount;
+      model.theMaximumSquareSideLength = 10;
+      model.theNumberOfTriangles = aGeometryCount;
+      model.theTriangleBBoxHeight = 10;
+      model.theTriangleBBoxWidth = 10;
+
+      PrintStream console = System.out;
+      long[] elapsed = new long[3];
+      try
+      {
+         // silence the generators' progress output
+         System.setOut(new PrintStream(new ByteArrayOutputStream()));
+         for (int pass = 0; pass < 2; pass++)
+         {
+            model.theGeneratePointsFlag = true;
+            elapsed[0] = time(new PointGenerator()::generate, model);
+            model.theGeneratePointsFlag = false;
+
+            model.theGenerateSquaresFlag = true;
+            elapsed[1] = time(new SquareGenerator()::generate, model);
+            model.theGenerateSquaresFlag = false;
+
+            model.theGenerateTrianglesFlag = true;
+            elapsed[2] = time(new TriangleGenerator()::generate, model);
+            model.theGenerateTrianglesFlag = false;
+         }
+      }
+      finally
+      {
+         System.setOut(console);
+      }
+      System.out.printf("  %-14s points %6d ms, squares %6d ms, triangles %6d ms%n",
+                        anEngine.name(), elapsed[0], elapsed[1], elapsed[2]);
+   }
+
+   // Runs one generator and returns its elapsed milliseconds
+   private static long time(GeneratorScheduler.Task aTask, DataGenModel aModel) throws IOException
+   {
+      long start = System.nanoTime();
+      aTask.generate(aModel);
+      return (System.nanoTime() - start) / 1000000;
+   }
+
+   // Creates an empty directory for the generated files
+   private static File createTempDirectory() throws IOException
+   {
+      File dir = File.createTempFile("rngbench", "");
+      if (!dir.delete() || !dir.mkdir())
+         throw new IOException("cannot create " + dir);
+      return dir;
+   }
+}
@@ -0,0 +1,76 @@
+/*
+ * RandomStreams.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with deriving the random streams used by the
+ * generators from the scene seed
+ */
+
+public class RandomStreams {
+
+   /*
+    * RandomStreams
+    *
+    * Every random number drawn during a run comes from a stream identified
+    * by (scene seed, generator name, block number).  A block is a fixed run
+    * of BLOCK_SIZE consecutive geometries, so the stream a geometry draws
+    * from depends only on its position in the file and not on how the
+    * file was divided between threads.  The same seed and options therefore
+    * reproduce the same data files for any shard count.
+    */
+
+   //***
+   // class variables
+   //***
+
+   // geometries drawn from one block stream
+   public static final int BLOCK_SIZE = 4096;
+
+   // odd constant of the 64-bit golden ratio, spreads consecutive keys
+   private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+   private RandomStreams()
+   {
+   }
+
+   /*
+    * stream
+    *
+    * This method returns the stream for the given block of the named
+    * generator, using the model's seed and random engine.  Generators that
+    * are not split into blocks use block 0.
+    */
+
+   public static RandomSource stream(DataGenModel aModel, String aGenerator, long aBlock)
+   {
+      return aModel.theRandomEngine.create(mix64(generatorKey(aModel.theSeed, aGenerator) + aBlock * GOLDEN_GAMMA));
+   }
+
+   /*
+    * newSeed
+    *
+    * This method returns a fresh scene seed for a model that was not
+    * given one
+    */
+
+   public static long newSeed()
+   {
+      return mix64(System.nanoTime() ^ System.currentTimeMillis() * GOLDEN_GAMMA);
+   }
+
+   // Combines the scene seed with the generator name
+   private static long generatorKey(long aSeed, String aGenerator)
+   {
+      return mix64(aSeed ^ mix64(aGenerator.hashCode() * GOLDEN_GAMMA));
+   }
+
+   // Stafford's variant 13 of the murmur3 64-bit finalizer
+   static long mix64(long z)
+   {
+      z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+      z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+      return z ^ (z >>> 31);
+   }
+}
@@ -10,8 +10,7 @@
 
 import java.lang.Math;
 import java.io.*;
-import java.awt.geom.Point2D;
-import java.util.*;
+import java.util.function.DoubleSupplier;
 
 public class RandomWalkGenerator {
 
@@ -31,14 +30,15 @@ public class RandomWalkGenerator {
 	 *
      * This method does the actual generation work, currently generates a random point
      * then for subsequent points picks a direction, directly north south east or west,
-     * and generates another point.
+     * and generates another point.  Each point is written as soon as it is accepted
+     * and only the last one is kept, so a walk of millions of steps needs no more
+     * memory than a short one.
 	 */
 	public void generate(DataGenModel aModel) throws IOException
 	{
 		//Set up output 
 		String outFilename;
-	    FileWriter f = null;
-	    PrintWriter out = null;
+	    GeometryWriter out = null;
 	    
 	    //Points
 	    double x,y;
@@ -48,68 +48,69 @@ public class RandomWalkGenerator {
 	    	return;
 	    
 	    // Input from User (grabbing from data model)
-	    int desiredNumberOfAlgorithms = aModel.theNumberOfRandomWalks;		//number of paths produced 	 
+	    long desiredNumberOfAlgorithms = aModel.theNumberOfRandomWalks;		//number of paths produced 	 
 	    int desiredNumberOfSteps = aModel.theNumberOfSteps;					//Range of steps per algorithm (from 3 to n)
 	    double stepLength = aModel.theMaximumStepLength;						//Range of step length(from 0 to n)
 	    
 	    //generate output file
-	    outFilename = aModel.theFilenamePrefix + "randomWalk.txt";
-		f = new FileWriter(outFilename);
-		out = new PrintWriter(f);        
+	    outFilename = aModel.theFilenamePrefix + "randomWalk" + aModel.theOutputFormat.extension();
+		out = GeometryWriter.open(aModel, outFilename);
 		System.out.println("  creating randomWalk datafile [" + outFilename + "]");
 	   
 	   
 	   //prepare algorithm counters
-	   int amountProduced = 0;
+	   long amountProduced = 0;
+	   RandomSource random = RandomStreams.stream(aModel, "random walks", 0);
+	   Placement placement = new Placement(aModel);
+	   DoubleSupplier uniform = random::nextDouble;
+	   double[] start = new double[2];
 	   
 	   //Generate desired number of algorithms
 	   while (amountProduced < desiredNumberOfAlgorithms){
+		   GeneratorScheduler.checkCancelled(out);
 		   
 		   //***
 		   //	create next random Walk
 		   //***
 		   
 		   //prepare
-		   List<Point2D> xyCoords = new ArrayList<Point2D>();
-		   	xyCoords.clear();
 		   	x = 0;
 		   	y = 0;
 		   	
 		   	//Random the steps per algorithm 
 
-		   	int usedDesiredNumberOfSteps = (int)(Math.random()*(desiredNumberOfSteps)+1);
+		   	int usedDesiredNumberOfSteps = (int)(random.nextDouble()*(desiredNumberOfSteps)+1);
 			
 			//generate the starting point
-			x = (Math.random()*aModel.theSceneLength)+1;
-            y = (Math.random()*aModel.theSceneLength)+1;
+			placement.sample(uniform, start);
+			x = (start[0]*aModel.theSceneLength)+1;
+            y = (start[1]*aModel.theSceneLength)+1;
             
-            //add point to the list
-            Point2D startPt = new Point2D.Double(x,y);
-            Point2D checkPt = new Point2D.Double(x,y);
-            xyCoords.add(startPt);
+            //write the point, keeping it to check the next against
+            double checkX = x, checkY = y;
+            out.beginLineString();
+            out.coordinate(x, y);
 		
 			//generate path from point
 		   	for(int i = 1; i<usedDesiredNumberOfSteps; i++){
 		   		
 		   	   
 		   		//chose direction to move
-		   	    double xDistance = (Math.random()*(2*stepLength))-(stepLength/2);
-		   	    double yDistance = (Math.random()*(2*stepLength))-(stepLength/2);		
+		   	    double xDistance = (random.nextDouble()*(2*stepLength))-(stepLength/2);
+		   	    double yDistance = (random.nextDouble()*(2*stepLength))-(stepLength/2);		
 					   
-					   //Create Candidate Point
-		               Point2D candidatePt = new Point2D.Double(x + xDistance,y + yDistance);
-		               
 		               //Check if: 
 		               //			1) the point will not come back to the previous location(redundancy)
 		               //			2) the point will not be outside the scene
-		               if (((checkPt.getX() != (x + xDistance)) || (checkPt.getY() != (y + yDistance))) && (((x + xDistance) <= aModel.theSceneLength )&&((x + xDistance) >= 0) && ((y + yDistance) <= aModel.theSceneLength) && ((y + yDistance)>=0))) 
+		               if (((checkX != (x + xDistance)) || (checkY != (y + yDistance))) && (((x + xDistance) <= aModel.theSceneLength )&&((x + xDistance) >= 0) && ((y + yDistance) <= aModel.theSceneLength) && ((y + yDistance)>=0))) 
 		               {
 		            	   
 		            	  //if conditions satisfied, add point to the path
-		                  xyCoords.add(candidatePt);
-		                  checkPt = candidatePt;
 		                  x = x + xDistance;
 		                  y = y + yDistance;
+		                  out.coordinate(x, y);
+		                  checkX = x;
+		                  checkY = y;
 		               } else {
 		            	   i--;
 		               }
@@ -119,20 +120,8 @@ public class RandomWalkGenerator {
 		   	//finish algorithmic path 
 		   	amountProduced++;
 		   	
-		   	//output line string to text file 
-		   	out.print("LINESTRING (");
-			 
-		            for (int i = 0; i < xyCoords.size()-1; i++)
-		            {
-		               x = xyCoords.get(i).getX();
-		               y = xyCoords.get(i).getY();
-		               
-		               out.print(x+" "+y+", ");
-		            }
-		            
-		            x = xyCoords.get(xyCoords.size()-1).getX();
-		            y = xyCoords.get(xyCoords.size()-1).getY();
-		            out.println(x+" "+y+")"); 
+		   	//end the line string in the output file
+		            out.endGeometry();
 		            
         	}
         	out.close();
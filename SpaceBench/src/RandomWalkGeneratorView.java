@@ -56,7 +56,7 @@ public class RandomWalkGeneratorView implements PropertyChangeListener, ItemList
 
 	   // property values
 	   private boolean theGenerateFlag;
-	   private int theNumberOfRandomWalks;
+	   private long theNumberOfRandomWalks;
 	   private double theMaximumStepLength;
 	   private int theNumberOfSteps;
 	   
@@ -99,7 +99,7 @@ public class RandomWalkGeneratorView implements PropertyChangeListener, ItemList
 	    * This method sets the current number of line strings produced
 	    */
 	   
-	   public void setNumberOfRandomWalks(int aCount)
+	   public void setNumberOfRandomWalks(long aCount)
 	   {
 		   theNumberOfRandomWalks = aCount;
 	      if (theNumberOfRandomWalksField != null)
@@ -159,7 +159,7 @@ public class RandomWalkGeneratorView implements PropertyChangeListener, ItemList
 	   * This method returns the current number of line strings to be generated
 	   */
 	   
-	   public int getNumberOfRandomWalks()
+	   public long getNumberOfRandomWalks()
 	   {
 	      return theNumberOfRandomWalks;
 	   }
@@ -328,7 +328,7 @@ public class RandomWalkGeneratorView implements PropertyChangeListener, ItemList
 	      Object source = e.getSource();
 	      if (source == theNumberOfRandomWalksField)
 	      {
-	    	  theNumberOfRandomWalks = ((Number)theNumberOfRandomWalksField.getValue()).intValue();
+	    	  theNumberOfRandomWalks = ((Number)theNumberOfRandomWalksField.getValue()).longValue();
 	         if (TRACE)
 	            System.out.println("Random Walk: number of algorithms = " + theNumberOfRandomWalks);
 	      }
@@ -26,6 +26,15 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
    private static final String TAB_TOOLTIP = "Scene size and output options";
    private static final double DEFAULT_SCENE_LENGTH = 1000;
    private static final String DEFAULT_FILENAME_PREFIX = "data.";
+   private static final int DEFAULT_GENERATOR_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+   private static final int DEFAULT_SHARD_COUNT = 1;
+   private static final int DEFAULT_OUTPUT_BUFFER_SIZE = 256 * 1024;
+   private static final int DEFAULT_OUTPUT_BUFFER_COUNT = 4;
+   private static final int DEFAULT_ENCODER_THREAD_COUNT = 0;
+   private static final int DEFAULT_PIPELINE_RING_SIZE = 8;
+   private static final int DEFAULT_CLUSTER_COUNT = 10;
+   private static final double DEFAULT_CLUSTER_SPREAD = 10.0;
+   private static final double DEFAULT_ZIPF_EXPONENT = 1.0;
    
    //***
    // instance variables
@@ -45,9 +54,117 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
    private JLabel theFilenamePrefixLabel;
    private JTextField theFilenamePrefixField;
 
+   // elements for 'generator threads'
+   private NumberFormat theGeneratorThreadCountFormat;
+   private JPanel theGeneratorThreadCountPanel;
+   private JLabel theGeneratorThreadCountLabel;
+   private JFormattedTextField theGeneratorThreadCountField;
+
+   // elements for 'shards per generator'
+   private NumberFormat theShardCountFormat;
+   private JPanel theShardCountPanel;
+   private JLabel theShardCountLabel;
+   private JFormattedTextField theShardCountField;
+
+   // elements for 'random seed'
+   private NumberFormat theSeedFormat;
+   private JPanel theSeedPanel;
+   private JLabel theSeedLabel;
+   private JFormattedTextField theSeedField;
+
+   // elements for 'random engine'
+   private JPanel theRandomEnginePanel;
+   private JLabel theRandomEngineLabel;
+   private JComboBox<RandomEngine> theRandomEngineBox;
+
+   // elements for 'coordinate decimal places'
+   private NumberFormat theCoordinateDecimalsFormat;
+   private JPanel theCoordinateDecimalsPanel;
+   private JLabel theCoordinateDecimalsLabel;
+   private JFormattedTextField theCoordinateDecimalsField;
+
+   // elements for 'output format'
+   private JPanel theOutputFormatPanel;
+   private JLabel theOutputFormatLabel;
+   private JComboBox<OutputFormat> theOutputFormatBox;
+
+   // elements for 'SRID'
+   private NumberFormat theSridFormat;
+   private JPanel theSridPanel;
+   private JLabel theSridLabel;
+   private JFormattedTextField theSridField;
+
+   // elements for 'output buffer size'
+   private NumberFormat theOutputBufferSizeFormat;
+   private JPanel theOutputBufferSizePanel;
+   private JLabel theOutputBufferSizeLabel;
+   private JFormattedTextField theOutputBufferSizeField;
+
+   // elements for 'output buffer count'
+   private NumberFormat theOutputBufferCountFormat;
+   private JPanel theOutputBufferCountPanel;
+   private JLabel theOutputBufferCountLabel;
+   private JFormattedTextField theOutputBufferCountField;
+
+   // elements for 'encoder threads per file'
+   private NumberFormat theEncoderThreadCountFormat;
+   private JPanel theEncoderThreadCountPanel;
+   private JLabel theEncoderThreadCountLabel;
+   private JFormattedTextField theEncoderThreadCountField;
+
+   // elements for 'pipeline ring slots'
+   private NumberFormat thePipelineRingSizeFormat;
+   private JPanel thePipelineRingSizePanel;
+   private JLabel thePipelineRingSizeLabel;
+   private JFormattedTextField thePipelineRingSizeField;
+
+   // elements for 'placement distribution'
+   private JPanel thePlacementDistributionPanel;
+   private JLabel thePlacementDistributionLabel;
+   private JComboBox<PlacementDistribution> thePlacementDistributionBox;
+
+   // elements for 'cluster count'
+   private NumberFormat theClusterCountFormat;
+   private JPanel theClusterCountPanel;
+   private JLabel theClusterCountLabel;
+   private JFormattedTextField theClusterCountField;
+
+   // elements for 'cluster spread'
+   private NumberFormat theClusterSpreadFormat;
+   private JPanel theClusterSpreadPanel;
+   private JLabel theClusterSpreadLabel;
+   private JFormattedTextField theClusterSpreadField;
+
+   // elements for 'Zipf exponent'
+   private NumberFormat theZipfExponentFormat;
+   private JPanel theZipfExponentPanel;
+   private JLabel theZipfExponentLabel;
+   private JFormattedTextField theZipfExponentField;
+
+   // elements for 'density map'
+   private JPanel theDensityMapFilenamePanel;
+   private JLabel theDensityMapFilenameLabel;
+   private JTextField theDensityMapFilenameField;
+
    // property values
    private double theSceneLength;
    private String theFilenamePrefix;
+   private int theGeneratorThreadCount;
+   private int theShardCount;
+   private long theSeed;
+   private RandomEngine theRandomEngine;
+   private int theCoordinateDecimals;
+   private OutputFormat theOutputFormat;
+   private int theSrid;
+   private int theOutputBufferSize;
+   private int theOutputBufferCount;
+   private int theEncoderThreadCount;
+   private int thePipelineRingSize;
+   private PlacementDistribution thePlacementDistribution;
+   private int theClusterCount;
+   private double theClusterSpread;
+   private double theZipfExponent;
+   private String theDensityMapFilename;
 
    /*
     * SceneOptionsView
@@ -60,6 +177,22 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
    {
       theSceneLength = DEFAULT_SCENE_LENGTH;
       theFilenamePrefix = DEFAULT_FILENAME_PREFIX;
+      theGeneratorThreadCount = DEFAULT_GENERATOR_THREAD_COUNT;
+      theShardCount = DEFAULT_SHARD_COUNT;
+      theSeed = RandomStreams.newSeed();
+      theRandomEngine = RandomEngine.SPLITMIX64;
+      theCoordinateDecimals = WktWriter.SHORTEST;
+      theOutputFormat = OutputFormat.WKT;
+      theSrid = 0;
+      theOutputBufferSize = DEFAULT_OUTPUT_BUFFER_SIZE;
+      theOutputBufferCount = DEFAULT_OUTPUT_BUFFER_COUNT;
+      theEncoderThreadCount = DEFAULT_ENCODER_THREAD_COUNT;
+      thePipelineRingSize = DEFAULT_PIPELINE_RING_SIZE;
+      thePlacementDistribution = PlacementDistribution.UNIFORM;
+      theClusterCount = DEFAULT_CLUSTER_COUNT;
+      theClusterSpread = DEFAULT_CLUSTER_SPREAD;
+      theZipfExponent = DEFAULT_ZIPF_EXPONENT;
+      theDensityMapFilename = "";
    }
 
    /*
@@ -94,6 +227,271 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
       }
    }
 
+   /*
+    * setGeneratorThreadCount
+    * 
+    * This method sets the number of generators that may run at once
+    */
+   
+   public void setGeneratorThreadCount(int aCount)
+   {
+      theGeneratorThreadCount = aCount;
+      if (theGeneratorThreadCountField != null)
+      {
+         theGeneratorThreadCountField.setValue(theGeneratorThreadCount);
+         theGeneratorThreadCountField.updateUI();
+      }
+   }
+
+   /*
+    * setShardCount
+    * 
+    * This method sets the number of threads a single generator's
+    * output is split across
+    */
+   
+   public void setShardCount(int aCount)
+   {
+      theShardCount = aCount;
+      if (theShardCountField != null)
+      {
+         theShardCountField.setValue(theShardCount);
+         theShardCountField.updateUI();
+      }
+   }
+
+   /*
+    * setSeed
+    * 
+    * This method sets the seed every generator's random streams
+    * are derived from
+    */
+   
+   public void setSeed(long aSeed)
+   {
+      theSeed = aSeed;
+      if (theSeedField != null)
+      {
+         theSeedField.setValue(theSeed);
+         theSeedField.updateUI();
+      }
+   }
+
+   /*
+    * setRandomEngine
+    * 
+    * This method sets the random number algorithm used by the generators
+    */
+   
+   public void setRandomEngine(RandomEngine anEngine)
+   {
+      theRandomEngine = anEngine;
+      if (theRandomEngineBox != null)
+      {
+         theRandomEngineBox.setSelectedItem(theRandomEngine);
+         theRandomEngineBox.updateUI();
+      }
+   }
+
+   /*
+    * setCoordinateDecimals
+    * 
+    * This method sets the number of decimal places coordinates are
+    * written with, -1 for shortest round-trip form
+    */
+   
+   public void setCoordinateDecimals(int aDecimals)
+   {
+      theCoordinateDecimals = aDecimals;
+      if (theCoordinateDecimalsField != null)
+      {
+         theCoordinateDecimalsField.setValue(theCoordinateDecimals);
+         theCoordinateDecimalsField.updateUI();
+      }
+   }
+
+   /*
+    * setPlacementDistribution
+    * 
+    * This method sets how geometries are spread over the scene
+    */
+   
+   public void setPlacementDistribution(PlacementDistribution aDistribution)
+   {
+      thePlacementDistribution = aDistribution;
+      if (thePlacementDistributionBox != null)
+      {
+         thePlacementDistributionBox.setSelectedItem(thePlacementDistribution);
+         thePlacementDistributionBox.updateUI();
+      }
+   }
+
+   /*
+    * setClusterCount
+    * 
+    * This method sets the number of cluster centers geometries gather around
+    */
+   
+   public void setClusterCount(int aCount)
+   {
+      theClusterCount = aCount;
+      if (theClusterCountField != null)
+      {
+         theClusterCountField.setValue(theClusterCount);
+         theClusterCountField.updateUI();
+      }
+   }
+
+   /*
+    * setClusterSpread
+    * 
+    * This method sets the standard deviation of positions around a
+    * cluster center or the diagonal
+    */
+   
+   public void setClusterSpread(double aSpread)
+   {
+      theClusterSpread = aSpread;
+      if (theClusterSpreadField != null)
+      {
+         theClusterSpreadField.setValue(theClusterSpread);
+         theClusterSpreadField.updateUI();
+      }
+   }
+
+   /*
+    * setZipfExponent
+    * 
+    * This method sets how sharply hotspot popularity falls off
+    */
+   
+   public void setZipfExponent(double anExponent)
+   {
+      theZipfExponent = anExponent;
+      if (theZipfExponentField != null)
+      {
+         theZipfExponentField.setValue(theZipfExponent);
+         theZipfExponentField.updateUI();
+      }
+   }
+
+   /*
+    * setDensityMapFilename
+    * 
+    * This method sets the PGM or PNG image the density map placement
+    * follows
+    */
+   
+   public void setDensityMapFilename(String aFilename)
+   {
+      theDensityMapFilename = aFilename;
+      if (theDensityMapFilenameField != null)
+      {
+         theDensityMapFilenameField.setText(theDensityMapFilename);
+         theDensityMapFilenameField.updateUI();
+      }
+   }
+
+   /*
+    * setOutputFormat
+    * 
+    * This method sets the encoding of the generated data files
+    */
+   
+   public void setOutputFormat(OutputFormat aFormat)
+   {
+      theOutputFormat = aFormat;
+      if (theOutputFormatBox != null)
+      {
+         theOutputFormatBox.setSelectedItem(theOutputFormat);
+         theOutputFormatBox.updateUI();
+      }
+   }
+
+   /*
+    * setSrid
+    * 
+    * This method sets the spatial reference id written with EWKB output
+    */
+   
+   public void setSrid(int aSrid)
+   {
+      theSrid = aSrid;
+      if (theSridField != null)
+      {
+         theSridField.setValue(theSrid);
+         theSridField.updateUI();
+      }
+   }
+
+   /*
+    * setOutputBufferSize
+    * 
+    * This method sets the size in bytes of each buffer handed to the
+    * disk writer thread
+    */
+   
+   public void setOutputBufferSize(int aSize)
+   {
+      theOutputBufferSize = aSize;
+      if (theOutputBufferSizeField != null)
+      {
+         theOutputBufferSizeField.setValue(theOutputBufferSize);
+         theOutputBufferSizeField.updateUI();
+      }
+   }
+
+   /*
+    * setOutputBufferCount
+    * 
+    * This method sets the number of buffers each data file may have
+    * in flight
+    */
+   
+   public void setOutputBufferCount(int aCount)
+   {
+      theOutputBufferCount = aCount;
+      if (theOutputBufferCountField != null)
+      {
+         theOutputBufferCountField.setValue(theOutputBufferCount);
+         theOutputBufferCountField.updateUI();
+      }
+   }
+
+   /*
+    * setEncoderThreadCount
+    * 
+    * This method sets the number of threads encoding each data file,
+    * 0 to encode on the generator thread
+    */
+   
+   public void setEncoderThreadCount(int aCount)
+   {
+      theEncoderThreadCount = aCount;
+      if (theEncoderThreadCountField != null)
+      {
+         theEncoderThreadCountField.setValue(theEncoderThreadCount);
+         theEncoderThreadCountField.updateUI();
+      }
+   }
+
+   /*
+    * setPipelineRingSize
+    * 
+    * This method sets the number of batches each data file's pipeline
+    * may have in flight
+    */
+   
+   public void setPipelineRingSize(int aSize)
+   {
+      thePipelineRingSize = aSize;
+      if (thePipelineRingSizeField != null)
+      {
+         thePipelineRingSizeField.setValue(thePipelineRingSize);
+         thePipelineRingSizeField.updateUI();
+      }
+   }
+
    /*
     * getSceneLength
     * 
@@ -116,6 +514,189 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
       return theFilenamePrefix;
    }
 
+   /*
+    * getGeneratorThreadCount
+    * 
+    * This method returns the number of generators that may run at once
+    */
+   
+   public int getGeneratorThreadCount()
+   {
+      return theGeneratorThreadCount;
+   }
+
+   /*
+    * getShardCount
+    * 
+    * This method returns the number of threads a single generator's
+    * output is split across
+    */
+   
+   public int getShardCount()
+   {
+      return theShardCount;
+   }
+
+   /*
+    * getSeed
+    * 
+    * This method returns the seed every generator's random streams
+    * are derived from
+    */
+   
+   public long getSeed()
+   {
+      return theSeed;
+   }
+
+   /*
+    * getRandomEngine
+    * 
+    * This method returns the random number algorithm used by the generators
+    */
+   
+   public RandomEngine getRandomEngine()
+   {
+      return theRandomEngine;
+   }
+
+   /*
+    * getCoordinateDecimals
+    * 
+    * This method returns the number of decimal places coordinates are
+    * written with, -1 for shortest round-trip form
+    */
+   
+   public int getCoordinateDecimals()
+   {
+      return theCoordinateDecimals;
+   }
+
+   /*
+    * getPlacementDistribution
+    * 
+    * This method returns how geometries are spread over the scene
+    */
+   
+   public PlacementDistribution getPlacementDistribution()
+   {
+      return thePlacementDistribution;
+   }
+
+   /*
+    * getClusterCount
+    * 
+    * This method returns the number of cluster centers
+    */
+   
+   public int getClusterCount()
+   {
+      return theClusterCount;
+   }
+
+   /*
+    * getClusterSpread
+    * 
+    * This method returns the spread around cluster centers or the diagonal
+    */
+   
+   public double getClusterSpread()
+   {
+      return theClusterSpread;
+   }
+
+   /*
+    * getZipfExponent
+    * 
+    * This method returns how sharply hotspot popularity falls off
+    */
+   
+   public double getZipfExponent()
+   {
+      return theZipfExponent;
+   }
+
+   /*
+    * getDensityMapFilename
+    * 
+    * This method returns the image the density map placement follows
+    */
+   
+   public String getDensityMapFilename()
+   {
+      return theDensityMapFilename;
+   }
+
+   /*
+    * getOutputFormat
+    * 
+    * This method returns the encoding of the generated data files
+    */
+   
+   public OutputFormat getOutputFormat()
+   {
+      return theOutputFormat;
+   }
+
+   /*
+    * getSrid
+    * 
+    * This method returns the spatial reference id written with EWKB output
+    */
+   
+   public int getSrid()
+   {
+      return theSrid;
+   }
+
+   /*
+    * getOutputBufferSize
+    * 
+    * This method returns the size in bytes of each buffer handed to the
+    * disk writer thread
+    */
+   
+   public int getOutputBufferSize()
+   {
+      return theOutputBufferSize;
+   }
+
+   /*
+    * getOutputBufferCount
+    * 
+    * This method returns the number of buffers each data file may have
+    * in flight
+    */
+   
+   public int getOutputBufferCount()
+   {
+      return theOutputBufferCount;
+   }
+
+   /*
+    * getEncoderThreadCount
+    * 
+    * This method returns the number of threads encoding each data file,
+    * 0 to encode on the generator thread
+    */
+   
+   public int getEncoderThreadCount()
+   {
+      return theEncoderThreadCount;
+   }
+
+   /*
+    * getPipelineRingSize
+    * 
+    * This method returns the number of batches each data file's pipeline
+    * may have in flight
+    */
+   
+   public int getPipelineRingSize()
+   {
+      return thePipelineRingSize;
+   }
+
    /*
     * build
     * 
@@ -165,6 +746,315 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
       theFilenamePrefixPanel.add(theFilenamePrefixLabel);
       theFilenamePrefixPanel.add(theFilenamePrefixField);
 
+      //***
+      // encoding of the output files
+      //***
+
+      // create output format elements [label, combo box]
+      theOutputFormatLabel = new JLabel("Output format:");
+      theOutputFormatLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theOutputFormatBox = new JComboBox<OutputFormat>(OutputFormat.values());
+      theOutputFormatBox.setSelectedItem(theOutputFormat);
+      theOutputFormatBox.setActionCommand("formatChanged");
+      theOutputFormatBox.addActionListener(this);
+
+      // add to containing panel
+      theOutputFormatPanel = new JPanel();
+      theOutputFormatPanel.add(theOutputFormatLabel);
+      theOutputFormatPanel.add(theOutputFormatBox);
+
+      //***
+      // spatial reference id of EWKB output
+      //***
+
+      // build format arguments
+      theSridFormat = NumberFormat.getIntegerInstance();
+      theSridFormat.setGroupingUsed(false);
+
+      // create SRID elements [label, field]
+      theSridLabel = new JLabel("SRID (EWKB only):");
+      theSridLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theSridField = new JFormattedTextField(theSridFormat);
+      theSridField.setValue(Integer.valueOf(theSrid));
+      theSridField.setColumns(10);
+      theSridField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theSridPanel = new JPanel();
+      theSridPanel.add(theSridLabel);
+      theSridPanel.add(theSridField);
+
+      //***
+      // buffers handed to the disk writer thread
+      //***
+
+      // build format arguments
+      theOutputBufferSizeFormat = NumberFormat.getIntegerInstance();
+      theOutputBufferCountFormat = NumberFormat.getIntegerInstance();
+
+      // create output buffer elements [label, field]
+      theOutputBufferSizeLabel = new JLabel("Output buffer size (bytes):");
+      theOutputBufferSizeLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theOutputBufferSizeField = new JFormattedTextField(theOutputBufferSizeFormat);
+      theOutputBufferSizeField.setValue(Integer.valueOf(theOutputBufferSize));
+      theOutputBufferSizeField.setColumns(10);
+      theOutputBufferSizeField.addPropertyChangeListener("value", this);
+
+      theOutputBufferCountLabel = new JLabel("Output buffers per file:");
+      theOutputBufferCountLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theOutputBufferCountField = new JFormattedTextField(theOutputBufferCountFormat);
+      theOutputBufferCountField.setValue(Integer.valueOf(theOutputBufferCount));
+      theOutputBufferCountField.setColumns(10);
+      theOutputBufferCountField.addPropertyChangeListener("value", this);
+
+      // add to containing panels
+      theOutputBufferSizePanel = new JPanel();
+      theOutputBufferSizePanel.add(theOutputBufferSizeLabel);
+      theOutputBufferSizePanel.add(theOutputBufferSizeField);
+      theOutputBufferCountPanel = new JPanel();
+      theOutputBufferCountPanel.add(theOutputBufferCountLabel);
+      theOutputBufferCountPanel.add(theOutputBufferCountField);
+
+      //***
+      // generate / encode / write pipeline
+      //***
+
+      // build format arguments
+      theEncoderThreadCountFormat = NumberFormat.getIntegerInstance();
+      thePipelineRingSizeFormat = NumberFormat.getIntegerInstance();
+
+      // create pipeline elements [label, field]
+      theEncoderThreadCountLabel = new JLabel("Encoder threads per file (0 for none):");
+      theEncoderThreadCountLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theEncoderThreadCountField = new JFormattedTextField(theEncoderThreadCountFormat);
+      theEncoderThreadCountField.setValue(Integer.valueOf(theEncoderThreadCount));
+      theEncoderThreadCountField.setColumns(10);
+      theEncoderThreadCountField.addPropertyChangeListener("value", this);
+
+      thePipelineRingSizeLabel = new JLabel("Pipeline ring slots:");
+      thePipelineRingSizeLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      thePipelineRingSizeField = new JFormattedTextField(thePipelineRingSizeFormat);
+      thePipelineRingSizeField.setValue(Integer.valueOf(thePipelineRingSize));
+      thePipelineRingSizeField.setColumns(10);
+      thePipelineRingSizeField.addPropertyChangeListener("value", this);
+
+      // add to containing panels
+      theEncoderThreadCountPanel = new JPanel();
+      theEncoderThreadCountPanel.add(theEncoderThreadCountLabel);
+      theEncoderThreadCountPanel.add(theEncoderThreadCountField);
+      thePipelineRingSizePanel = new JPanel();
+      thePipelineRingSizePanel.add(thePipelineRingSizeLabel);
+      thePipelineRingSizePanel.add(thePipelineRingSizeField);
+
+      //***
+      // number of generators run at once
+      //***
+
+      // build format arguments
+      theGeneratorThreadCountFormat = NumberFormat.getIntegerInstance();
+
+      // create generator thread elements [label, field]
+      theGeneratorThreadCountLabel = new JLabel("Generators run at once:");
+      theGeneratorThreadCountLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theGeneratorThreadCountField = new JFormattedTextField(theGeneratorThreadCountFormat);
+      theGeneratorThreadCountField.setValue(Integer.valueOf(theGeneratorThreadCount));
+      theGeneratorThreadCountField.setColumns(10);
+      theGeneratorThreadCountField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theGeneratorThreadCountPanel = new JPanel();
+      theGeneratorThreadCountPanel.add(theGeneratorThreadCountLabel);
+      theGeneratorThreadCountPanel.add(theGeneratorThreadCountField);
+
+      //***
+      // number of shards per generator
+      //***
+
+      // build format arguments
+      theShardCountFormat = NumberFormat.getIntegerInstance();
+
+      // create shard count elements [label, field]
+      theShardCountLabel = new JLabel("Shards per generator:");
+      theShardCountLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theShardCountField = new JFormattedTextField(theShardCountFormat);
+      theShardCountField.setValue(Integer.valueOf(theShardCount));
+      theShardCountField.setColumns(10);
+      theShardCountField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theShardCountPanel = new JPanel();
+      theShardCountPanel.add(theShardCountLabel);
+      theShardCountPanel.add(theShardCountField);
+
+      //***
+      // seed for reproducible data files
+      //***
+
+      // build format arguments
+      theSeedFormat = NumberFormat.getIntegerInstance();
+      theSeedFormat.setGroupingUsed(false);
+
+      // create seed elements [label, field]
+      theSeedLabel = new JLabel("Random seed:");
+      theSeedLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theSeedField = new JFormattedTextField(theSeedFormat);
+      theSeedField.setValue(Long.valueOf(theSeed));
+      theSeedField.setColumns(20);
+      theSeedField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theSeedPanel = new JPanel();
+      theSeedPanel.add(theSeedLabel);
+      theSeedPanel.add(theSeedField);
+
+      //***
+      // random number algorithm
+      //***
+
+      // create random engine elements [label, combo box]
+      theRandomEngineLabel = new JLabel("Random engine:");
+      theRandomEngineLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theRandomEngineBox = new JComboBox<RandomEngine>(RandomEngine.values());
+      theRandomEngineBox.setSelectedItem(theRandomEngine);
+      theRandomEngineBox.setActionCommand("engineChanged");
+      theRandomEngineBox.addActionListener(this);
+
+      // add to containing panel
+      theRandomEnginePanel = new JPanel();
+      theRandomEnginePanel.add(theRandomEngineLabel);
+      theRandomEnginePanel.add(theRandomEngineBox);
+
+      //***
+      // decimal places of written coordinates
+      //***
+
+      // build format arguments
+      theCoordinateDecimalsFormat = NumberFormat.getIntegerInstance();
+
+      // create coordinate decimals elements [label, field]
+      theCoordinateDecimalsLabel = new JLabel("Coordinate decimal places (-1 for shortest):");
+      theCoordinateDecimalsLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theCoordinateDecimalsField = new JFormattedTextField(theCoordinateDecimalsFormat);
+      theCoordinateDecimalsField.setValue(Integer.valueOf(theCoordinateDecimals));
+      theCoordinateDecimalsField.setColumns(10);
+      theCoordinateDecimalsField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theCoordinateDecimalsPanel = new JPanel();
+      theCoordinateDecimalsPanel.add(theCoordinateDecimalsLabel);
+      theCoordinateDecimalsPanel.add(theCoordinateDecimalsField);
+
+      //***
+      // placement distribution
+      //***
+
+      // create placement distribution elements [label, combo box]
+      thePlacementDistributionLabel = new JLabel("Placement distribution:");
+      thePlacementDistributionLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      thePlacementDistributionBox = new JComboBox<PlacementDistribution>(PlacementDistribution.values());
+      thePlacementDistributionBox.setSelectedItem(thePlacementDistribution);
+      thePlacementDistributionBox.setActionCommand("placementChanged");
+      thePlacementDistributionBox.addActionListener(this);
+
+      // add to containing panel
+      thePlacementDistributionPanel = new JPanel();
+      thePlacementDistributionPanel.add(thePlacementDistributionLabel);
+      thePlacementDistributionPanel.add(thePlacementDistributionBox);
+
+      //***
+      // number of clusters
+      //***
+
+      // build format arguments
+      theClusterCountFormat = NumberFormat.getIntegerInstance();
+
+      // create cluster count elements [label, field]
+      theClusterCountLabel = new JLabel("Clusters:");
+      theClusterCountLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theClusterCountField = new JFormattedTextField(theClusterCountFormat);
+      theClusterCountField.setValue(Integer.valueOf(theClusterCount));
+      theClusterCountField.setColumns(10);
+      theClusterCountField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theClusterCountPanel = new JPanel();
+      theClusterCountPanel.add(theClusterCountLabel);
+      theClusterCountPanel.add(theClusterCountField);
+
+      //***
+      // spread around clusters
+      //***
+
+      // build format arguments
+      theClusterSpreadFormat = NumberFormat.getNumberInstance();
+
+      // create cluster spread elements [label, field]
+      theClusterSpreadLabel = new JLabel("Cluster spread:");
+      theClusterSpreadLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theClusterSpreadField = new JFormattedTextField(theClusterSpreadFormat);
+      theClusterSpreadField.setValue(Double.valueOf(theClusterSpread));
+      theClusterSpreadField.setColumns(10);
+      theClusterSpreadField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theClusterSpreadPanel = new JPanel();
+      theClusterSpreadPanel.add(theClusterSpreadLabel);
+      theClusterSpreadPanel.add(theClusterSpreadField);
+
+      //***
+      // Zipf exponent of hotspots
+      //***
+
+      // build format arguments
+      theZipfExponentFormat = NumberFormat.getNumberInstance();
+
+      // create Zipf exponent elements [label, field]
+      theZipfExponentLabel = new JLabel("Zipf exponent:");
+      theZipfExponentLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theZipfExponentField = new JFormattedTextField(theZipfExponentFormat);
+      theZipfExponentField.setValue(Double.valueOf(theZipfExponent));
+      theZipfExponentField.setColumns(10);
+      theZipfExponentField.addPropertyChangeListener("value", this);
+
+      // add to containing panel
+      theZipfExponentPanel = new JPanel();
+      theZipfExponentPanel.add(theZipfExponentLabel);
+      theZipfExponentPanel.add(theZipfExponentField);
+
+      //***
+      // density map image
+      //***
+
+      // create density map elements [label, field]
+      theDensityMapFilenameLabel = new JLabel("Density map (PGM or PNG):");
+      theDensityMapFilenameLabel.setHorizontalAlignment(JLabel.LEFT);
+
+      theDensityMapFilenameField = new JTextField();
+      theDensityMapFilenameField.setText(theDensityMapFilename);
+      theDensityMapFilenameField.setColumns(10);
+      theDensityMapFilenameField.setActionCommand("densityMapChanged");
+      theDensityMapFilenameField.addActionListener(this);
+
+      // add to containing panel
+      theDensityMapFilenamePanel = new JPanel();
+      theDensityMapFilenamePanel.add(theDensityMapFilenameLabel);
+      theDensityMapFilenamePanel.add(theDensityMapFilenameField);
+
       //***
       // update tabbed panel
       //***
@@ -174,6 +1064,22 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
       theTabbedPanePanel.setLayout(new BoxLayout(theTabbedPanePanel, BoxLayout.PAGE_AXIS));
       theTabbedPanePanel.add(theSceneLengthPanel);
       theTabbedPanePanel.add(theFilenamePrefixPanel);
+      theTabbedPanePanel.add(theOutputFormatPanel);
+      theTabbedPanePanel.add(theSridPanel);
+      theTabbedPanePanel.add(theOutputBufferSizePanel);
+      theTabbedPanePanel.add(theOutputBufferCountPanel);
+      theTabbedPanePanel.add(theEncoderThreadCountPanel);
+      theTabbedPanePanel.add(thePipelineRingSizePanel);
+      theTabbedPanePanel.add(theGeneratorThreadCountPanel);
+      theTabbedPanePanel.add(theShardCountPanel);
+      theTabbedPanePanel.add(theSeedPanel);
+      theTabbedPanePanel.add(theRandomEnginePanel);
+      theTabbedPanePanel.add(theCoordinateDecimalsPanel);
+      theTabbedPanePanel.add(thePlacementDistributionPanel);
+      theTabbedPanePanel.add(theClusterCountPanel);
+      theTabbedPanePanel.add(theClusterSpreadPanel);
+      theTabbedPanePanel.add(theZipfExponentPanel);
+      theTabbedPanePanel.add(theDensityMapFilenamePanel);
 
       // add new tab to tabbed panel
       aTabbedPane.addTab(TAB_TITLE, null, theTabbedPanePanel, TAB_TOOLTIP);
@@ -194,6 +1100,78 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
          if (TRACE)
             System.out.println("Scene: scene length = " + theSceneLength);
       }
+      else if (source == theGeneratorThreadCountField)
+      {
+         theGeneratorThreadCount = ((Number)theGeneratorThreadCountField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Scene: generator threads = " + theGeneratorThreadCount);
+      }
+      else if (source == theShardCountField)
+      {
+         theShardCount = ((Number)theShardCountField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Scene: shards per generator = " + theShardCount);
+      }
+      else if (source == theSeedField)
+      {
+         theSeed = ((Number)theSeedField.getValue()).longValue();
+         if (TRACE)
+            System.out.println("Scene: seed = " + theSeed);
+      }
+      else if (source == theSridField)
+      {
+         theSrid = ((Number)theSridField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Scene: SRID = " + theSrid);
+      }
+      else if (source == theOutputBufferSizeField)
+      {
+         theOutputBufferSize = ((Number)theOutputBufferSizeField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Scene: output buffer size = " + theOutputBufferSize);
+      }
+      else if (source == theOutputBufferCountField)
+      {
+         theOutputBufferCount = ((Number)theOutputBufferCountField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Scene: output buffers per file = " + theOutputBufferCount);
+      }
+      else if (source == theEncoderThreadCountField)
+      {
+         theEncoderThreadCount = ((Number)theEncoderThreadCountField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Scene: encoder threads per file = " + theEncoderThreadCount);
+      }
+      else if (source == thePipelineRingSizeField)
+      {
+         thePipelineRingSize = ((Number)thePipelineRingSizeField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Scene: pipeline ring slots = " + thePipelineRingSize);
+      }
+      else if (source == theCoordinateDecimalsField)
+      {
+         theCoordinateDecimals = ((Number)theCoordinateDecimalsField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Scene: coordinate decimal places = " + theCoordinateDecimals);
+      }
+      else if (source == theClusterCountField)
+      {
+         theClusterCount = ((Number)theClusterCountField.getValue()).intValue();
+         if (TRACE)
+            System.out.println("Scene: clusters = " + theClusterCount);
+      }
+      else if (source == theClusterSpreadField)
+      {
+         theClusterSpread = ((Number)theClusterSpreadField.getValue()).doubleValue();
+         if (TRACE)
+            System.out.println("Scene: cluster spread = " + theClusterSpread);
+      }
+      else if (source == theZipfExponentField)
+      {
+         theZipfExponent = ((Number)theZipfExponentField.getValue()).doubleValue();
+         if (TRACE)
+            System.out.println("Scene: Zipf exponent = " + theZipfExponent);
+      }
    }
 
    /*
@@ -208,6 +1186,14 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
          System.out.println("Command: " + ae.getActionCommand());
       if (ae.getActionCommand().equalsIgnoreCase("prefixChanged"))
          captureFilenamePrefix();
+      if (ae.getActionCommand().equalsIgnoreCase("engineChanged"))
+         theRandomEngine = (RandomEngine)theRandomEngineBox.getSelectedItem();
+      if (ae.getActionCommand().equalsIgnoreCase("formatChanged"))
+         theOutputFormat = (OutputFormat)theOutputFormatBox.getSelectedItem();
+      if (ae.getActionCommand().equalsIgnoreCase("placementChanged"))
+         thePlacementDistribution = (PlacementDistribution)thePlacementDistributionBox.getSelectedItem();
+      if (ae.getActionCommand().equalsIgnoreCase("densityMapChanged"))
+         captureDensityMapFilename();
    }
 
    /*
@@ -221,4 +1207,17 @@ public class SceneOptionsView implements PropertyChangeListener, ActionListener
       theFilenamePrefix = theFilenamePrefixField.getText();
       System.out.println("Scene: filename prefix = " + theFilenamePrefix);
    }
+
+   /*
+    * captureDensityMapFilename
+    * 
+    * This method captures the current density map filename
+    */
+   
+   public void captureDensityMapFilename()
+   {
+      theDensityMapFilename = theDensityMapFilenameField.getText();
+      if (TRACE)
+         System.out.println("Scene: density map = " + theDensityMapFilename);
+   }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+/*
+ * ShardedOutput.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with splitting one generator's output across several
+ * worker threads and joining their segments into the final data file
+ */
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class ShardedOutput {
+
+   /*
+    * ShardedOutput
+    *
+    * The requested number of geometries is split into contiguous ranges, one
+    * per shard.  Every shard runs on its own thread and writes to its own
+    * temporary segment next to the output file.  Once all shards finish the
+    * segments are appended to the output file in shard order with
+    * FileChannel.transferTo, so the file has the same layout as one written
+    * by a single thread.
+    *
+    * Ranges are whole blocks of RandomStreams.BLOCK_SIZE geometries and each
+    * block is generated from its own seeded stream, so the output for a
+    * given seed does not depend on the shard count.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final boolean TRACE = false;
+
+   private static final String SEGMENT_SUFFIX = ".shard";
+
+   /*
+    * Shard
+    *
+    * Writes aCount geometries, starting at geometry number aFirst, to the
+    * given output using the given random stream.  Called once per block.
+    */
+
+   interface Shard
+   {
+      void generate(long aFirst, long aCount, RandomSource aRandom, GeometryWriter anOut) throws IOException;
+   }
+
+   private ShardedOutput()
+   {
+   }
+
+   /*
+    * generate
+    *
+    * This method writes aCount geometries to anOutFilename using up to
+    * theShardCount threads, drawing from the streams of aGenerator.  With a
+    * single shard the output file is written directly.
+    */
+
+   public static void generate(final DataGenModel aModel, final String aGenerator, String anOutFilename, final long aCount,
+                               final Shard aShard) throws IOException
+   {
+      long blockCount = (aCount + RandomStreams.BLOCK_SIZE - 1) / RandomStreams.BLOCK_SIZE;
+      int shardCount = (int)Math.max(1, Math.min(aModel.theShardCount, blockCount));
+
+      // single shard, no segments to merge
+      if (shardCount == 1)
+      {
+         writeShard(aShard, new File(anOutFilename), aModel, aGenerator, 0, blockCount, aCount);
+         return;
+      }
+
+      if (TRACE)
+         System.out.println("ShardedOutput: " + anOutFilename + " in " + shardCount + " shards");
+
+      //***
+      // run each shard on its own thread
+      //***
+
+      final File[] segments = new File[shardCount];
+      List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      ExecutorService pool = Executors.newFixedThreadPool(shardCount);
+      try
+      {
+         long firstBlock = 0;
+         for (int i = 0; i < shardCount; i++)
+         {
+            final long shardFirstBlock = firstBlock;
+            final long shardEndBlock = firstBlock + blockCount / shardCount + (i < blockCount % shardCount ? 1 : 0);
+            final File segment = new File(anOutFilename + SEGMENT_SUFFIX + i);
+            segments[i] = segment;
+            futures.add(pool.submit(new Callable<Void>() {
+               public Void call() throws IOException
+               {
+                  writeShard(aShard, segment, aModel, aGenerator, shardFirstBlock, shardEndBlock, aCount);
+                  return null;
+               }
+            }));
+            firstBlock = shardEndBlock;
+         }
+
+         for (Future<Void> future : futures)
+            future.get();
+      }
+      catch (ExecutionException e)
+      {
+         stop(pool, futures);
+         deleteSegments(segments);
+         Throwable cause = e.getCause();
+         if (cause instanceof IOException)
+            throw (IOException)cause;
+         throw new IOException("shard of " + anOutFilename + " failed: " + cause, cause);
+      }
+      catch (InterruptedException e)
+      {
+         stop(pool, futures);
+         deleteSegments(segments);
+         Thread.currentThread().interrupt();
+         throw new InterruptedIOException("sharded generation of " + anOutFilename + " was interrupted");
+      }
+      finally
+      {
+         pool.shutdownNow();
+      }
+
+      //***
+      // append the segments to the output file in shard order
+      //***
+
+      FileOutputStream outStream = new FileOutputStream(anOutFilename);
+      try
+      {
+         FileChannel outChannel = outStream.getChannel();
+         for (File segment : segments)
+         {
+            FileInputStream inStream = new FileInputStream(segment);
+            try
+            {
+               FileChannel inChannel = inStream.getChannel();
+               long position = 0;
+               long size = inChannel.size();
+               while (position < size)
+                  position += inChannel.transferTo(position, size - position, outChannel);
+            }
+            finally
+            {
+               inStream.close();
+            }
+         }
+      }
+      finally
+      {
+         outStream.close();
+         deleteSegments(segments);
+      }
+   }
+
+   // Runs blocks [aFirstBlock, anEndBlock) of the output against a freshly created file
+   private static void writeShard(Shard aShard, File aFile, DataGenModel aModel, String aGenerator,
+                                  long aFirstBlock, long anEndBlock, long aTotalCount) throws IOException
+   {
+      GeometryWriter out = GeometryWriter.open(aModel, aFile.getPath());
+      try
+      {
+         for (long block = aFirstBlock; block < anEndBlock; block++)
+         {
+            long first = block * RandomStreams.BLOCK_SIZE;
+            long count = Math.min(RandomStreams.BLOCK_SIZE, aTotalCount - first);
+            aShard.generate(first, count, RandomStreams.stream(aModel, aGenerator, block), out);
+         }
+      }
+      finally
+      {
+         out.close();
+      }
+   }
+
+   // Cancels every shard that has not finished yet and waits for all of
+   // them to end, so none can still create or write its segment once the
+   // segments are deleted; the caller's interrupt is kept
+   private static void stop(ExecutorService aPool, List<Future<Void>> aFutureList)
+   {
+      for (Future<Void> future : aFutureList)
+         future.cancel(true);
+      aPool.shutdownNow();
+
+      boolean interrupted = false;
+      while (true)
+      {
+         try
+         {
+            if (aPool.awaitTermination(1, TimeUnit.SECONDS))
+               break;
+         }
+         catch (InterruptedException e)
+         {
+            interrupted = true;
+         }
+      }
+      if (interrupted)
+         Thread.currentThread().interrupt();
+   }
+
+   // Removes the temporary segment files
+   private static void deleteSegments(File[] aSegmentList)
+   {
+      for (File segment : aSegmentList)
+         if (segment != null)
+            segment.delete();
+   }
+}
@@ -0,0 +1,257 @@
+/*
+ * SimplePolygonBuilder.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with joining a set of random points into a simple
+ * polygon that uses every one of them
+ */
+
+public class SimplePolygonBuilder {
+
+   /*
+    * SimplePolygonBuilder
+    *
+    * Orders n points so that joining them in order, and the last back to
+    * the first, gives a polygon whose edges never cross.  Unlike the
+    * incremental method these always use every point:
+    *
+    *    STAR_ANGULAR_SORT   sorts the points by angle around their
+    *                        centroid, O(n log n)
+    *    SPACE_PARTITIONING  splits the points by the line through two of
+    *                        them, then splits each side again and again by
+    *                        a random line through a random point, joining
+    *                        the pieces into chains, O(n log n) expected
+    *    TWO_OPT             takes the points in the random order they
+    *                        were drawn and, while two edges cross,
+    *                        reverses the path between them; each reversal
+    *                        shortens the polygon so it ends, but each pass
+    *                        is O(n^2) and it is by far the slowest
+    *
+    * Scratch space is kept between polygons, sized for the largest.
+    */
+
+   //***
+   // instance variables
+   //***
+
+   private final int[] theOrder;
+   private final int[] theMerge;
+   private final double[] theKeys;
+   private final double[] theX;
+   private final double[] theY;
+   private final int[] theStack;
+
+   /*
+    * SimplePolygonBuilder
+    *
+    * This constructor makes room for polygons of up to aMaxVertexCount
+    * vertices
+    */
+
+   SimplePolygonBuilder(int aMaxVertexCount)
+   {
+      theOrder = new int[aMaxVertexCount + 1];
+      theMerge = new int[aMaxVertexCount + 1];
+      theKeys = new double[aMaxVertexCount + 1];
+      theX = new double[aMaxVertexCount + 1];
+      theY = new double[aMaxVertexCount + 1];
+      theStack = new int[2 * (aMaxVertexCount + 1)];
+   }
+
+   /*
+    * build
+    *
+    * This method reorders the aCount points (xs[i], ys[i]) into a simple
+    * polygon by anAlgorithm, drawing any random choices from aRandom
+    */
+
+   public void build(PolygonAlgorithm anAlgorithm, double[] xs, double[] ys, int aCount, RandomSource aRandom)
+   {
+      switch (anAlgorithm)
+      {
+         case STAR_ANGULAR_SORT:
+            angularOrder(xs, ys, aCount);
+            reorder(xs, ys, aCount);
+            break;
+
+         case SPACE_PARTITIONING:
+            partitionOrder(xs, ys, aCount, aRandom);
+            reorder(xs, ys, aCount);
+            break;
+
+         case TWO_OPT:
+            untangle(xs, ys, aCount);
+            break;
+
+         default:
+            throw new IllegalArgumentException("no simple polygon builder for " + anAlgorithm);
+      }
+   }
+
+   // Puts in theOrder the points sorted by angle around their centroid
+   private void angularOrder(double[] xs, double[] ys, int aCount)
+   {
+      double cx = 0, cy = 0;
+      for (int i = 0; i < aCount; i++)
+      {
+         cx += xs[i];
+         cy += ys[i];
+      }
+      cx /= aCount;
+      cy /= aCount;
+
+      for (int i = 0; i < aCount; i++)
+      {
+         theOrder[i] = i;
+         theKeys[i] = Math.atan2(ys[i] - cy, xs[i] - cx);
+      }
+      sortByKey(aCount);
+   }
+
+   // Puts in theOrder a chain from a to b through the points left of ab,
+   // then one from b back to a through the rest
+   private void partitionOrder(double[] xs, double[] ys, int aCount, RandomSource aRandom)
+   {
+      int a = (int)(aRandom.nextDouble() * aCount);
+      int b = (int)(aRandom.nextDouble() * (aCount - 1));
+      if (b >= a)
+         b++;
+
+      int left = 1, right = aCount - 1;
+      theOrder[0] = a;
+      theOrder[aCount] = a;
+      for (int i = 0; i < aCount; i++)
+      {
+         if (i == a || i == b)
+            continue;
+         if (GeometryPredicates.orient2d(xs[a], ys[a], xs[b], ys[b], xs[i], ys[i]) > 0)
+            theOrder[left++] = i;
+         else
+            theOrder[right--] = i;
+      }
+      theOrder[left] = b;
+
+      int top = 0;
+      theStack[top++] = 0;
+      theStack[top++] = left;
+      theStack[top++] = left;
+      theStack[top++] = aCount;
+      while (top > 0)
+      {
+         int hi = theStack[--top];
+         int lo = theStack[--top];
+         if (hi - lo < 2)
+            continue;
+
+         // split the points between the chain's ends by a line through a
+         // random one of them, c, and a random point p of the ends' segment
+         int first = theOrder[lo], last = theOrder[hi];
+         int pick = lo + 1 + (int)(aRandom.nextDouble() * (hi - lo - 1));
+         int c = theOrder[pick];
+         double t = aRandom.nextDouble();
+         double px = xs[first] + t * (xs[last] - xs[first]);
+         double py = ys[first] + t * (ys[last] - ys[first]);
+         boolean firstSide = GeometryPredicates.orient2d(xs[c], ys[c], px, py, xs[first], ys[first]) >= 0;
+
+         // c waits in the last slot while the others go to first's side
+         // or last's
+         theOrder[pick] = theOrder[hi - 1];
+         theOrder[hi - 1] = c;
+         int i = lo + 1, j = hi - 2;
+         while (i <= j)
+         {
+            int q = theOrder[i];
+            if ((GeometryPredicates.orient2d(xs[c], ys[c], px, py, xs[q], ys[q]) >= 0) == firstSide)
+               i++;
+            else
+            {
+               theOrder[i] = theOrder[j];
+               theOrder[j--] = q;
+            }
+         }
+         theOrder[hi - 1] = theOrder[i];
+         theOrder[i] = c;
+
+         theStack[top++] = lo;
+         theStack[top++] = i;
+         theStack[top++] = i;
+         theStack[top++] = hi;
+      }
+   }
+
+   // Reverses the path between crossing edges until none cross
+   private void untangle(double[] xs, double[] ys, int aCount)
+   {
+      boolean changed = true;
+      while (changed)
+      {
+         changed = false;
+         for (int i = 0; i < aCount - 2; i++)
+         {
+            for (int j = i + 2; j < aCount; j++)
+            {
+               int next = (j + 1 == aCount) ? 0 : j + 1;
+               if (next == i)
+                  continue;
+               if (GeometryPredicates.segmentsCross(xs[i], ys[i], xs[i + 1], ys[i + 1], xs[j], ys[j], xs[next], ys[next]))
+               {
+                  reverse(xs, ys, i + 1, j);
+                  changed = true;
+               }
+            }
+         }
+      }
+   }
+
+   // Sorts theOrder[0 .. aCount - 1] by theKeys, a bottom up merge sort
+   private void sortByKey(int aCount)
+   {
+      int[] from = theOrder, to = theMerge;
+      for (int width = 1; width < aCount; width *= 2)
+      {
+         for (int lo = 0; lo < aCount; lo += 2 * width)
+         {
+            int mid = Math.min(lo + width, aCount), hi = Math.min(lo + 2 * width, aCount);
+            int i = lo, j = mid, k = lo;
+            while (i < mid && j < hi)
+               to[k++] = (theKeys[from[j]] < theKeys[from[i]]) ? from[j++] : from[i++];
+            while (i < mid)
+               to[k++] = from[i++];
+            while (j < hi)
+               to[k++] = from[j++];
+         }
+         int[] swap = from;
+         from = to;
+         to = swap;
+      }
+      if (from != theOrder)
+         System.arraycopy(from, 0, theOrder, 0, aCount);
+   }
+
+   // Rearranges the points into theOrder
+   private void reorder(double[] xs, double[] ys, int aCount)
+   {
+      for (int i = 0; i < aCount; i++)
+      {
+         theX[i] = xs[theOrder[i]];
+         theY[i] = ys[theOrder[i]];
+      }
+      System.arraycopy(theX, 0, xs, 0, aCount);
+      System.arraycopy(theY, 0, ys, 0, aCount);
+   }
+
+   private static void reverse(double[] xs, double[] ys, int aFrom, int aTo)
+   {
+      for (int i = aFrom, j = aTo; i < j; i++, j--)
+      {
+         double x = xs[i];
+         xs[i] = xs[j];
+         xs[j] = x;
+         double y = ys[i];
+         ys[i] = ys[j];
+         ys[j] = y;
+      }
+   }
+}
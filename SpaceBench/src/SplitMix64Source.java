@@ -0,0 +1,48 @@
+/*
+ * SplitMix64Source.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with drawing random numbers with the SplitMix64 algorithm
+ */
+
+public class SplitMix64Source implements RandomSource {
+
+   /*
+    * SplitMix64Source
+    *
+    * SplitMix64 is the algorithm behind java.util.SplittableRandom and
+    * produces the same sequence as new SplittableRandom(aSeed).  It is kept
+    * as a plain long so the source can be copied, and unlike Math.random()
+    * it involves no atomic update per call.
+    */
+
+   private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+   private long theState;
+
+   SplitMix64Source(long aSeed)
+   {
+      theState = aSeed;
+   }
+
+   public long nextLong()
+   {
+      return RandomStreams.mix64(theState += GOLDEN_GAMMA);
+   }
+
+   // Each value depends only on its position, so no value waits on the last
+   public void nextDoubles(double[] anArray, int anOffset, int aLength)
+   {
+      long state = theState;
+      for (int i = 0; i < aLength; i++)
+         anArray[anOffset + i] = (RandomStreams.mix64(state + (i + 1) * GOLDEN_GAMMA) >>> 11) * 0x1.0p-53;
+      theState = state + aLength * GOLDEN_GAMMA;
+   }
+
+   public RandomSource copy()
+   {
+      return new SplitMix64Source(theState);
+   }
+}
@@ -10,6 +10,7 @@
 
 import java.lang.Math;
 import java.io.*;
+import java.util.function.DoubleSupplier;
 
 
 public class SquareGenerator {
@@ -32,43 +33,60 @@ public class SquareGenerator {
     * writing their locations to the output file.
     */
    
-   public void generate(DataGenModel aModel) throws IOException
+   public void generate(final DataGenModel aModel) throws IOException
    {
       String outFilename;
 
-      int cnt;
-      double d, s;
-      double leftX, lowerY, x1, x2, y1, y2, tmp;
-      FileWriter f = null;
-      PrintWriter out = null;
-
-      double[] pointsX = new double[4];
-      double[] pointsY = new double[4];
-
       // Is the generate flag checked?
       if (aModel.theGenerateSquaresFlag == false)
          return;
 
       // setup file output
-      outFilename = aModel.theFilenamePrefix + "squares.txt";
-      f = new FileWriter(outFilename);
-      out = new PrintWriter(f);
+      outFilename = aModel.theFilenamePrefix + "squares" + aModel.theOutputFormat.extension();
+      final Placement placement = new Placement(aModel);
 
       // generate squares
       System.out.println("  creating squares datafile [" + outFilename + "]");
+      ShardedOutput.generate(aModel, "squares", outFilename, aModel.theNumberOfSquares,
+         (aFirst, aCount, aRandom, anOut) -> generateSquares(aModel, placement, aFirst, aCount, aRandom, anOut));
+      System.out.println("    " + aModel.theNumberOfSquares + " squares were generated.");
+   }
+
+   /*
+    * generateSquares
+    *
+    * This method writes aCount squares to the given output.  It is run once
+    * per block of the output, each block with its own random stream.
+    */
+
+   private void generateSquares(DataGenModel aModel, Placement aPlacement, long aFirst, long aCount,
+                                RandomSource aRandom, GeometryWriter out) throws IOException
+   {
+      long cnt;
+      double d, s;
+      double leftX, lowerY, x1, x2, y1, y2, tmp;
+
+      double[] pointsX = new double[4];
+      double[] pointsY = new double[4];
+      UniformBatch random = new UniformBatch(aRandom);
+      DoubleSupplier uniform = random::next;
+      double[] corner = new double[2];
 
       cnt = 0;
-      while (cnt < aModel.theNumberOfSquares)
+      while (cnt < aCount)
       {
+         GeneratorScheduler.checkCancelled(out);
+
          // randomly position the max bounding square in the grid
-         leftX = (Math.random() * (aModel.theSceneLength - aModel.theMaximumSquareSideLength));
-         lowerY = (Math.random() * (aModel.theSceneLength - aModel.theMaximumSquareSideLength));
+         aPlacement.sample(uniform, corner);
+         leftX = (corner[0] * (aModel.theSceneLength - aModel.theMaximumSquareSideLength));
+         lowerY = (corner[1] * (aModel.theSceneLength - aModel.theMaximumSquareSideLength));
 
          // the x interval locating the square in the max bounding square
-         x1 = leftX + (Math.random() * aModel.theMaximumSquareSideLength);
-         x2 = leftX + (Math.random() * aModel.theMaximumSquareSideLength);
+         x1 = leftX + (random.next() * aModel.theMaximumSquareSideLength);
+         x2 = leftX + (random.next() * aModel.theMaximumSquareSideLength);
          while (x1 == x2)
-            x2 = leftX + (Math.random() * aModel.theMaximumSquareSideLength);
+            x2 = leftX + (random.next() * aModel.theMaximumSquareSideLength);
          if (x1 > x2)
          {
             tmp = x1;
@@ -78,11 +96,11 @@ public class SquareGenerator {
          d = x2 - x1;
 
          // the y interval locating the square in the max bounding square
-         y1 = lowerY + (Math.random() * (aModel.theMaximumSquareSideLength - d));
+         y1 = lowerY + (random.next() * (aModel.theMaximumSquareSideLength - d));
          y2 = y1 + d;
 
          // the coordinates of the left bottom vertex of the square
-         s = (Math.random() * d);
+         s = (random.next() * d);
 
          pointsX[0] = x1 + s;
          pointsY[0] = y1;
@@ -95,19 +113,14 @@ public class SquareGenerator {
 
          //Old output: SQUARE ((926 918) (941 903) (913 954) (882 881))
          //New output: POLYGON ((926 918, 941 903, 913 954, 882 881))
-         out.print("POLYGON ((");
-         out.print(pointsX[0] +" " + pointsY[0] + ", ");
-         out.print(pointsX[1] +" " + pointsY[1] + ", ");
-         out.print(pointsX[2] +" " + pointsY[2] + ", ");
-         out.print(pointsX[3] +" " + pointsY[3]);
-         out.println("))");
+         out.beginPolygon();
+         for (int i = 0; i < 4; i++)
+            out.coordinate(pointsX[i], pointsY[i]);
+         out.endGeometry();
 
          cnt++;
-         if (cnt%10000 == 0)
-            System.out.println("    generated " + cnt + " of " + aModel.theNumberOfSquares);
-         }
-         out.close();
-         System.out.println("    " + aModel.theNumberOfSquares + " squares were generated.");
+         if ((aFirst + cnt)%10000 == 0)
+            System.out.println("    generated " + (aFirst + cnt) + " of " + aModel.theNumberOfSquares);
       }
    }
-
+}
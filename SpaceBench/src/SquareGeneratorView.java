@@ -54,7 +54,7 @@ public class SquareGeneratorView implements PropertyChangeListener, ItemListener
 
    // property values
    private boolean theGenerateFlag;
-   private int theNumberOfSquares;
+   private long theNumberOfSquares;
    private double theMaximumSideLength;
 
    /*
@@ -95,7 +95,7 @@ public class SquareGeneratorView implements PropertyChangeListener, ItemListener
     * This method sets the current number of squares
     */
    
-   public void setNumberOfSquares(int aCount)
+   public void setNumberOfSquares(long aCount)
    {
       theNumberOfSquares = aCount;
       if (theNumberOfSquaresField != null)
@@ -138,7 +138,7 @@ public class SquareGeneratorView implements PropertyChangeListener, ItemListener
    * This method returns the current number of squares
    */
    
-   public int getNumberOfSquares()
+   public long getNumberOfSquares()
    {
       return theNumberOfSquares;
    }
@@ -242,7 +242,7 @@ public class SquareGeneratorView implements PropertyChangeListener, ItemListener
       Object source = e.getSource();
       if (source == theNumberOfSquaresField)
       {
-         theNumberOfSquares = ((Number)theNumberOfSquaresField.getValue()).intValue();
+         theNumberOfSquares = ((Number)theNumberOfSquaresField.getValue()).longValue();
          if (TRACE)
             System.out.println("Squares: number of squares = " + theNumberOfSquares);
       }
@@ -11,6 +11,7 @@
 
 import java.lang.Math;
 import java.io.*;
+import java.util.function.DoubleSupplier;
 
 public class TriangleGenerator {
         
@@ -27,66 +28,81 @@ public class TriangleGenerator {
    /*
     * generate
     */
-   public void generate(DataGenModel aModel) throws IOException
+   public void generate(final DataGenModel aModel) throws IOException
    {
-      //String parameter;
-      
-        int cnt;
-        double leftX, lowerY;
-        double x, y;
-        boolean collinear = false, inlist = false;
-        String outFilename;
-        FileWriter f = null;
-        PrintWriter out = null;
-
-        double[] pointsX = new double[4];
-        double[] pointsY = new double[4];
+      String outFilename;
 
       // Is the generate flag checked?
       if (aModel.theGenerateTrianglesFlag == false)
          return;
 
       // setup file output
-      outFilename = aModel.theFilenamePrefix + "triangles.txt";
-      f = new FileWriter(outFilename);
-      out = new PrintWriter(f);
+      outFilename = aModel.theFilenamePrefix + "triangles" + aModel.theOutputFormat.extension();
+      final Placement placement = new Placement(aModel);
 
       // generate data
       System.out.println("  creating triangles datafile [" + outFilename + "]");
+      ShardedOutput.generate(aModel, "triangles", outFilename, aModel.theNumberOfTriangles,
+         (aFirst, aCount, aRandom, anOut) -> generateTriangles(aModel, placement, aFirst, aCount, aRandom, anOut));
+      System.out.println("    " + aModel.theNumberOfTriangles + " triangles were generated.");
+    }
+
+   /*
+    * generateTriangles
+    *
+    * This method writes aCount triangles to the given output.  It is run
+    * once per block of the output, each block with its own random stream.
+    */
+   private void generateTriangles(DataGenModel aModel, Placement aPlacement, long aFirst, long aCount,
+                                  RandomSource aRandom, GeometryWriter out) throws IOException
+   {
+        long cnt;
+        double leftX, lowerY;
+        double x, y;
+        boolean collinear = false, inlist = false;
+
+        double[] pointsX = new double[4];
+        double[] pointsY = new double[4];
+        UniformBatch random = new UniformBatch(aRandom);
+        DoubleSupplier uniform = random::next;
+        double[] corner = new double[2];
 
         cnt = 0;
-        while (cnt < aModel.theNumberOfTriangles)
+        while (cnt < aCount)
         {
+           GeneratorScheduler.checkCancelled(out);
+
            // randomly position the bounding rectangle in the grid
-           leftX  = (Math.random() * (aModel.theSceneLength - aModel.theTriangleBBoxWidth) );
-           lowerY = (Math.random() * (aModel.theSceneLength - aModel.theTriangleBBoxHeight) );
+           aPlacement.sample(uniform, corner);
+           leftX  = (corner[0] * (aModel.theSceneLength - aModel.theTriangleBBoxWidth) );
+           lowerY = (corner[1] * (aModel.theSceneLength - aModel.theTriangleBBoxHeight) );
 
            // the initial vertices of the Triangle
-           x = leftX  + (Math.random() * aModel.theTriangleBBoxWidth);
-           y = lowerY + (Math.random() * aModel.theTriangleBBoxHeight);
+           x = leftX  + (random.next() * aModel.theTriangleBBoxWidth);
+           y = lowerY + (random.next() * aModel.theTriangleBBoxHeight);
            pointsX[0] = x;
            pointsY[0] = y;
 
            // the 2nd vertices of the Triangle
-           x = leftX  + (Math.random() * aModel.theTriangleBBoxWidth);
-           y = lowerY + (Math.random() * aModel.theTriangleBBoxHeight);
+           x = leftX  + (random.next() * aModel.theTriangleBBoxWidth);
+           y = lowerY + (random.next() * aModel.theTriangleBBoxHeight);
            while (inList(pointsX, pointsY, 1, x, y))
            {
-              x = leftX  + (Math.random() * aModel.theTriangleBBoxWidth);
-              y = lowerY + (Math.random() * aModel.theTriangleBBoxHeight);
+              x = leftX  + (random.next() * aModel.theTriangleBBoxWidth);
+              y = lowerY + (random.next() * aModel.theTriangleBBoxHeight);
            }
            pointsX[1] = x;
            pointsY[1] = y;
 
            // the 3rd vertices of the Triangle
-           x = leftX  + (Math.random() * aModel.theTriangleBBoxWidth);
-           y = lowerY + (Math.random() * aModel.theTriangleBBoxHeight);
+           x = leftX  + (random.next() * aModel.theTriangleBBoxWidth);
+           y = lowerY + (random.next() * aModel.theTriangleBBoxHeight);
            collinear = isCollinear(pointsX[0], pointsY[0], pointsX[1], pointsY[1], x, y);
            inlist    = inList(pointsX, pointsY, 2, x, y);
            while (collinear || inlist)
            {
-              x = leftX  + (Math.random() * aModel.theTriangleBBoxWidth);
-              y = lowerY + (Math.random() * aModel.theTriangleBBoxHeight);
+              x = leftX  + (random.next() * aModel.theTriangleBBoxWidth);
+              y = lowerY + (random.next() * aModel.theTriangleBBoxHeight);
               collinear = isCollinear(pointsX[0], pointsY[0], pointsX[1], pointsY[1], x, y);
               inlist    = inList(pointsX, pointsY, 2, x, y);
            }
@@ -95,18 +111,15 @@ public class TriangleGenerator {
 
            //Old output: TRIANGLE ((926 918) (941 903) (913 954))
            //New output: POLYGON ((926 918, 941 903, 913 954))
-           out.print("TRIANGLE ((");
-           out.print(pointsX[0] +" " + pointsY[0] + ", ");
-           out.print(pointsX[1] +" " + pointsY[1] + ", ");
-           out.print(pointsX[2] +" " + pointsY[2]);
-           out.println("))");
+           out.beginTriangle();
+           for (int i = 0; i < 3; i++)
+              out.coordinate(pointsX[i], pointsY[i]);
+           out.endGeometry();
 
            cnt++;
-           if (cnt%10000 == 0)
-             System.out.println("    generated " + cnt + " of " + aModel.theNumberOfTriangles);
+           if ((aFirst + cnt)%10000 == 0)
+             System.out.println("    generated " + (aFirst + cnt) + " of " + aModel.theNumberOfTriangles);
         }
-        out.close();
-        System.out.println("    " + aModel.theNumberOfTriangles + " triangles were generated.");
     }
     
    // Checks to see if a point is in the list of points
@@ -120,15 +133,6 @@ public class TriangleGenerator {
 
     private boolean isCollinear(double x1, double y1, double x2, double y2, double x3, double y3)  {
          // check collinearity of three points (x1, y1), (x2, y2), & (x3, y3)
-    	 double d1, d2;
-         d1 = x2 - x1;
-         d2 = x3 - x1;
-         if (d1 == 0 && d2 == 0)
-            return true;
-         else
-         if (d1 != 0 && d2 != 0)
-            if ( (y2 - y1)/d1 == (y3 - y1)/d2 )
-               return true;
-            return false;
+         return GeometryPredicates.collinear(x1, y1, x2, y2, x3, y3);
     }
 }
@@ -61,7 +61,7 @@ public class TriangleGeneratorView implements PropertyChangeListener, ItemListen
 
    // property values
    private boolean theGenerateFlag;
-   private int theNumberOfTriangles;
+   private long theNumberOfTriangles;
    private double theBBoxHeight;
    private double theBBoxWidth;
    
@@ -103,7 +103,7 @@ public class TriangleGeneratorView implements PropertyChangeListener, ItemListen
     * This method sets the current number of triangles
     */
    
-   public void setNumberOfTriangles(int aCount)
+   public void setNumberOfTriangles(long aCount)
    {
       theNumberOfTriangles = aCount;
       if (theNumberOfTrianglesField != null)
@@ -162,7 +162,7 @@ public class TriangleGeneratorView implements PropertyChangeListener, ItemListen
    * This method returns the current number of triangles to be generated
    */
    
-   public int getNumberOfTriangles()
+   public long getNumberOfTriangles()
    {
       return theNumberOfTriangles;
    }
@@ -298,7 +298,7 @@ public class TriangleGeneratorView implements PropertyChangeListener, ItemListen
       Object source = e.getSource();
       if (source == theNumberOfTrianglesField)
       {
-         theNumberOfTriangles = ((Number)theNumberOfTrianglesField.getValue()).intValue();
+         theNumberOfTriangles = ((Number)theNumberOfTrianglesField.getValue()).longValue();
          if (TRACE)
             System.out.println("Triangles: number of squares = " + theNumberOfTriangles);
       }
@@ -0,0 +1,84 @@
+/*
+ * UniformBatch.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with drawing uniform random values a block at a
+ * time rather than one call at a time
+ */
+
+public class UniformBatch {
+
+   /*
+    * UniformBatch
+    *
+    * Hands out the values of a RandomSource's nextDouble in order, filling
+    * SIZE of them at a time with nextDoubles.  A generator that draws only
+    * through the batch writes exactly what it wrote drawing one at a time;
+    * values left in the batch when it is dropped are never used.
+    *
+    * fillScaled is the kernel for generators whose draws do not depend on
+    * earlier values: it fills a block and scales and offsets it in a loop
+    * simple enough for the JIT to compile to SIMD instructions.
+    */
+
+   //***
+   // class variables
+   //***
+
+   public static final int SIZE = 1024;
+
+   //***
+   // instance variables
+   //***
+
+   private final RandomSource theSource;
+   private final double[] theValues;
+   private int theNext;
+
+   /*
+    * UniformBatch
+    *
+    * This constructor sets up a batch drawing from aSource
+    */
+
+   UniformBatch(RandomSource aSource)
+   {
+      theSource = aSource;
+      theValues = new double[SIZE];
+      theNext = SIZE;
+   }
+
+   /*
+    * next
+    *
+    * This method returns the next value in [0, 1)
+    */
+
+   public double next()
+   {
+      if (theNext == SIZE)
+      {
+         theSource.nextDoubles(theValues, 0, SIZE);
+         theNext = 0;
+      }
+      return theValues[theNext++];
+   }
+
+   /*
+    * fillScaled
+    *
+    * This method fills aLength elements of anArray, from anOffset, with
+    * nextDouble() * aScale + aShift from aSource, in the order the values
+    * are drawn
+    */
+
+   public static void fillScaled(RandomSource aSource, double[] anArray, int anOffset, int aLength,
+                                 double aScale, double aShift)
+   {
+      aSource.nextDoubles(anArray, anOffset, aLength);
+      for (int i = anOffset; i < anOffset + aLength; i++)
+         anArray[i] = anArray[i] * aScale + aShift;
+   }
+}
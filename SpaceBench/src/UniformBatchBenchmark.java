@@ -0,0 +1,71 @@
+/*
+ * UniformBatchBenchmark.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file compares filling coordinate blocks one nextDouble() call at a
+ * time against the UniformBatch kernel, for each random engine
+ *
+ * Usage: java UniformBatchBenchmark [values]
+ */
+
+public class UniformBatchBenchmark {
+
+   //***
+   // class variables
+   //***
+
+   private static final int DEFAULT_VALUES = 200000000;
+   private static final double SCENE_LENGTH = 1000;
+
+   // sink for drawn values so the JIT cannot drop the loops
+   private static volatile double theSink;
+
+   //***
+   // main entry point
+   //***
+
+   public static void main(String[] args)
+   {
+      int values = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VALUES;
+
+      System.out.println("filling " + values + " coordinates in blocks of " + UniformBatch.SIZE);
+      for (int pass = 0; pass < 2; pass++)
+      {
+         // the first pass only warms up the JIT
+         boolean report = (pass == 1);
+         for (RandomEngine engine : RandomEngine.values())
+         {
+            double scalar = measure(engine, values, false);
+            double batch = measure(engine, values, true);
+            if (report)
+               System.out.printf("  %-14s scalar %6.2f ns/value, batch %6.2f ns/value, %4.2fx%n",
+                                 engine.name(), scalar, batch, scalar / batch);
+         }
+      }
+   }
+
+   // Returns the time per coordinate of filling aValueCount coordinates
+   private static double measure(RandomEngine anEngine, int aValueCount, boolean aBatch)
+   {
+      RandomSource random = anEngine.create(1);
+      double[] block = new double[UniformBatch.SIZE];
+      double sum = 0;
+      long start = System.nanoTime();
+      for (int done = 0; done < aValueCount; done += block.length)
+      {
+         if (aBatch)
+            UniformBatch.fillScaled(random, block, 0, block.length, SCENE_LENGTH, 1);
+         else
+         {
+            for (int i = 0; i < block.length; i++)
+               block[i] = (random.nextDouble() * SCENE_LENGTH) + 1;
+         }
+         sum += block[done % block.length];
+      }
+      long elapsed = System.nanoTime() - start;
+      theSink = sum;
+      return (double)elapsed / aValueCount;
+   }
+}
@@ -0,0 +1,24 @@
+/*
+ * UniquePointsMethod.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with choosing how the point generator keeps its
+ * points unique
+ */
+
+public enum UniquePointsMethod {
+
+   // random points, repeats found in a PointHashSet and drawn again, the default
+   HASH_SET,
+
+   // distinct integer cells of the scene grid drawn without replacement
+   LATTICE,
+
+   // random points no closer than the minimum point separation to each other
+   POISSON_DISK,
+
+   // random points, repeats found in a DiskPointSet, for runs too large for the heap
+   DISK_SET
+}
@@ -0,0 +1,286 @@
+/*
+ * WkbWriter.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with writing geometries to a data file as
+ * well-known binary (WKB), its PostGIS extension EWKB, or either one in
+ * hexadecimal
+ */
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.WritableByteChannel;
+
+public class WkbWriter extends GeometryWriter {
+
+   /*
+    * WkbWriter
+    *
+    * WKB puts the vertex count in front of the vertices, so the coordinates
+    * of the open geometry are collected in a reusable array and the whole
+    * record is encoded when the geometry ends.  Records are little-endian
+    * and go straight into a direct ByteBuffer that is handed to the file
+    * channel whenever it fills; no String is built along the way.
+    *
+    * Binary records are written back to back, which readers can split since
+    * WKB is self-delimiting.  Hexadecimal records are written one per line
+    * in upper case, the form PostGIS prints and accepts.  EWKB records
+    * carry the scene SRID.  Polygon and triangle rings are closed by
+    * repeating the first vertex, as WKB readers require.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final int BUFFER_SIZE = 1 << 16;
+   private static final int INITIAL_VERTICES = 32;
+   private static final int MAX_KEPT_VERTICES = 1 << 15;
+
+   private static final int LITTLE_ENDIAN = 1;
+
+   // geometry type codes of the OGC specification
+   private static final int WKB_POINT = 1;
+   private static final int WKB_LINESTRING = 2;
+   private static final int WKB_POLYGON = 3;
+   private static final int WKB_TRIANGLE = 17;
+
+   // EWKB type flag telling that an SRID follows the type
+   private static final int EWKB_SRID_FLAG = 0x20000000;
+
+   private static final byte[] HEX_DIGITS = {
+      '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+   };
+
+   //***
+   // instance variables
+   //***
+
+   private WritableByteChannel theChannel;
+   private ByteBuffer theBuffer;
+   private boolean theExtendedFlag;
+   private int theSrid;
+   private boolean theHexFlag;
+
+   // the open geometry: its type and vertices, the vertices cut back to
+   // their initial room once a huge geometry is written
+   private int theType;
+   private CoordinateBuffer theVertices;
+
+   WkbWriter(WritableByteChannel aChannel, boolean anExtendedFlag, int aSrid, boolean aHexFlag)
+   {
+      theChannel = aChannel;
+      theBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      theExtendedFlag = anExtendedFlag;
+      theSrid = aSrid;
+      theHexFlag = aHexFlag;
+      theVertices = new CoordinateBuffer(INITIAL_VERTICES);
+   }
+
+   //***
+   // geometry structure
+   //***
+
+   public void beginPoint()
+   {
+      begin(WKB_POINT);
+   }
+
+   public void beginLineString()
+   {
+      begin(WKB_LINESTRING);
+   }
+
+   public void beginPolygon()
+   {
+      begin(WKB_POLYGON);
+   }
+
+   public void beginTriangle()
+   {
+      begin(WKB_TRIANGLE);
+   }
+
+   /*
+    * coordinate
+    *
+    * This method adds one vertex to the open geometry
+    */
+
+   public void coordinate(double x, double y)
+   {
+      theVertices.add(x, y);
+   }
+
+   /*
+    * endGeometry
+    *
+    * This method encodes the open geometry as one record
+    */
+
+   public void endGeometry() throws IOException
+   {
+      int vertexCount = theVertices.size();
+
+      // header
+      putByte(LITTLE_ENDIAN);
+      if (theExtendedFlag)
+      {
+         putInt(theType | EWKB_SRID_FLAG);
+         putInt(theSrid);
+      }
+      else
+         putInt(theType);
+
+      // body
+      if (theType == WKB_POINT)
+      {
+         // an empty point is written as NaN NaN
+         if (vertexCount == 0)
+         {
+            putDouble(Double.NaN);
+            putDouble(Double.NaN);
+         }
+         else
+            putCoordinates(1);
+      }
+      else if (theType == WKB_LINESTRING)
+      {
+         putInt(vertexCount);
+         putCoordinates(vertexCount);
+      }
+      else
+      {
+         boolean closed = vertexCount == 0
+            || (theVertices.x(0) == theVertices.x(vertexCount - 1)
+                && theVertices.y(0) == theVertices.y(vertexCount - 1));
+         if (vertexCount == 0)
+            putInt(0);
+         else
+         {
+            putInt(1);
+            putInt(closed ? vertexCount : vertexCount + 1);
+            putCoordinates(vertexCount);
+            if (!closed)
+            {
+               putDouble(theVertices.x(0));
+               putDouble(theVertices.y(0));
+            }
+         }
+      }
+
+      if (theHexFlag)
+      {
+         ensure(1);
+         theBuffer.put((byte)'\n');
+      }
+      theVertices.clear();
+   }
+
+   //***
+   // stream handling
+   //***
+
+   public void flush() throws IOException
+   {
+      drain();
+   }
+
+   public void close() throws IOException
+   {
+      if (theChannel == null)
+         return;
+      try
+      {
+         drain();
+      }
+      finally
+      {
+         theChannel.close();
+         theChannel = null;
+      }
+   }
+
+   // Starts a geometry of the given type
+   private void begin(int aType)
+   {
+      theType = aType;
+      theVertices.reset(MAX_KEPT_VERTICES);
+   }
+
+   // Writes the first aVertexCount collected vertices
+   private void putCoordinates(int aVertexCount) throws IOException
+   {
+      for (int i = 0; i < aVertexCount; i++)
+      {
+         putDouble(theVertices.x(i));
+         putDouble(theVertices.y(i));
+      }
+   }
+
+   private void putByte(int aValue) throws IOException
+   {
+      if (theHexFlag)
+         putHex(aValue);
+      else
+      {
+         ensure(1);
+         theBuffer.put((byte)aValue);
+      }
+   }
+
+   private void putInt(int aValue) throws IOException
+   {
+      if (theHexFlag)
+      {
+         for (int i = 0; i < 32; i += 8)
+            putHex(aValue >>> i);
+      }
+      else
+      {
+         ensure(4);
+         theBuffer.putInt(aValue);
+      }
+   }
+
+   private void putDouble(double aValue) throws IOException
+   {
+      if (theHexFlag)
+      {
+         long bits = Double.doubleToRawLongBits(aValue);
+         for (int i = 0; i < 64; i += 8)
+            putHex((int)(bits >>> i));
+      }
+      else
+      {
+         ensure(8);
+         theBuffer.putDouble(aValue);
+      }
+   }
+
+   // Writes the low byte of aValue as two hexadecimal digits
+   private void putHex(int aValue) throws IOException
+   {
+      ensure(2);
+      theBuffer.put(HEX_DIGITS[(aValue >>> 4) & 0xf]);
+      theBuffer.put(HEX_DIGITS[aValue & 0xf]);
+   }
+
+   // Makes room for aLength more bytes
+   private void ensure(int aLength) throws IOException
+   {
+      if (theBuffer.remaining() < aLength)
+         drain();
+   }
+
+   // Hands the buffered bytes to the channel
+   private void drain() throws IOException
+   {
+      theBuffer.flip();
+      while (theBuffer.hasRemaining())
+         theChannel.write(theBuffer);
+      theBuffer.clear();
+   }
+}
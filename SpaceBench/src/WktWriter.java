@@ -0,0 +1,202 @@
+/*
+ * WktWriter.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with writing geometries to a data file as
+ * well-known text (WKT)
+ */
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+public class WktWriter extends GeometryWriter {
+
+   /*
+    * WktWriter
+    *
+    * Geometries are written one at a time: begin the geometry, add its
+    * coordinates, then end it.  Tags and coordinates go straight into a
+    * reusable byte buffer, doubles through DoubleFormat, so writing a
+    * coordinate allocates nothing.  The buffer is handed to the underlying
+    * channel whenever it fills.
+    *
+    * Coordinates are written in shortest round-trip form, or rounded to a
+    * fixed number of decimal places when the scene asks for one.
+    */
+
+   //***
+   // class variables
+   //***
+
+   private static final int BUFFER_SIZE = 1 << 16;
+
+   // decimal places meaning shortest round-trip form
+   public static final int SHORTEST = -1;
+
+   // room needed for one coordinate pair and its separator
+   private static final int COORDINATE_ROOM = 2 * DoubleFormat.MAX_LENGTH + 3;
+
+   private static final byte[] POINT = ascii("POINT (");
+   private static final byte[] LINESTRING = ascii("LINESTRING (");
+   private static final byte[] POLYGON = ascii("POLYGON ((");
+   private static final byte[] TRIANGLE = ascii("TRIANGLE ((");
+   private static final byte[] CLOSE_ONE = ascii(")\n");
+   private static final byte[] CLOSE_TWO = ascii("))\n");
+
+   //***
+   // instance variables
+   //***
+
+   private WritableByteChannel theChannel;
+   private byte[] theBuffer;
+   private ByteBuffer theBufferView;
+   private int thePosition;
+   private int theDecimals;
+
+   // closing text of the open geometry, and whether it has a coordinate yet
+   private byte[] theClose;
+   private boolean theFirstCoordinate;
+
+   WktWriter(WritableByteChannel aChannel, int aDecimals)
+   {
+      theChannel = aChannel;
+      theBuffer = new byte[BUFFER_SIZE];
+      theBufferView = ByteBuffer.wrap(theBuffer);
+      thePosition = 0;
+      theDecimals = aDecimals;
+   }
+
+   //***
+   // geometry structure
+   //***
+
+   public void beginPoint() throws IOException
+   {
+      begin(POINT, CLOSE_ONE);
+   }
+
+   public void beginLineString() throws IOException
+   {
+      begin(LINESTRING, CLOSE_ONE);
+   }
+
+   public void beginPolygon() throws IOException
+   {
+      begin(POLYGON, CLOSE_TWO);
+   }
+
+   public void beginTriangle() throws IOException
+   {
+      begin(TRIANGLE, CLOSE_TWO);
+   }
+
+   /*
+    * coordinate
+    *
+    * This method adds one vertex to the open geometry
+    */
+
+   public void coordinate(double x, double y) throws IOException
+   {
+      if (thePosition + COORDINATE_ROOM > theBuffer.length)
+         drain();
+      byte[] buffer = theBuffer;
+      int pos = thePosition;
+      if (!theFirstCoordinate)
+      {
+         buffer[pos++] = ',';
+         buffer[pos++] = ' ';
+      }
+      if (theDecimals == SHORTEST)
+      {
+         pos = DoubleFormat.write(x, buffer, pos);
+         buffer[pos++] = ' ';
+         pos = DoubleFormat.write(y, buffer, pos);
+      }
+      else
+      {
+         pos = DoubleFormat.writeFixed(x, theDecimals, buffer, pos);
+         buffer[pos++] = ' ';
+         pos = DoubleFormat.writeFixed(y, theDecimals, buffer, pos);
+      }
+      thePosition = pos;
+      theFirstCoordinate = false;
+   }
+
+   /*
+    * endGeometry
+    *
+    * This method closes the open geometry and ends its line
+    */
+
+   public void endGeometry() throws IOException
+   {
+      append(theClose);
+      theClose = null;
+   }
+
+   //***
+   // stream handling
+   //***
+
+   public void flush() throws IOException
+   {
+      drain();
+   }
+
+   public void close() throws IOException
+   {
+      if (theChannel == null)
+         return;
+      try
+      {
+         drain();
+      }
+      finally
+      {
+         theChannel.close();
+         theChannel = null;
+      }
+   }
+
+   // Starts a geometry with the given tag
+   private void begin(byte[] aTag, byte[] aClose) throws IOException
+   {
+      append(aTag);
+      theClose = aClose;
+      theFirstCoordinate = true;
+   }
+
+   // Copies fixed text into the buffer
+   private void append(byte[] aText) throws IOException
+   {
+      if (thePosition + aText.length > theBuffer.length)
+         drain();
+      System.arraycopy(aText, 0, theBuffer, thePosition, aText.length);
+      thePosition += aText.length;
+   }
+
+   // Hands the buffered bytes to the channel
+   private void drain() throws IOException
+   {
+      if (thePosition > 0)
+      {
+         theBufferView.limit(thePosition);
+         theBufferView.position(0);
+         while (theBufferView.hasRemaining())
+            theChannel.write(theBufferView);
+         thePosition = 0;
+      }
+   }
+
+   private static byte[] ascii(String aText)
+   {
+      byte[] bytes = new byte[aText.length()];
+      for (int i = 0; i < bytes.length; i++)
+         bytes[i] = (byte)aText.charAt(i);
+      return bytes;
+   }
+}
@@ -0,0 +1,128 @@
+/*
+ * WktWriterBenchmark.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file compares WktWriter, in shortest and two decimal place form,
+ * against the string concatenation and PrintWriter output the generators
+ * used before it
+ *
+ * Usage: java WktWriterBenchmark [geometries]
+ */
+
+import java.io.*;
+import java.nio.channels.Channels;
+
+public class WktWriterBenchmark {
+
+   //***
+   // class variables
+   //***
+
+   private static final int DEFAULT_GEOMETRIES = 2000000;
+   private static final int POLYGON_VERTICES = 8;
+   private static final int FIXED_DECIMALS = 2;
+
+   // how each run writes its coordinates
+   private static final int PRINT_WRITER = 0;
+   private static final int SHORTEST = 1;
+   private static final int FIXED = 2;
+
+   /*
+    * CountingStream
+    *
+    * Discards its input and counts the bytes, so the disk is left out
+    * of the measurement
+    */
+
+   private static class CountingStream extends OutputStream
+   {
+      long theCount;
+
+      public void write(int b)
+      {
+         theCount++;
+      }
+
+      public void write(byte[] b, int off, int len)
+      {
+         theCount += len;
+      }
+   }
+
+   //***
+   // main entry point
+   //***
+
+   public static void main(String[] args) throws IOException
+   {
+      int geometries = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GEOMETRIES;
+
+      for (int pass = 0; pass < 2; pass++)
+      {
+         // the first pass only warms up the JIT
+         boolean report = (pass == 1);
+         run("POINT, PrintWriter", report, geometries, PRINT_WRITER, 1);
+         run("POINT, WktWriter", report, geometries, SHORTEST, 1);
+         run("POINT, WktWriter 2dp", report, geometries, FIXED, 1);
+         run("POLYGON, PrintWriter", report, geometries / POLYGON_VERTICES, PRINT_WRITER, POLYGON_VERTICES);
+         run("POLYGON, WktWriter", report, geometries / POLYGON_VERTICES, SHORTEST, POLYGON_VERTICES);
+         run("POLYGON, WktWriter 2dp", report, geometries / POLYGON_VERTICES, FIXED, POLYGON_VERTICES);
+      }
+   }
+
+   // Writes aCount geometries of aVertexCount vertices and reports MB/s
+   private static void run(String aName, boolean aReport, int aCount, int aMode, int aVertexCount)
+      throws IOException
+   {
+      CountingStream sink = new CountingStream();
+      RandomSource random = RandomEngine.SPLITMIX64.create(1);
+      long start = System.nanoTime();
+
+      if (aMode != PRINT_WRITER)
+      {
+         WktWriter out = new WktWriter(Channels.newChannel(sink), aMode == FIXED ? FIXED_DECIMALS : WktWriter.SHORTEST);
+         for (int i = 0; i < aCount; i++)
+         {
+            if (aVertexCount == 1)
+               out.beginPoint();
+            else
+               out.beginPolygon();
+            for (int v = 0; v < aVertexCount; v++)
+               out.coordinate(random.nextDouble() * 1000 + 1, random.nextDouble() * 1000 + 1);
+            out.endGeometry();
+         }
+         out.close();
+      }
+      else
+      {
+         PrintWriter out = new PrintWriter(new OutputStreamWriter(sink));
+         for (int i = 0; i < aCount; i++)
+         {
+            double x = random.nextDouble() * 1000 + 1;
+            double y = random.nextDouble() * 1000 + 1;
+            if (aVertexCount == 1)
+               out.println("POINT (" + x + " " + y + ")");
+            else
+            {
+               out.print("POLYGON ((");
+               out.print(x + " " + y);
+               for (int v = 1; v < aVertexCount; v++)
+               {
+                  x = random.nextDouble() * 1000 + 1;
+                  y = random.nextDouble() * 1000 + 1;
+                  out.print(", " + x + " " + y);
+               }
+               out.println("))");
+            }
+         }
+         out.close();
+      }
+
+      double seconds = (System.nanoTime() - start) / 1e9;
+      if (aReport)
+         System.out.printf("  %-24s %8.1f MB/s, %5.1f Mgeometries/s%n", aName,
+                           sink.theCount / seconds / 1e6, aCount / seconds / 1e6);
+   }
+}
@@ -0,0 +1,82 @@
+/*
+ * Xoshiro256PlusPlusSource.java
+ *
+ * Authors: Jacob Gollert, Anton Medvedev, Gregory Lucas Moody, Hamad Altammami
+ * Version Date: 10/17/2026
+ *
+ * This file has to do with drawing random numbers with the xoshiro256++ algorithm
+ */
+
+public class Xoshiro256PlusPlusSource implements RandomSource {
+
+   /*
+    * Xoshiro256PlusPlusSource
+    *
+    * xoshiro256++ (Blackman and Vigna) keeps 256 bits of state and needs
+    * only shifts, rotates, xors and adds per call.  The state is filled
+    * from the seed with SplitMix64 as its authors recommend.
+    */
+
+   private long theS0, theS1, theS2, theS3;
+
+   Xoshiro256PlusPlusSource(long aSeed)
+   {
+      SplitMix64Source seeder = new SplitMix64Source(aSeed);
+      theS0 = seeder.nextLong();
+      theS1 = seeder.nextLong();
+      theS2 = seeder.nextLong();
+      theS3 = seeder.nextLong();
+   }
+
+   private Xoshiro256PlusPlusSource(Xoshiro256PlusPlusSource aSource)
+   {
+      theS0 = aSource.theS0;
+      theS1 = aSource.theS1;
+      theS2 = aSource.theS2;
+      theS3 = aSource.theS3;
+   }
+
+   public long nextLong()
+   {
+      long result = Long.rotateLeft(theS0 + theS3, 23) + theS0;
+      long t = theS1 << 17;
+
+      theS2 ^= theS0;
+      theS3 ^= theS1;
+      theS1 ^= theS2;
+      theS0 ^= theS3;
+      theS2 ^= t;
+      theS3 = Long.rotateLeft(theS3, 45);
+
+      return result;
+   }
+
+   // nextLong with the state held in locals for the whole block
+   public void nextDoubles(double[] anArray, int anOffset, int aLength)
+   {
+      long s0 = theS0, s1 = theS1, s2 = theS2, s3 = theS3;
+      for (int i = anOffset; i < anOffset + aLength; i++)
+      {
+         long result = Long.rotateLeft(s0 + s3, 23) + s0;
+         long t = s1 << 17;
+
+         s2 ^= s0;
+         s3 ^= s1;
+         s1 ^= s2;
+         s0 ^= s3;
+         s2 ^= t;
+         s3 = Long.rotateLeft(s3, 45);
+
+         anArray[i] = (result >>> 11) * 0x1.0p-53;
+      }
+      theS0 = s0;
+      theS1 = s1;
+      theS2 = s2;
+      theS3 = s3;
+   }
+
+   public RandomSource copy()
+   {
+      return new Xoshiro256PlusPlusSource(this);
+   }
+}